@@ -0,0 +1,90 @@
+// k6 load test for the developer endpoints.
+//
+// Compare platform threads vs virtual threads (Java 21 runtime required for the latter):
+//   ./gradlew bootJar
+//   java -jar build/libs/dmaker-0.0.1-SNAPSHOT.jar                               # platform threads
+//   DMAKER_VIRTUAL_THREADS=true java -jar build/libs/dmaker-0.0.1-SNAPSHOT.jar  # virtual threads
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=2000 loadtest/developers.js
+//
+// Compare Spring MVC + JPA vs WebFlux + R2DBC on the same endpoints (rate limiting is servlet-only, so turn it off):
+//   DMAKER_RATE_LIMIT_ENABLED=false java -jar build/libs/dmaker-0.0.1-SNAPSHOT.jar                                  # servlet
+//   DMAKER_RATE_LIMIT_ENABLED=false java -jar build/libs/dmaker-0.0.1-SNAPSHOT.jar --spring.profiles.active=reactive # reactive
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=5000 loadtest/developers.js
+//
+// Compare http_reqs (throughput) and the p(95)/p(99) of http_req_duration per endpoint tag.
+//
+// Servlet vs reactive results: not measured yet. The comparison is still open; record the numbers
+// (hardware, VUS, http_reqs, p95/p99 per endpoint) here once a run has been done on a dedicated host.
+import http from 'k6/http';
+import { check } from 'k6';
+import exec from 'k6/execution';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '500');
+const SEED = parseInt(__ENV.SEED || '1000');
+
+export const options = {
+    scenarios: {
+        mixed: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: __ENV.DURATION || '60s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        'http_req_duration{endpoint:detail}': ['p(99)<500'],
+    },
+};
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+function developer(memberId) {
+    return JSON.stringify({
+        developerLevel: 'JUNIOR',
+        developerSkillType: 'BACK_END',
+        experienceYears: 2,
+        memberId: memberId,
+        name: 'loadtest',
+        age: 30,
+    });
+}
+
+// POST /developers/batch is servlet-only, so seed with parallel single creates (works on both stacks)
+export function setup() {
+    for (let start = 0; start < SEED; start += 100) {
+        const requests = [];
+        for (let i = start; i < Math.min(start + 100, SEED); i++) {
+            requests.push(['POST', `${BASE_URL}/developers`, developer(`seed-${i}`), JSON_HEADERS]);
+        }
+        http.batch(requests);
+    }
+}
+
+export default function () {
+    const roll = Math.random();
+    const iteration = exec.scenario.iterationInTest;
+
+    if (roll < 0.6) {
+        const memberId = `seed-${iteration % SEED}`;
+        const res = http.get(`${BASE_URL}/developers/${memberId}`, { tags: { endpoint: 'detail' } });
+        check(res, { 'detail 200': (r) => r.status === 200 });
+    } else if (roll < 0.78) {
+        const res = http.get(`${BASE_URL}/developers?size=100`, { tags: { endpoint: 'list' } });
+        check(res, { 'list 200': (r) => r.status === 200 });
+    } else if (roll < 0.8) {
+        const res = http.get(`${BASE_URL}/developers`,
+            { headers: { Accept: 'application/x-ndjson' }, tags: { endpoint: 'stream' } });
+        check(res, { 'stream 200': (r) => r.status === 200 });
+    } else if (roll < 0.95) {
+        const memberId = `lt-${exec.vu.idInTest}-${iteration}`;
+        const res = http.post(`${BASE_URL}/developers`, developer(memberId),
+            Object.assign({ tags: { endpoint: 'create' } }, JSON_HEADERS));
+        check(res, { 'create 200': (r) => r.status === 200 });
+    } else {
+        const memberId = `lt-${exec.vu.idInTest}-${iteration}`;
+        http.post(`${BASE_URL}/developers`, developer(memberId), JSON_HEADERS);
+        const res = http.del(`${BASE_URL}/developers/${memberId}`, null, { tags: { endpoint: 'delete' } });
+        check(res, { 'delete 200': (r) => r.status === 200 });
+    }
+}
@@ -0,0 +1,118 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import com.fastcampus.programming.dmaker.DmakerApplication;
+import com.fastcampus.programming.dmaker.config.CacheConfig;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.programming.dmaker.service.DMakerService;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * embedded H2 datasource 위에서 DMakerService 의 주요 경로를 측정.
+ * employedCount 만큼 EMPLOYED 개발자를 미리 적재한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DMakerServiceBenchmark {
+
+    private static final String DETAIL_MEMBER_ID = "seed-0";
+
+    @Param({"100", "10000"})
+    public int employedCount;
+
+    private ConfigurableApplicationContext context;
+    private DMakerService dMakerService;
+    private Cache developerDetailCache;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DmakerApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.main.banner-mode=off", "--logging.level.root=WARN");
+        dMakerService = context.getBean(DMakerService.class);
+        developerDetailCache = context.getBean(CacheManager.class).getCache(CacheConfig.DEVELOPER_DETAIL);
+
+        for (int i = 0; i < employedCount; i++) {
+            dMakerService.createDeveloper(request("seed-" + i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CreateDeveloper.Response createDeveloper() {
+        return dMakerService.createDeveloper(request("bench-" + sequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public DeveloperDetailDto getDeveloperDetailCached() {
+        return dMakerService.getDeveloperDetail(DETAIL_MEMBER_ID);
+    }
+
+    @Benchmark
+    public DeveloperDetailDto getDeveloperDetailUncached() {
+        developerDetailCache.evict(DETAIL_MEMBER_ID);
+        return dMakerService.getDeveloperDetail(DETAIL_MEMBER_ID);
+    }
+
+    @Benchmark
+    public int listAllEmployedDevelopers() {
+        // 전체 EMPLOYED 목록을 최대 page size 로 순회
+        int count = 0;
+        Long cursor = null;
+        do {
+            DeveloperPageDto page = dMakerService.getAllEmployedDevelopers(cursor, 1000);
+            count += page.getDevelopers().size();
+            cursor = page.getNext();
+        } while (cursor != null);
+        return count;
+    }
+
+    @Benchmark
+    public DeveloperDetailDto retireDeveloper(RetireTarget target) {
+        return dMakerService.deleteDeveloper(target.memberId);
+    }
+
+    @State(Scope.Thread)
+    public static class RetireTarget {
+        private String memberId;
+
+        // 매 호출마다 퇴직시킬 개발자를 새로 생성 (측정 시간에는 포함되지 않음)
+        @Setup(Level.Invocation)
+        public void create(DMakerServiceBenchmark benchmark) {
+            memberId = "retire-" + benchmark.sequence.incrementAndGet();
+            benchmark.dMakerService.createDeveloper(benchmark.request(memberId));
+        }
+    }
+
+    private CreateDeveloper.Request request(String memberId) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.JUNIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(2)
+                .memberId(memberId)
+                .name("benchmark")
+                .age(30)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.service.DeveloperLevelPolicy;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 없이 DTO 매핑과 레벨/연차 검증만 측정.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeveloperMappingBenchmark {
+
+    private Developer developer;
+    private DeveloperLevelPolicy developerLevelPolicy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        developer = Developer.builder()
+                .id(1L)
+                .developerLevel(DeveloperLevel.JUNGIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(7)
+                .memberId("benchmark-member")
+                .name("benchmark")
+                .age(30)
+                .statusCode(StatusCode.EMPLOYED)
+                .build();
+        developerLevelPolicy = new DeveloperLevelPolicy(new ClassPathResource("developer-level-rules.properties"));
+    }
+
+    @Benchmark
+    public DeveloperDto developerDtoFromEntity() {
+        return DeveloperDto.fromEntity(developer);
+    }
+
+    @Benchmark
+    public DeveloperDetailDto developerDetailDtoFromEntity() {
+        return DeveloperDetailDto.fromEntity(developer);
+    }
+
+    @Benchmark
+    public CreateDeveloper.Response createResponseFromEntity() {
+        return CreateDeveloper.Response.fromEntity(developer);
+    }
+
+    // validate 는 반환값이 없어 JIT 가 호출을 제거할 수 있으므로 같은 판정을 하는 isAllowed 결과를 반환
+    @Benchmark
+    public boolean validateDeveloperLevel() {
+        return developerLevelPolicy.isAllowed(developer.getDeveloperLevel(), developer.getExperienceYears());
+    }
+}
@@ -0,0 +1,113 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.config.CborConfig;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * application/json 과 application/cbor (enum ordinal) 의 직렬화 / 역직렬화 비용 비교.
+ * 목록 한 페이지 (기본 100 건), 상세 한 건, 생성 요청 한 건. payload 크기는 setUp 에서 출력.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"json", "cbor"})
+    private String format;
+
+    @Param({"100"})
+    private int pageSize;
+
+    private ObjectWriter pageWriter;
+    private ObjectReader pageReader;
+    private ObjectWriter detailWriter;
+    private ObjectReader createRequestReader;
+
+    private DeveloperPageDto page;
+    private DeveloperDetailDto detail;
+    private byte[] pageBytes;
+    private byte[] createRequestBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = "cbor".equals(format)
+                ? CborConfig.cborMapper(Jackson2ObjectMapperBuilder.json())
+                : Jackson2ObjectMapperBuilder.json().build();
+        pageWriter = objectMapper.writerFor(DeveloperPageDto.class);
+        pageReader = objectMapper.readerFor(DeveloperPageDto.class);
+        detailWriter = objectMapper.writerFor(DeveloperDetailDto.class);
+        createRequestReader = objectMapper.readerFor(CreateDeveloper.Request.class);
+
+        page = DeveloperPageDto.builder()
+                .developers(IntStream.range(0, pageSize)
+                        .mapToObj(i -> DeveloperDto.builder()
+                                .id((long) i)
+                                .developerLevel(DeveloperLevel.values()[i % DeveloperLevel.values().length])
+                                .developerSkillType(DeveloperSkillType.values()[i % DeveloperSkillType.values().length])
+                                .memberId("benchmark-member-" + i)
+                                .build())
+                        .toList())
+                .next((long) pageSize)
+                .build();
+        detail = DeveloperDetailDto.builder()
+                .developerLevel(DeveloperLevel.JUNGIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(7)
+                .memberId("benchmark-member")
+                .statusCode(StatusCode.EMPLOYED)
+                .name("benchmark")
+                .age(30)
+                .version(1L)
+                .build();
+        pageBytes = pageWriter.writeValueAsBytes(page);
+        createRequestBytes = objectMapper.writeValueAsBytes(CreateDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.JUNGIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(7)
+                .memberId("benchmark-member")
+                .name("benchmark")
+                .age(30)
+                .build());
+
+        System.out.printf("%n%s: page(%d) %d bytes, detail %d bytes, create request %d bytes%n",
+                format, pageSize, pageBytes.length, detailWriter.writeValueAsBytes(detail).length,
+                createRequestBytes.length);
+    }
+
+    @Benchmark
+    public byte[] writePage() throws Exception {
+        return pageWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public DeveloperPageDto readPage() throws Exception {
+        return pageReader.readValue(pageBytes);
+    }
+
+    @Benchmark
+    public byte[] writeDetail() throws Exception {
+        return detailWriter.writeValueAsBytes(detail);
+    }
+
+    @Benchmark
+    public CreateDeveloper.Request readCreateRequest() throws Exception {
+        return createRequestReader.readValue(createRequestBytes);
+    }
+}
@@ -0,0 +1,9 @@
+package com.fastcampus.programming.dmaker.cache;
+
+import java.util.Set;
+
+/**
+ * 인스턴스 사이에 보내는 캐시 무효화 메시지. origin 은 보낸 인스턴스이고 자기 메시지는 받는 쪽에서 무시한다.
+ */
+public record CacheInvalidation(String origin, Set<String> memberIds) {
+}
@@ -0,0 +1,14 @@
+package com.fastcampus.programming.dmaker.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 사이 캐시 무효화 pub/sub.
+ * publish 는 변경이 commit 된 뒤에 호출되고, 구독자는 자기 인스턴스의 캐시를 비운다.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> subscriber);
+}
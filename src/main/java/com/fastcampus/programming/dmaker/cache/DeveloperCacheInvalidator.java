@@ -0,0 +1,134 @@
+package com.fastcampus.programming.dmaker.cache;
+
+import com.fastcampus.programming.dmaker.config.CacheConfig;
+import com.fastcampus.programming.dmaker.config.HibernateCacheConfig;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Developer 변경을 다른 인스턴스의 캐시에 알린다.
+ * 2차 캐시와 상세 캐시는 자기 인스턴스의 변경만 반영하므로, commit 된 변경의 memberId 를 bus 로 보내고
+ * 받은 쪽은 상세 캐시와 2차 캐시에서 해당 memberId 의 Developer 만 비우고, 목록 query 영역은
+ * (결과가 id 별로 나뉘지 않으므로) 통째로 비운다. 영역 전체를 비우면 쓰기가 있을 때마다 모든 인스턴스의 hit 가 0 이 된다.
+ * memberId -> id 매핑 (natural id) 과 RetiredDeveloper 는 insert 이후 바뀌지 않으므로 비우지 않는다.
+ * 캐시가 아닌 인스턴스 로컬 복제본 (DeveloperIndex) 은 onRemoteChange 로 받은 memberId 를 다시 읽는다.
+ */
+public class DeveloperCacheInvalidator {
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final EntityManagerFactory entityManagerFactory;
+    private final org.hibernate.Cache secondLevelCache;
+    private final CacheManager cacheManager;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final List<Consumer<Set<String>>> localChangeListeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<Set<String>>> remoteChangeListeners = new CopyOnWriteArrayList<>();
+
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+
+    public DeveloperCacheInvalidator(
+            EntityManagerFactory entityManagerFactory,
+            CacheManager cacheManager,
+            CacheInvalidationBus cacheInvalidationBus,
+            MeterRegistry meterRegistry
+    ) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.cacheManager = cacheManager;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+
+        this.publishedCounter = Counter.builder("dmaker.cache.invalidations")
+                .description("cache invalidations sent to / received from other instances")
+                .tag("direction", "published")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("dmaker.cache.invalidations")
+                .description("cache invalidations sent to / received from other instances")
+                .tag("direction", "received")
+                .register(meterRegistry);
+
+        cacheInvalidationBus.subscribe(this::evict);
+    }
+
+    /**
+     * 트랜잭션 안이면 commit 된 뒤에, 밖이면 바로 보낸다. rollback 된 변경은 보내지 않는다.
+     */
+    public void invalidateAfterCommit(Collection<String> memberIds) {
+        Set<String> changed = Set.copyOf(memberIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(changed);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(changed);
+            }
+        });
+    }
+
+    /**
+     * 이 인스턴스에서 commit 된 변경의 memberId 를 다른 인스턴스로 보낼 때 받는다.
+     */
+    public void onLocalChange(Consumer<Set<String>> listener) {
+        localChangeListeners.add(listener);
+    }
+
+    /**
+     * 다른 인스턴스에서 commit 된 변경의 memberId 를 캐시를 비운 뒤에 받는다.
+     */
+    public void onRemoteChange(Consumer<Set<String>> listener) {
+        remoteChangeListeners.add(listener);
+    }
+
+    private void publish(Set<String> memberIds) {
+        localChangeListeners.forEach(listener -> listener.accept(memberIds));
+        cacheInvalidationBus.publish(new CacheInvalidation(instanceId, memberIds));
+        publishedCounter.increment();
+    }
+
+    void evict(CacheInvalidation invalidation) {
+        if (instanceId.equals(invalidation.origin())) {
+            return;
+        }
+        Cache developerDetailCache = cacheManager.getCache(CacheConfig.DEVELOPER_DETAIL);
+        if (developerDetailCache != null) {
+            // evict 는 트랜잭션 안에서 받으면 (local bus 는 보낸 쪽 afterCommit 에서 전달) commit 까지 미뤄지므로 evictIfPresent
+            invalidation.memberIds().forEach(developerDetailCache::evictIfPresent);
+        }
+        developerIds(invalidation.memberIds()).forEach(id -> secondLevelCache.evictEntityData(Developer.class, id));
+        secondLevelCache.evictQueryRegion(HibernateCacheConfig.DEVELOPER_LIST_REGION);
+        remoteChangeListeners.forEach(listener -> listener.accept(invalidation.memberIds()));
+        receivedCounter.increment();
+    }
+
+    // memberId -> id 는 바뀌지 않으므로 트랜잭션 없이 (primary 에서) 읽음
+    private List<Long> developerIds(Set<String> memberIds) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery(
+                            "select d.id from Developer d where d.memberId in :memberIds", Long.class)
+                    .setParameter("memberIds", memberIds)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.fastcampus.programming.dmaker.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hibernate 2차 캐시 region 별 hit / miss 와 hit ratio.
+ * dmaker.cache.l2.requests{region, result=hit|miss}, dmaker.cache.l2.hit.ratio{region} (조회 전이거나 꺼진 region 은 NaN)
+ */
+public class HibernateCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+    private final List<String> domainRegions;
+    private final List<String> queryRegions;
+
+    public HibernateCacheMetrics(
+            EntityManagerFactory entityManagerFactory,
+            List<String> domainRegions,
+            List<String> queryRegions
+    ) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // hibernate.generate_statistics 는 session 마다 INFO 로그를 남기므로 통계 수집만 켬
+        this.statistics.setStatisticsEnabled(true);
+        this.domainRegions = domainRegions;
+        this.queryRegions = queryRegions;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : domainRegions) {
+            bind(registry, region, () -> statistics.getCacheRegionStatistics(region));
+        }
+        for (String region : queryRegions) {
+            bind(registry, region, () -> statistics.getQueryRegionStatistics(region));
+        }
+    }
+
+    private static void bind(MeterRegistry registry, String region, Supplier<CacheRegionStatistics> regionStatistics) {
+        FunctionCounter.builder("dmaker.cache.l2.requests", regionStatistics,
+                        stats -> count(stats.get(), CacheRegionStatistics::getHitCount))
+                .tag("region", region)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("dmaker.cache.l2.requests", regionStatistics,
+                        stats -> count(stats.get(), CacheRegionStatistics::getMissCount))
+                .tag("region", region)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("dmaker.cache.l2.hit.ratio", regionStatistics, stats -> hitRatio(stats.get()))
+                .tag("region", region)
+                .register(registry);
+    }
+
+    private static double count(CacheRegionStatistics stats, ToLongFunction<CacheRegionStatistics> counter) {
+        return stats == null ? 0 : counter.applyAsLong(stats);
+    }
+
+    private static double hitRatio(CacheRegionStatistics stats) {
+        if (stats == null) {
+            return Double.NaN;
+        }
+        long requests = stats.getHitCount() + stats.getMissCount();
+        return requests == 0 ? Double.NaN : (double) stats.getHitCount() / requests;
+    }
+}
@@ -0,0 +1,34 @@
+package com.fastcampus.programming.dmaker.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 의 구독자에게 publish 한 스레드에서 바로 전달한다.
+ * 단일 인스턴스 배포와, 여러 인스턴스를 bus 하나에 붙여 보는 테스트용.
+ */
+@Slf4j
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final List<Consumer<CacheInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> subscriber : subscribers) {
+            try {
+                subscriber.accept(invalidation);
+            } catch (RuntimeException e) {
+                // 한 구독자의 실패가 다른 구독자나 이미 commit 된 요청으로 번지지 않도록
+                log.warn("cache invalidation failed, origin: {}", invalidation.origin(), e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
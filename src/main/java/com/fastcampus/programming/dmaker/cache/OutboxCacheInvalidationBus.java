@@ -0,0 +1,82 @@
+package com.fastcampus.programming.dmaker.cache;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperEventDto;
+import com.fastcampus.programming.dmaker.repository.DeveloperEventRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 인스턴스용 transport. 변경과 같은 트랜잭션에 쌓인 outbox 이벤트가 곧 무효화 메시지이므로 따로 보내지 않고,
+ * 인스턴스마다 relay 가 publish 한 이벤트를 sequence 순으로 polling 해서 구독자에게 전달한다.
+ * 무효화는 relay 주기 + poll 주기만큼 늦을 수 있고, 자기 인스턴스의 변경도 다시 받는다 (evict 라서 중복은 무해).
+ */
+public class OutboxCacheInvalidationBus implements CacheInvalidationBus, SmartInitializingSingleton {
+
+    static final String ORIGIN = "outbox";
+    private static final int BATCH_SIZE = 1000;
+
+    private final DeveloperEventRepository developerEventRepository;
+    private final DeveloperShards developerShards;
+    private final List<Consumer<CacheInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+
+    private volatile long lastSequenceNo;
+
+    public OutboxCacheInvalidationBus(DeveloperEventRepository developerEventRepository, DeveloperShards developerShards) {
+        this.developerEventRepository = developerEventRepository;
+        this.developerShards = developerShards;
+    }
+
+    // 요청을 받기 전의 변경은 캐시에 들어 있을 수 없으므로 현재 마지막 번호 이후부터 받음
+    @Override
+    public void afterSingletonsInstantiated() {
+        lastSequenceNo = developerShards.scatter(shard -> developerEventRepository.findLastSequenceNo())
+                .stream()
+                .mapToLong(Long::longValue)
+                .max()
+                .orElse(0L);
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        // outbox 이벤트가 이미 같은 트랜잭션에 commit 되어 있음
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Scheduled(fixedDelayString = "${dmaker.cache.invalidation.poll-delay-ms}")
+    public void poll() {
+        List<DeveloperEventDto> events;
+        do {
+            long since = lastSequenceNo;
+            events = developerShards.scatter(shard ->
+                            developerEventRepository.findPublishedAfter(since, PageRequest.ofSize(BATCH_SIZE)))
+                    .stream()
+                    .flatMap(List::stream)
+                    .sorted(Comparator.comparing(DeveloperEventDto::getSequence))
+                    .limit(BATCH_SIZE)
+                    .toList();
+            if (events.isEmpty()) {
+                return;
+            }
+            Set<String> memberIds = events.stream()
+                    .map(DeveloperEventDto::getMemberId)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            CacheInvalidation invalidation = new CacheInvalidation(ORIGIN, memberIds);
+            subscribers.forEach(subscriber -> subscriber.accept(invalidation));
+            lastSequenceNo = events.get(events.size() - 1).getSequence();
+        } while (events.size() == BATCH_SIZE);
+    }
+}
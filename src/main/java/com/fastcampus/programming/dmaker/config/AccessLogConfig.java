@@ -0,0 +1,22 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.logging.AccessLogFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AccessLogConfig {
+
+    // Filter 타입 bean 은 Spring Boot 가 servlet filter 로 자동 등록, 종료 시 writer 스레드 정리
+    @Bean
+    public AccessLogFilter accessLogFilter(
+            @Value("${dmaker.access-log.buffer-size}") int bufferSize,
+            @Value("${dmaker.access-log.sample-rate}") double sampleRate,
+            @Value("${dmaker.access-log.load-sample-rate}") double loadSampleRate,
+            MeterRegistry meterRegistry
+    ){
+        return new AccessLogFilter(bufferSize, sampleRate, loadSampleRate, meterRegistry);
+    }
+}
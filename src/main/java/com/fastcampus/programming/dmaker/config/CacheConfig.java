@@ -0,0 +1,36 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String DEVELOPER_DETAIL = "developerDetail";
+
+    // hit/miss/eviction 통계는 recordStats 로 수집되어 /actuator/metrics/cache.* 로 노출
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${dmaker.cache.developer-detail.maximum-size}") long maximumSize,
+            @Value("${dmaker.cache.developer-detail.ttl}") Duration ttl
+    ){
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(DEVELOPER_DETAIL);
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats());
+
+        // put/evict 를 트랜잭션 commit 이후로 미뤄서 rollback 된 값이 캐시에 남지 않도록 함
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,79 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Accept / Content-Type 이 application/cbor 면 JSON 대신 CBOR (RFC 8949) 로 주고받는다.
+ * 스키마는 JSON 과 같은 DTO (@JsonIgnore 등 그대로) 이고, enum 은 이름 대신 ordinal 정수로 쓴다.
+ * 따라서 DeveloperLevel / DeveloperSkillType / StatusCode / DMakerErrorCode 의 선언 순서가 wire 계약이며
+ * 새 값은 끝에만 추가한다 (CborConfigTest 가 순서를 고정). 요청의 enum 은 ordinal 과 이름 모두 받는다.
+ * Accept 가 없거나 모든 타입을 받으면 지금처럼 JSON.
+ */
+@Configuration
+public class CborConfig {
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public WebMvcConfigurer cborMessageConverter(Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder) {
+        MappingJackson2CborHttpMessageConverter cborConverter =
+                new MappingJackson2CborHttpMessageConverter(cborMapper(jackson2ObjectMapperBuilder));
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                // classpath 에 CBOR 가 있으면 기본 설정 (enum 이름) 의 converter 가 등록되므로 교체, JSON 바로 뒤에 둠
+                converters.removeIf(MappingJackson2CborHttpMessageConverter.class::isInstance);
+                int json = 0;
+                for (int i = 0; i < converters.size(); i++) {
+                    if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                        json = i + 1;
+                        break;
+                    }
+                }
+                converters.add(json, cborConverter);
+            }
+        };
+    }
+
+    // custom codec 은 기본 JSON codec 보다 앞에 오므로 같은 ObjectMapper 의 JSON codec 을 먼저 등록해서 JSON 을 기본으로 유지
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public CodecCustomizer cborCodecCustomizer(
+            ObjectMapper objectMapper,
+            Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder
+    ) {
+        ObjectMapper cborMapper = cborMapper(jackson2ObjectMapperBuilder);
+        return configurer -> {
+            configurer.customCodecs().registerWithDefaultConfig(new Jackson2JsonEncoder(objectMapper));
+            configurer.customCodecs().registerWithDefaultConfig(new Jackson2JsonDecoder(objectMapper));
+            configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborEncoder(cborMapper));
+            configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborDecoder(cborMapper));
+        };
+    }
+
+    /**
+     * spring.jackson.* 설정과 module 은 JSON 과 같고 enum 만 ordinal 로 쓰는 CBOR mapper.
+     */
+    public static ObjectMapper cborMapper(Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder) {
+        return jackson2ObjectMapperBuilder
+                .factory(new CBORFactory())
+                .featuresToEnable(SerializationFeature.WRITE_ENUMS_USING_INDEX)
+                .build();
+    }
+}
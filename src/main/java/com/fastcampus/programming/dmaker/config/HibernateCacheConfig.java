@@ -0,0 +1,143 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.cache.*;
+import com.fastcampus.programming.dmaker.repository.DeveloperEventRepository;
+import com.fastcampus.programming.dmaker.service.DeveloperChangeFeed;
+import com.fastcampus.programming.dmaker.service.DeveloperIndex;
+import com.fastcampus.programming.dmaker.service.DeveloperListVersion;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시 (Caffeine JCache).
+ * Developer / RetiredDeveloper 엔티티와 memberId natural id, 재직자 목록 query 결과를 인스턴스 로컬에 둔다.
+ * 다른 인스턴스의 변경은 dmaker.cache.invalidation.transport 로 받아서 비운다 (DeveloperCacheInvalidator).
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String DEVELOPER_REGION = "developer";
+    public static final String DEVELOPER_NATURAL_ID_REGION = "developer-natural-id";
+    public static final String RETIRED_DEVELOPER_REGION = "retired-developer";
+    public static final String RETIRED_DEVELOPER_NATURAL_ID_REGION = "retired-developer-natural-id";
+    public static final String DEVELOPER_LIST_REGION = "developer-list";
+
+    private static final List<String> DOMAIN_REGIONS = List.of(
+            DEVELOPER_REGION, DEVELOPER_NATURAL_ID_REGION, RETIRED_DEVELOPER_REGION, RETIRED_DEVELOPER_NATURAL_ID_REGION);
+    private static final List<String> QUERY_REGIONS = List.of(
+            DEVELOPER_LIST_REGION, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${dmaker.cache.second-level.maximum-size}") long maximumSize,
+            @Value("${dmaker.cache.second-level.ttl}") Duration ttl,
+            @Value("${dmaker.cache.second-level.query-ttl}") Duration queryTtl
+    ) {
+        // 테스트에서는 context 여러 개가 한 JVM 에 뜨므로 context 마다 따로 만듦
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("dmaker-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String region : DOMAIN_REGIONS) {
+            cacheManager.createCache(region, regionConfiguration(OptionalLong.of(maximumSize), ttl));
+        }
+        for (String region : QUERY_REGIONS) {
+            cacheManager.createCache(region, regionConfiguration(OptionalLong.of(maximumSize), queryTtl));
+        }
+        // 테이블별 마지막 변경 시각: 빠지면 오래된 query 결과가 유효해 보이므로 크기 제한/만료 없음
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                regionConfiguration(OptionalLong.empty(), null));
+        return cacheManager;
+    }
+
+    // 캐시 key 에는 어느 DataSource 에서 읽었는지가 없어서 sharding 이면 shard 끼리 항목이 섞임
+    // (RetiredDeveloper 의 IDENTITY id 는 shard 마다 1 부터 시작해 겹침) -> sharding 이면 2차 캐시 전체를 끔.
+    // replica 면 지연된 replica 결과가 무효화 이후에 query cache 에 들어가 read-your-writes 를 깨므로 query cache 만 끔
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(
+            CacheManager hibernateCacheManager,
+            @Value("${dmaker.sharding.enabled:false}") boolean sharding,
+            @Value("${dmaker.replica.enabled:false}") boolean replica
+    ) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, !sharding);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, !sharding && !replica);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "dmaker.cache.invalidation.transport", havingValue = "local", matchIfMissing = true)
+    public CacheInvalidationBus localCacheInvalidationBus() {
+        return new LocalCacheInvalidationBus();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "dmaker.cache.invalidation.transport", havingValue = "outbox")
+    public CacheInvalidationBus outboxCacheInvalidationBus(
+            DeveloperEventRepository developerEventRepository,
+            DeveloperShards developerShards
+    ) {
+        return new OutboxCacheInvalidationBus(developerEventRepository, developerShards);
+    }
+
+    // 다른 인스턴스의 변경은 캐시를 비운 뒤 DeveloperIndex 에도 다시 읽어 반영하고,
+    // 목록 ETag 버전은 어느 인스턴스의 변경이든 다음 요청에서 다시 계산,
+    // change feed 대기자는 다른 인스턴스의 relay 가 publish 한 이벤트로도 깨움
+    @Bean
+    public DeveloperCacheInvalidator developerCacheInvalidator(
+            EntityManagerFactory entityManagerFactory,
+            org.springframework.cache.CacheManager cacheManager,
+            CacheInvalidationBus cacheInvalidationBus,
+            MeterRegistry meterRegistry,
+            ObjectProvider<DeveloperIndex> developerIndex,
+            ObjectProvider<DeveloperListVersion> developerListVersion,
+            ObjectProvider<DeveloperChangeFeed> developerChangeFeed
+    ) {
+        DeveloperCacheInvalidator invalidator =
+                new DeveloperCacheInvalidator(entityManagerFactory, cacheManager, cacheInvalidationBus, meterRegistry);
+        developerIndex.ifAvailable(index -> invalidator.onRemoteChange(index::refresh));
+        developerListVersion.ifAvailable(listVersion -> {
+            invalidator.onLocalChange(listVersion::changed);
+            invalidator.onRemoteChange(listVersion::changed);
+        });
+        developerChangeFeed.ifAvailable(changeFeed -> invalidator.onRemoteChange(changeFeed::changedElsewhere));
+        return invalidator;
+    }
+
+    @Bean
+    public HibernateCacheMetrics hibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateCacheMetrics(entityManagerFactory, DOMAIN_REGIONS, QUERY_REGIONS);
+    }
+
+    // Hibernate 가 넣는 항목은 불변 배열이므로 복사(store-by-value) 없이 참조로 보관
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(OptionalLong maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setMaximumSize(maximumSize);
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        return configuration;
+    }
+}
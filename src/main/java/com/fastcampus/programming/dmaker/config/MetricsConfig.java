@@ -0,0 +1,39 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.metrics.JdbcMetricsFilter;
+import com.fastcampus.programming.dmaker.metrics.JdbcMetricsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    // 모든 DataSource 를 datasource-proxy 로 감싸서 statement 수/실행 시간 수집
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new JdbcMetricsListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<JdbcMetricsFilter> jdbcMetricsFilter(MeterRegistry meterRegistry) {
+        return new FilterRegistrationBean<>(new JdbcMetricsFilter(meterRegistry));
+    }
+}
@@ -0,0 +1,45 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.ratelimit.AdaptiveConcurrencyLimit;
+import com.fastcampus.programming.dmaker.ratelimit.RateLimitFilter;
+import com.fastcampus.programming.dmaker.ratelimit.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(name = "dmaker.rate-limit.enabled", havingValue = "true")
+public class RateLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            RateLimitProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ){
+        RateLimitProperties.Concurrency concurrency = properties.concurrency();
+        AdaptiveConcurrencyLimit concurrencyLimit = concurrency == null || !concurrency.enabled() ? null
+                : new AdaptiveConcurrencyLimit(
+                        concurrency.initialLimit(),
+                        concurrency.minLimit(),
+                        concurrency.maxLimit(),
+                        concurrency.readReserve(),
+                        concurrency.tolerance(),
+                        concurrency.smoothing());
+
+        return new FilterRegistrationBean<>(new RateLimitFilter(
+                properties.clientHeader(),
+                properties.trustedProxies() == null ? List.of() : properties.trustedProxies(),
+                properties.rules() == null ? List.of() : properties.rules(),
+                concurrencyLimit,
+                objectMapper,
+                meterRegistry));
+    }
+}
@@ -0,0 +1,64 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.cache.DeveloperCacheInvalidator;
+import com.fastcampus.programming.dmaker.repository.ReactiveDeveloperRepository;
+import com.fastcampus.programming.dmaker.service.DeveloperLevelPolicy;
+import com.fastcampus.programming.dmaker.service.DeveloperListVersion;
+import com.fastcampus.programming.dmaker.service.DeveloperStatistics;
+import com.fastcampus.programming.dmaker.service.ReactiveDMakerService;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * reactive 프로필 (spring.main.web-application-type=reactive, application-reactive.yml) 의 WebFlux + R2DBC 구성.
+ * JPA 쪽 (DataSource, 스케줄러, 통계 초기화) 은 그대로 뜨고, /developers 요청만 R2DBC 로 처리한다.
+ * R2DBC 트랜잭션 매니저는 bean 으로 등록하지 않는다: @Transactional 이 JPA 트랜잭션 매니저 하나만 보도록.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig {
+
+    // classpath 에 Tomcat 도 있으므로 명시하지 않으면 Tomcat 위에서 WebFlux 가 뜸
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public ReactiveDeveloperRepository reactiveDeveloperRepository(DatabaseClient databaseClient) {
+        return new ReactiveDeveloperRepository(databaseClient);
+    }
+
+    @Bean
+    public ReactiveDMakerService reactiveDMakerService(
+            ReactiveDeveloperRepository reactiveDeveloperRepository,
+            ConnectionFactory connectionFactory,
+            DeveloperStatistics developerStatistics,
+            DeveloperListVersion developerListVersion,
+            DeveloperLevelPolicy developerLevelPolicy,
+            DeveloperCacheInvalidator developerCacheInvalidator,
+            @Value("${dmaker.archive.async:false}") boolean archiveAsync,
+            @Value("${dmaker.sharding.enabled:false}") boolean sharding,
+            @Value("${dmaker.replica.enabled:false}") boolean replica
+    ) {
+        // R2DBC 는 spring.r2dbc.url 하나만 보므로 shard / replica routing 을 따르지 않음
+        if (sharding || replica) {
+            throw new IllegalStateException("reactive 프로필은 dmaker.sharding / dmaker.replica 와 함께 쓸 수 없습니다.");
+        }
+        return new ReactiveDMakerService(
+                reactiveDeveloperRepository,
+                TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)),
+                developerStatistics,
+                developerListVersion,
+                developerLevelPolicy,
+                developerCacheInvalidator,
+                archiveAsync);
+    }
+}
@@ -0,0 +1,110 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.replica.*;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * dmaker.replica.enabled=true 면 spring.datasource 를 primary 로, dmaker.replica.replicas 를 읽기 전용 pool 로 두고
+ * readOnly 트랜잭션을 replica 로 보낸다. pool 별 hikaricp.* 지표는 pool 이름 tag 로 구분된다.
+ * dataSource bean 을 직접 만드는 ShardingConfig 와는 함께 켤 수 없다 (같은 이름의 bean 으로 시작 시 실패).
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(name = "dmaker.replica.enabled", havingValue = "true")
+public class ReplicaConfig {
+
+    @Bean
+    public ReplicaDataSources replicaDataSources(
+            ReplicaProperties properties,
+            DataSourceProperties dataSourceProperties,
+            Environment environment,
+            MeterRegistry meterRegistry
+    ) {
+        if (properties.replicas() == null || properties.replicas().isEmpty()) {
+            throw new IllegalStateException("dmaker.replica.replicas 가 비어 있습니다.");
+        }
+        MicrometerMetricsTrackerFactory metricsTrackerFactory = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(metricsTrackerFactory);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (ReplicaProperties.Replica replica : properties.replicas()) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.url())
+                    .username(replica.username())
+                    .password(replica.password())
+                    .build();
+            dataSource.setPoolName(replica.name());
+            dataSource.setReadOnly(true);
+            if (replica.maximumPoolSize() > 0) {
+                dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+            }
+            dataSource.setMetricsTrackerFactory(metricsTrackerFactory);
+            if (primary.getPoolName().equals(replica.name()) || replicas.containsKey(replica.name())) {
+                throw new IllegalStateException("replica 이름이 중복됩니다: " + replica.name());
+            }
+            replicas.put(replica.name(), dataSource);
+        }
+        return new ReplicaDataSources(primary, replicas);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            ReplicaDataSources replicaDataSources,
+            ReplicaProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicaLagMonitor(
+                replicaDataSources.primary(),
+                replicaDataSources.replicas(),
+                properties.maxLag(),
+                meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            ReplicaDataSources replicaDataSources,
+            ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry
+    ) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                replicaDataSources.primary(),
+                replicaDataSources.replicas(),
+                replicaLagMonitor,
+                meterRegistry));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(properties.clientHeader(), properties.maxLag()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
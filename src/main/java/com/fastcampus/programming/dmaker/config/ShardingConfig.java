@@ -0,0 +1,126 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.shard.*;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * dmaker.sharding.enabled=true 면 spring.datasource 대신 shard 별 pool 을 routing DataSource 하나로 묶는다.
+ * connection 은 첫 쿼리 때 열리므로 (LazyConnectionDataSourceProxy) @Transactional 메서드 안에서 shard 를 정할 수 있다.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    private static final String SHARDING_ENABLED = "dmaker.sharding.enabled";
+
+    @Bean
+    public DeveloperShards developerShards(
+            ShardingProperties properties,
+            PlatformTransactionManager transactionManager
+    ) {
+        if (!properties.enabled()) {
+            return DeveloperShards.single(transactionManager);
+        }
+        List<String> names = properties.shards().stream().map(ShardingProperties.Shard::name).toList();
+        return new DeveloperShards(names, properties.virtualNodes(), properties.scatterThreads(), transactionManager);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = SHARDING_ENABLED, havingValue = "true")
+    public ShardDataSources shardDataSources(ShardingProperties properties) {
+        if (properties.shards() == null || properties.shards().isEmpty()) {
+            throw new IllegalStateException("dmaker.sharding.shards 가 비어 있습니다.");
+        }
+        validateIdRanges(properties.shards());
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        for (ShardingProperties.Shard shard : properties.shards()) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shard.url())
+                    .username(shard.username())
+                    .password(shard.password())
+                    .build();
+            dataSource.setPoolName("shard-" + shard.name());
+            if (shard.maximumPoolSize() > 0) {
+                dataSource.setMaximumPoolSize(shard.maximumPoolSize());
+            }
+            if (dataSources.put(shard.name(), dataSource) != null) {
+                throw new IllegalStateException("shard 이름이 중복됩니다: " + shard.name());
+            }
+        }
+        return new ShardDataSources(dataSources);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = SHARDING_ENABLED, havingValue = "true")
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        Map<String, DataSource> dataSources = shardDataSources.asMap();
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(new LinkedHashMap<>(dataSources));
+        routingDataSource.setDefaultTargetDataSource(dataSources.values().iterator().next());
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = {SHARDING_ENABLED, "dmaker.sharding.initialize-schema"}, havingValue = "true")
+    public ShardSchemaInitializer shardSchemaInitializer(
+            EntityManagerFactory entityManagerFactory,
+            DeveloperShards developerShards,
+            JdbcTemplate jdbcTemplate
+    ) {
+        Map<String, Integer> idRanges = properties.shards().stream()
+                .collect(Collectors.toMap(ShardingProperties.Shard::name, ShardingProperties.Shard::idRange));
+        return new ShardSchemaInitializer(entityManagerFactory, developerShards, jdbcTemplate, idRanges);
+    }
+
+    // 시퀀스 대역이 겹치면 shard 사이에 같은 id 가 생기므로 pool 을 만들기 전에 실패시킴
+    static void validateIdRanges(List<ShardingProperties.Shard> shards) {
+        // 기본 shard 시퀀스는 ddl-auto 로 1 부터 시작
+        if (shards.get(0).idRange() != 0) {
+            throw new IllegalStateException("기본 shard 의 id-range 는 0 이어야 합니다: " + shards.get(0).name());
+        }
+        Map<Integer, String> owners = new HashMap<>();
+        for (ShardingProperties.Shard shard : shards) {
+            if (shard.idRange() < 0 || shard.idRange() >= ShardSchemaInitializer.MAX_ID_RANGES) {
+                throw new IllegalStateException("shard id-range 가 범위를 벗어났습니다: " + shard.name()
+                        + ", id-range: " + shard.idRange());
+            }
+            String owner = owners.putIfAbsent(shard.idRange(), shard.name());
+            if (owner != null) {
+                throw new IllegalStateException("shard id-range 가 겹칩니다: " + owner + ", " + shard.name()
+                        + ", id-range: " + shard.idRange());
+            }
+        }
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = SHARDING_ENABLED, havingValue = "true")
+    public ShardRebalancer shardRebalancer(DeveloperShards developerShards, JdbcTemplate jdbcTemplate) {
+        return new ShardRebalancer(developerShards, jdbcTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = SHARDING_ENABLED, havingValue = "true")
+    public ShardsEndpoint shardsEndpoint(ShardRebalancer shardRebalancer) {
+        return new ShardsEndpoint(shardRebalancer);
+    }
+}
@@ -0,0 +1,80 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.replica.ReplicaDataSources;
+import com.fastcampus.programming.dmaker.shard.ShardDataSources;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * spring.threads.virtual.enabled=true (Java 21 이상) 일 때 Tomcat 요청 처리와 async task 는
+ * Spring Boot 가 virtual thread 로 전환한다. 여기서는 JDBC 동시성만 커넥션 풀 크기로 제한한다.
+ * Java 17 에서는 property 가 켜져 있어도 platform thread 그대로이므로 제한도 걸지 않는다.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ThreadingConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment) {
+        Duration acquireTimeout = environment.getRequiredProperty(
+                "dmaker.jdbc.acquire-timeout", Duration.class);
+        return new ConcurrencyLimitingPostProcessor(acquireTimeout);
+    }
+
+    /**
+     * routing DataSource 가 아니라 실제 pool 마다 그 pool 의 maximum-pool-size 만큼 permit 을 둔다.
+     * shard/replica pool 은 bean 이 아니므로 pool 을 담은 bean 을 감싼 pool 로 다시 만든다.
+     * 다른 proxy (datasource-proxy 등) 보다 먼저 실행해야 pool 을 HikariDataSource 로 알아볼 수 있다.
+     */
+    private static class ConcurrencyLimitingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Duration acquireTimeout;
+
+        ConcurrencyLimitingPostProcessor(Duration acquireTimeout) {
+            this.acquireTimeout = acquireTimeout;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource pool) {
+                return limit(pool);
+            }
+            if (bean instanceof ShardDataSources shards) {
+                return new ShardDataSources(limitEach(shards.asMap()));
+            }
+            if (bean instanceof ReplicaDataSources replicas) {
+                return new ReplicaDataSources(limit(replicas.primary()), limitEach(replicas.replicas()));
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        private Map<String, DataSource> limitEach(Map<String, DataSource> pools) {
+            Map<String, DataSource> limited = new LinkedHashMap<>();
+            pools.forEach((name, pool) -> limited.put(name, limit(pool)));
+            return limited;
+        }
+
+        private DataSource limit(DataSource dataSource) {
+            if (dataSource instanceof HikariDataSource pool) {
+                return new ConcurrencyLimitingDataSource(pool, pool.getMaximumPoolSize(), acquireTimeout);
+            }
+            return dataSource;
+        }
+    }
+}
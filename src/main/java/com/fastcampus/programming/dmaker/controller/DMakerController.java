@@ -1,49 +1,141 @@
 package com.fastcampus.programming.dmaker.controller;
 
 import com.fastcampus.programming.dmaker.dto.*;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
 import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.metrics.DMakerErrorCounter;
 import com.fastcampus.programming.dmaker.service.DMakerService;
+import com.fastcampus.programming.dmaker.service.DeveloperBatchService;
+import com.fastcampus.programming.dmaker.service.DeveloperChangeFeed;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
+// reactive 프로필에서는 ReactiveDMakerController 가 같은 경로를 처리
 @Slf4j
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class DMakerController {
 
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
     private final DMakerService dMakerService;
+    private final DeveloperBatchService developerBatchService;
+    private final DeveloperChangeFeed developerChangeFeed;
+    private final DMakerErrorCounter dMakerErrorCounter;
+    private final ObjectWriter developerWriter;
+    private final ObjectWriter developerDetailWriter;
+    private final ObjectWriter importProgressWriter;
+    private final ObjectReader createRequestReader;
 
-    private DMakerController(DMakerService dMakerService){
+    private DMakerController(
+            DMakerService dMakerService,
+            DeveloperBatchService developerBatchService,
+            DeveloperChangeFeed developerChangeFeed,
+            DMakerErrorCounter dMakerErrorCounter,
+            ObjectMapper objectMapper
+    ){
         this.dMakerService = dMakerService;
+        this.developerBatchService = developerBatchService;
+        this.developerChangeFeed = developerChangeFeed;
+        this.dMakerErrorCounter = dMakerErrorCounter;
+        this.developerWriter = objectMapper.writerFor(DeveloperDto.class);
+        this.developerDetailWriter = objectMapper.writerFor(DeveloperDetailDto.class);
+        this.importProgressWriter = objectMapper.writerFor(ImportDevelopers.Progress.class);
+        this.createRequestReader = objectMapper.readerFor(CreateDeveloper.Request.class);
     }
 
     @GetMapping("/developers")
-    public List<DeveloperDto> getAllDevelopers(){
-        // GET /developers HTTP/1.1
-        log.info("GET /developers HTTP/1.1");
-        return dMakerService.getAllEmployedDevelopers();
+    public ResponseEntity<DeveloperPageDto> getAllDevelopers(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int size,
+            WebRequest webRequest
+    ){
+        // GET /developers?cursor={id}&size={size} HTTP/1.1 (If-None-Match: W/"{version}")
+        // 목록 ETag 는 Developer 건수 + version 합 (ttl 동안 재사용): 바뀐 게 없으면 목록 조회/직렬화 없이 304
+        String eTag = DeveloperETags.listETag(dMakerService.getDevelopersVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(dMakerService.getAllEmployedDevelopers(cursor, size));
     }
 
-    @GetMapping("/developers/{memberId}")
-    public DeveloperDetailDto getDeveloperDetail(@PathVariable String memberId){
-        // GET /developers/{memeberId} HTTP/1.1
+    @GetMapping(value = "/developers", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamAllDevelopers(){
+        // GET /developers HTTP/1.1 (Accept: application/x-ndjson)
+        return outputStream -> dMakerService.streamAllEmployedDevelopers(
+                developerDto -> writeLine(outputStream, developerDto));
+    }
+
+    private void writeLine(OutputStream outputStream, DeveloperDto developerDto){
+        try {
+            outputStream.write(developerWriter.writeValueAsBytes(developerDto));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @GetMapping("/developers/search")
+    public DeveloperSearchResultDto searchDevelopers(@Valid DeveloperSearchCondition condition){
+        // GET /developers/search?developerLevel=SENIOR&minExperienceYears=10&sort=EXPERIENCE_YEARS&direction=DESC HTTP/1.1
+        return dMakerService.searchDevelopers(condition);
+    }
+
+    @GetMapping("/developers/changes")
+    public DeferredResult<DeveloperChangesDto> getDeveloperChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit
+    ){
+        // GET /developers/changes?since={sequence}&limit={limit} HTTP/1.1
+        // 새 이벤트가 없으면 publish 될 때까지 (최대 poll-timeout) 대기 후 응답
+        return developerChangeFeed.poll(since, limit);
+    }
+
+    @GetMapping("/developers/stats")
+    public DeveloperStatisticsDto getDeveloperStatistics(){
+        // GET /developers/stats HTTP/1.1
+        return dMakerService.getDeveloperStatistics();
+    }
 
-        log.info(String.format("GET /developers/%s HTTP/1.1", memberId));
-        return dMakerService.getDeveloperDetail(memberId);
+    @GetMapping("/developers/{memberId}")
+    public ResponseEntity<DeveloperDetailDto> getDeveloperDetail(@PathVariable String memberId){
+        // GET /developers/{memeberId} HTTP/1.1 (If-None-Match: "{version}")
+        // 상세는 캐시/index 에서 읽고, ETag 가 같으면 body 를 직렬화하지 않고 304
+        return DeveloperETags.withETag(dMakerService.getDeveloperDetail(memberId));
     }
 
     @PutMapping("/developers/{memberId}")
-    public DeveloperDetailDto editDeveloper(
+    public ResponseEntity<DeveloperDetailDto> editDeveloper(
             @PathVariable String memberId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody EditDeveloper.Request request
     ){
-        // PUT /developers/{memberId} HTTP/1.1
-        log.info(String.format("PUT /developers/%s HTTP/1.1", memberId));
-        return dMakerService.editDeveloper(request, memberId);
+        // PUT /developers/{memberId} HTTP/1.1 (If-Match: "{version}")
+        return DeveloperETags.withETag(
+                dMakerService.editDeveloper(request, memberId, DeveloperETags.parseVersion(ifMatch)));
     }
 
     @PostMapping("/developers")
@@ -51,30 +143,183 @@ public class DMakerController {
             @Valid @RequestBody CreateDeveloper.Request request
     ){
         // POST /developers HTTP/1.1
-        log.info("request : " + request);
         return dMakerService.createDeveloper(request);
     }
 
+    @PostMapping(value = "/developers/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BatchCreateDeveloper.Response createDevelopers(
+            @RequestBody List<CreateDeveloper.Request> requests
+    ){
+        // POST /developers/batch HTTP/1.1
+        return developerBatchService.createDevelopers(requests.iterator());
+    }
+
+    @PostMapping(value = "/developers/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public BatchCreateDeveloper.Response createDevelopersFromStream(InputStream inputStream) throws IOException {
+        // POST /developers/batch HTTP/1.1 (Content-Type: application/x-ndjson)
+        try (MappingIterator<CreateDeveloper.Request> requests = createRequestReader.readValues(inputStream)) {
+            return developerBatchService.createDevelopers(requests);
+        }
+    }
+
+    @PostMapping(value = "/developers/validate", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ValidateDevelopers.Response validateDevelopers(
+            @RequestBody List<CreateDeveloper.Request> requests
+    ){
+        // POST /developers/validate HTTP/1.1
+        return developerBatchService.validateDevelopers(requests.iterator());
+    }
+
+    @PostMapping(value = "/developers/validate", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ValidateDevelopers.Response validateDevelopersFromStream(InputStream inputStream) throws IOException {
+        // POST /developers/validate HTTP/1.1 (Content-Type: application/x-ndjson)
+        try (MappingIterator<CreateDeveloper.Request> requests = createRequestReader.readValues(inputStream)) {
+            return developerBatchService.validateDevelopers(requests);
+        }
+    }
+
+    @GetMapping(value = "/developers/export",
+            produces = {DeveloperCsv.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportDevelopers(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ){
+        // GET /developers/export HTTP/1.1 (Accept: text/csv | application/x-ndjson, Accept-Encoding: gzip)
+        boolean ndjson = accept != null && MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(ndjson
+                        ? MediaType.APPLICATION_NDJSON
+                        : new MediaType(DeveloperCsv.TEXT_CSV, StandardCharsets.UTF_8))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        return builder.body(outputStream -> {
+            GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(outputStream, STREAM_BUFFER_SIZE) : null;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    gzip ? gzipStream : outputStream, StandardCharsets.UTF_8), STREAM_BUFFER_SIZE);
+            if (!ndjson) {
+                DeveloperCsv.writeHeader(writer);
+            }
+            dMakerService.exportDevelopers(developer -> {
+                try {
+                    if (ndjson) {
+                        writer.write(developerDetailWriter.writeValueAsString(developer));
+                        writer.write('\n');
+                    } else {
+                        DeveloperCsv.write(writer, developer);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            if (gzipStream != null) {
+                gzipStream.finish();
+            }
+        });
+    }
+
+    @PostMapping(value = "/developers/import",
+            consumes = {DeveloperCsv.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody importDevelopers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            InputStream inputStream
+    ){
+        // POST /developers/import HTTP/1.1 (Content-Type: text/csv | application/x-ndjson, Content-Encoding: gzip)
+        // chunk 마다 누적 진행 상황을 한 줄씩 응답하고 마지막 줄은 done: true
+        boolean csv = DeveloperCsv.TEXT_CSV.isCompatibleWith(MediaType.parseMediaType(contentType));
+        boolean gzip = contentEncoding != null && "gzip".equalsIgnoreCase(contentEncoding.trim());
+        if (contentEncoding != null && !gzip && !"identity".equalsIgnoreCase(contentEncoding.trim())) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST,
+                    "지원하지 않는 Content-Encoding 입니다: " + contentEncoding);
+        }
+
+        return outputStream -> {
+            try (InputStream body = gzip ? new GZIPInputStream(inputStream, STREAM_BUFFER_SIZE) : inputStream) {
+                ImportDevelopers.Progress result;
+                try {
+                    Iterator<CreateDeveloper.Request> requests = csv
+                            ? DeveloperCsv.read(new InputStreamReader(body, StandardCharsets.UTF_8))
+                            : createRequestReader.<CreateDeveloper.Request>readValues(body);
+                    result = developerBatchService.importDevelopers(
+                            invalidRequestOnReadFailure(requests),
+                            progress -> writeLine(outputStream, importProgressWriter, progress));
+                } catch (DMakerException e) {
+                    // header 가 잘못된 경우 등 시작 전에 중단
+                    result = ImportDevelopers.Progress.builder()
+                            .done(true)
+                            .errorCode(e.getDMakerErrorCode())
+                            .errorMessage(e.getDetailMessage())
+                            .build();
+                }
+                writeLine(outputStream, importProgressWriter, result);
+            }
+        };
+    }
+
+    // 입력이 깨진 경우 (JSON 문법 오류, 읽기 실패) import 를 중단하도록 DMakerException 으로 변환
+    private static <T> Iterator<T> invalidRequestOnReadFailure(Iterator<T> iterator){
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return iterator.hasNext();
+                } catch (RuntimeJsonMappingException | UncheckedIOException e) {
+                    throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, e.getMessage());
+                }
+            }
+
+            @Override
+            public T next() {
+                try {
+                    return iterator.next();
+                } catch (RuntimeJsonMappingException | UncheckedIOException e) {
+                    throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, e.getMessage());
+                }
+            }
+        };
+    }
+
+    private void writeLine(OutputStream outputStream, ObjectWriter writer, Object value){
+        try {
+            outputStream.write(writer.writeValueAsBytes(value));
+            outputStream.write('\n');
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PostMapping("/developers/retire")
+    public RetireDevelopers.Response retireDevelopers(
+            @Valid @RequestBody RetireDevelopers.Request request
+    ){
+        // POST /developers/retire HTTP/1.1
+        return developerBatchService.retireDevelopers(request.getMemberIds());
+    }
+
     @DeleteMapping("/developers/{memberId}")
     public DeveloperDetailDto deleteDeveloper(@PathVariable String memberId){
         // DELETE /developers HTTP/1.1
-        log.info(String.format("DELETE /developers/%s HTTP/1.1", memberId));
-
         return dMakerService.deleteDeveloper(memberId);
     }
 
-    @ResponseStatus(value = HttpStatus.CONFLICT)
     @ExceptionHandler(DMakerException.class)
-    public DMakerErrorResponse handleException(
+    public ResponseEntity<DMakerErrorResponse> handleException(
             DMakerException e,
             HttpServletRequest request
     ){
         log.error("errorCode: {}, url: {}, message {}",
                 e.getDMakerErrorCode(), request.getRequestURI(), e.getDetailMessage());
+        dMakerErrorCounter.increment(e.getDMakerErrorCode());
 
-        return DMakerErrorResponse.builder()
-                .errorCode(e.getDMakerErrorCode())
-                .errorMessage(e.getDetailMessage())
-                .build();
+        return DeveloperETags.errorResponse(e, request.getHeader(HttpHeaders.IF_MATCH));
     }
 }
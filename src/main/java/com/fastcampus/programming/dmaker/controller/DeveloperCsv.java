@@ -0,0 +1,201 @@
+package com.fastcampus.programming.dmaker.controller;
+
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * 명단 export / import 용 CSV (RFC 4180, 첫 줄은 header).
+ * import 는 header 이름으로 컬럼을 찾으므로 export 결과를 그대로 다시 올릴 수 있다.
+ */
+final class DeveloperCsv {
+
+    static final String TEXT_CSV_VALUE = "text/csv";
+    static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+
+    static final List<String> COLUMNS = List.of(
+            "memberId", "name", "age", "developerLevel", "developerSkillType", "experienceYears", "statusCode");
+    private static final List<String> REQUIRED_COLUMNS = COLUMNS.subList(0, 6);
+
+    private DeveloperCsv() {
+    }
+
+    static void writeHeader(Writer writer) throws IOException {
+        writer.write(String.join(",", COLUMNS));
+        writer.write('\n');
+    }
+
+    static void write(Writer writer, DeveloperDetailDto developer) throws IOException {
+        writeField(writer, developer.getMemberId());
+        writer.write(',');
+        writeField(writer, developer.getName());
+        writer.write(',');
+        writeField(writer, developer.getAge());
+        writer.write(',');
+        writeField(writer, developer.getDeveloperLevel());
+        writer.write(',');
+        writeField(writer, developer.getDeveloperSkillType());
+        writer.write(',');
+        writeField(writer, developer.getExperienceYears());
+        writer.write(',');
+        writeField(writer, developer.getStatusCode());
+        writer.write('\n');
+    }
+
+    /**
+     * 한 record 씩 읽는 iterator. 값이 잘못된 컬럼은 null 로 두고 bean validation 에서 항목 단위로 실패시킨다.
+     */
+    static Iterator<CreateDeveloper.Request> read(Reader reader) {
+        BufferedReader input = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        List<String> header = readRecord(input);
+        if (header == null) {
+            return Collections.emptyIterator();
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "CSV header 에 " + column + " 컬럼이 없습니다.");
+            }
+        }
+
+        return new Iterator<>() {
+            private List<String> next = readNonBlankRecord(input);
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public CreateDeveloper.Request next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                List<String> record = next;
+                next = readNonBlankRecord(input);
+                return CreateDeveloper.Request.builder()
+                        .memberId(field(record, columns, "memberId"))
+                        .name(field(record, columns, "name"))
+                        .age(parseInteger(field(record, columns, "age")))
+                        .developerLevel(parseEnum(DeveloperLevel.class, field(record, columns, "developerLevel")))
+                        .developerSkillType(parseEnum(DeveloperSkillType.class,
+                                field(record, columns, "developerSkillType")))
+                        .experienceYears(parseInteger(field(record, columns, "experienceYears")))
+                        .build();
+            }
+        };
+    }
+
+    private static void writeField(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static List<String> readNonBlankRecord(BufferedReader input) {
+        List<String> record;
+        do {
+            record = readRecord(input);
+        } while (record != null && record.size() == 1 && record.get(0).isBlank());
+        return record;
+    }
+
+    // EOF 면 null, 따옴표 안의 ',' 와 줄바꿈은 값으로 취급
+    private static List<String> readRecord(BufferedReader input) {
+        try {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean read = false;
+            int c;
+            while ((c = input.read()) != -1) {
+                read = true;
+                if (quoted) {
+                    if (c != '"') {
+                        field.append((char) c);
+                        continue;
+                    }
+                    input.mark(1);
+                    if (input.read() == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        input.reset();
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            if (quoted) {
+                throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "CSV 따옴표가 닫히지 않았습니다.");
+            }
+            if (!read) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        int index = columns.get(column);
+        if (index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Integer parseInteger(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.fastcampus.programming.dmaker.controller;
+
+import com.fastcampus.programming.dmaker.dto.DMakerErrorResponse;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 목록 ETag (W/"{목록 버전}") 와 상세 ETag ("{version}"), If-Match 해석, 오류 응답 status.
+ * MVC / WebFlux controller 가 같은 규칙을 쓴다.
+ */
+final class DeveloperETags {
+
+    private DeveloperETags() {
+    }
+
+    // strong ETag 는 Tomcat 이 압축하지 않으므로 weak 로 내려줌
+    static String listETag(String listVersion) {
+        return "W/\"" + listVersion + "\"";
+    }
+
+    static ResponseEntity<DeveloperDetailDto> withETag(DeveloperDetailDto developer) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (developer.getVersion() != null) {
+            builder.eTag("\"" + developer.getVersion() + "\"");
+        }
+        return builder.body(developer);
+    }
+
+    static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.valueOf(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "If-Match 값이 올바르지 않습니다: " + ifMatch);
+        }
+    }
+
+    // If-Match 의 version 으로 수정하다 충돌하면 412, 그 외 DMakerException 은 지금처럼 409
+    static ResponseEntity<DMakerErrorResponse> errorResponse(DMakerException e, String ifMatch) {
+        boolean preconditionFailed = e.getDMakerErrorCode() == DMakerErrorCode.VERSION_CONFLICT
+                && ifMatch != null && !ifMatch.isBlank() && !"*".equals(ifMatch.trim());
+        return ResponseEntity.status(preconditionFailed ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT)
+                .body(DMakerErrorResponse.builder()
+                        .errorCode(e.getDMakerErrorCode())
+                        .errorMessage(e.getDetailMessage())
+                        .build());
+    }
+}
@@ -0,0 +1,108 @@
+package com.fastcampus.programming.dmaker.controller;
+
+import com.fastcampus.programming.dmaker.dto.*;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.metrics.DMakerErrorCounter;
+import com.fastcampus.programming.dmaker.service.ReactiveDMakerService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * DMakerController 의 개발자 CRUD / 목록 / 통계 API 를 같은 경로와 DTO 로 WebFlux 위에서 제공한다.
+ * batch / import / export / search / changes 는 servlet 프로필에서만 제공.
+ */
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveDMakerController {
+
+    private final ReactiveDMakerService reactiveDMakerService;
+    private final DMakerErrorCounter dMakerErrorCounter;
+
+    @GetMapping("/developers")
+    public Mono<ResponseEntity<DeveloperPageDto>> getAllDevelopers(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int size,
+            ServerWebExchange exchange
+    ){
+        // GET /developers?cursor={id}&size={size} HTTP/1.1 (If-None-Match: W/"{version}")
+        return reactiveDMakerService.getDevelopersVersion()
+                .map(DeveloperETags::listETag)
+                .flatMap(eTag -> {
+                    if (exchange.checkNotModified(eTag)) {
+                        return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<DeveloperPageDto>build());
+                    }
+                    return reactiveDMakerService.getAllEmployedDevelopers(cursor, size)
+                            .map(page -> ResponseEntity.ok().eTag(eTag).body(page));
+                });
+    }
+
+    @GetMapping(value = "/developers", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<DeveloperDto> streamAllDevelopers(){
+        // GET /developers HTTP/1.1 (Accept: application/x-ndjson)
+        // client 가 읽는 속도만큼만 DB 에서 읽음
+        return reactiveDMakerService.streamAllEmployedDevelopers();
+    }
+
+    @GetMapping("/developers/stats")
+    public Mono<DeveloperStatisticsDto> getDeveloperStatistics(){
+        // GET /developers/stats HTTP/1.1
+        return reactiveDMakerService.getDeveloperStatistics();
+    }
+
+    @GetMapping("/developers/{memberId}")
+    public Mono<ResponseEntity<DeveloperDetailDto>> getDeveloperDetail(@PathVariable String memberId){
+        // GET /developers/{memeberId} HTTP/1.1 (If-None-Match: "{version}")
+        return reactiveDMakerService.getDeveloperDetail(memberId)
+                .map(DeveloperETags::withETag);
+    }
+
+    @PutMapping("/developers/{memberId}")
+    public Mono<ResponseEntity<DeveloperDetailDto>> editDeveloper(
+            @PathVariable String memberId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody EditDeveloper.Request request
+    ){
+        // PUT /developers/{memberId} HTTP/1.1 (If-Match: "{version}")
+        return reactiveDMakerService.editDeveloper(request, memberId, DeveloperETags.parseVersion(ifMatch))
+                .map(DeveloperETags::withETag);
+    }
+
+    @PostMapping("/developers")
+    public Mono<CreateDeveloper.Response> createDeveloper(
+            @Valid @RequestBody CreateDeveloper.Request request
+    ){
+        // POST /developers HTTP/1.1
+        return reactiveDMakerService.createDeveloper(request);
+    }
+
+    @DeleteMapping("/developers/{memberId}")
+    public Mono<DeveloperDetailDto> deleteDeveloper(@PathVariable String memberId){
+        // DELETE /developers HTTP/1.1
+        return reactiveDMakerService.deleteDeveloper(memberId);
+    }
+
+    @ExceptionHandler(DMakerException.class)
+    public ResponseEntity<DMakerErrorResponse> handleException(
+            DMakerException e,
+            ServerHttpRequest request
+    ){
+        log.error("errorCode: {}, url: {}, message {}",
+                e.getDMakerErrorCode(), request.getPath(), e.getDetailMessage());
+        dMakerErrorCounter.increment(e.getDMakerErrorCode());
+
+        return DeveloperETags.errorResponse(e, request.getHeaders().getFirst(HttpHeaders.IF_MATCH));
+    }
+}
@@ -0,0 +1,34 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import lombok.*;
+
+import java.util.List;
+
+public class BatchCreateDeveloper {
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Result{
+        // 요청 배열(또는 NDJSON 라인) 내 순번, 0부터 시작
+        private int index;
+        private String memberId;
+        private boolean created;
+        private DMakerErrorCode errorCode;
+        private String errorMessage;
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response{
+        private int createdCount;
+        private int failedCount;
+        private List<Result> results;
+    }
+}
@@ -28,9 +28,12 @@ public class CreateDeveloper {
         @NotNull @Size(min=3, max=50, message="memberId size 3 ~ 50")
         private String memberId;
 
+        // PII: toString 에 노출하지 않음
+        @ToString.Exclude
         @NotNull @Size(min=3, max=20, message="name size 3 ~ 20")
         private String name;
 
+        @ToString.Exclude
         @NotNull @Min(18) private Integer age;
     }
 
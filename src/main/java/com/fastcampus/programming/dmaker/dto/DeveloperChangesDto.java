@@ -0,0 +1,17 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperChangesDto {
+    private List<DeveloperEventDto> events;
+
+    // 다음 요청의 since 값 (변경이 없으면 요청한 since 그대로)
+    private Long next;
+}
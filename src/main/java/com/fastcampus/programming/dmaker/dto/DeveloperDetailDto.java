@@ -4,6 +4,7 @@ import com.fastcampus.programming.dmaker.code.StatusCode;
 import com.fastcampus.programming.dmaker.entity.Developer;
 import com.fastcampus.programming.dmaker.type.DeveloperLevel;
 import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -26,6 +27,10 @@ public class DeveloperDetailDto {
     private String name;
     private Integer age;
 
+    // ETag / If-Match 용, 응답 body 에는 노출하지 않음
+    @JsonIgnore
+    private Long version;
+
     public static DeveloperDetailDto fromEntity(Developer developer){
         return DeveloperDetailDto.builder()
                                 .developerLevel(developer.getDeveloperLevel())
@@ -35,6 +40,7 @@ public class DeveloperDetailDto {
                                 .statusCode(developer.getStatusCode())
                                 .name(developer.getName())
                                 .age(developer.getAge())
+                                .version(developer.getVersion())
                                 .build();
     }
 }
@@ -3,6 +3,7 @@ package com.fastcampus.programming.dmaker.dto;
 import com.fastcampus.programming.dmaker.entity.Developer;
 import com.fastcampus.programming.dmaker.type.DeveloperLevel;
 import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
 @Getter
@@ -11,12 +12,17 @@ import lombok.*;
 @NoArgsConstructor
 @Builder
 public class DeveloperDto {
+    // keyset pagination cursor 용, 응답에는 노출하지 않음
+    @JsonIgnore
+    private Long id;
+
     private DeveloperLevel developerLevel;
     private DeveloperSkillType developerSkillType;
     private String memberId;
 
     public static DeveloperDto fromEntity(Developer developer){
         return DeveloperDto.builder()
+                        .id(developer.getId())
                         .developerLevel(developer.getDeveloperLevel())
                         .developerSkillType(developer.getDeveloperSkillType())
                         .memberId(developer.getMemberId())
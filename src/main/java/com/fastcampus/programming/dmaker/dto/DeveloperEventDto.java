@@ -0,0 +1,39 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.entity.DeveloperEvent;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperEventDto {
+    private Long sequence;
+    private DeveloperEventType eventType;
+    private String memberId;
+    private DeveloperLevel developerLevel;
+    private DeveloperSkillType developerSkillType;
+    private Integer experienceYears;
+    private StatusCode statusCode;
+    private LocalDateTime occurredAt;
+
+    public static DeveloperEventDto fromEntity(DeveloperEvent event){
+        return DeveloperEventDto.builder()
+                .sequence(event.getSequenceNo())
+                .eventType(event.getEventType())
+                .memberId(event.getMemberId())
+                .developerLevel(event.getDeveloperLevel())
+                .developerSkillType(event.getDeveloperSkillType())
+                .experienceYears(event.getExperienceYears())
+                .statusCode(event.getStatusCode())
+                .occurredAt(event.getCreatedAt())
+                .build();
+    }
+}
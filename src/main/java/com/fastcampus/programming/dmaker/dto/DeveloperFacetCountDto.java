@@ -0,0 +1,19 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperFacetCountDto {
+    private DeveloperLevel developerLevel;
+    private DeveloperSkillType developerSkillType;
+    private StatusCode statusCode;
+    private Integer experienceYears;
+    private Long count;
+}
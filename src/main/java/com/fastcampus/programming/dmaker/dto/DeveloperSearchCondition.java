@@ -0,0 +1,52 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import org.springframework.data.domain.Sort;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Builder
+public class DeveloperSearchCondition {
+
+    public enum SortField {
+        ID,
+        EXPERIENCE_YEARS,
+        MEMBER_ID
+    }
+
+    @Builder.Default
+    private StatusCode statusCode = StatusCode.EMPLOYED;
+
+    private DeveloperLevel developerLevel;
+    private DeveloperSkillType developerSkillType;
+
+    @Min(0) @Max(20) private Integer minExperienceYears;
+    @Min(0) @Max(20) private Integer maxExperienceYears;
+
+    @Size(max = 20) private String namePrefix;
+
+    @NotNull
+    @Builder.Default
+    private SortField sort = SortField.ID;
+
+    @NotNull
+    @Builder.Default
+    private Sort.Direction direction = Sort.Direction.ASC;
+
+    // 이전 응답의 next 값
+    private String cursor;
+
+    @NotNull @Min(1) @Max(1000)
+    @Builder.Default
+    private Integer size = 100;
+}
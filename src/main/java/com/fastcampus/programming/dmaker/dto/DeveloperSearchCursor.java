@@ -0,0 +1,68 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 검색 API 의 opaque cursor: base64url("정렬 기준:방향:정렬 기준 값:id")
+ * 정렬 기준 / 방향이 다른 요청에 cursor 를 넘기면 keyset 조건이 맞지 않으므로 INVALID_REQUEST.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class DeveloperSearchCursor {
+
+    private final String value;
+    private final long id;
+
+    public static String encode(DeveloperSearchCondition condition, Object value, Long id) {
+        String cursor = condition.getSort() + ":" + condition.getDirection() + ":" + value + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static DeveloperSearchCursor decode(DeveloperSearchCondition condition) {
+        String decoded;
+        int valueStart;
+        int separator;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(condition.getCursor()), StandardCharsets.UTF_8);
+            valueStart = decoded.indexOf(':', decoded.indexOf(':') + 1) + 1;
+            separator = decoded.lastIndexOf(':');
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+        if (valueStart <= 0 || separator < valueStart) {
+            throw invalid();
+        }
+        // 값 (memberId) 에 ':' 가 있을 수 있으므로 앞의 두 개와 마지막 하나로 나눔
+        String order = condition.getSort() + ":" + condition.getDirection() + ":";
+        if (!decoded.substring(0, valueStart).equals(order)) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "cursor 의 정렬 기준 / 방향이 요청과 다릅니다.");
+        }
+        try {
+            return new DeveloperSearchCursor(
+                    decoded.substring(valueStart, separator),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw invalid();
+        }
+    }
+
+    public int intValue() {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw invalid();
+        }
+    }
+
+    private static DMakerException invalid() {
+        return new DMakerException(DMakerErrorCode.INVALID_REQUEST, "cursor 값이 올바르지 않습니다.");
+    }
+}
@@ -0,0 +1,23 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperStatisticsDto {
+    private long total;
+
+    // level -> skillType -> statusCode -> 인원수
+    private Map<DeveloperLevel, Map<DeveloperSkillType, Map<StatusCode, Long>>> counts;
+
+    // statusCode -> 연차(0 ~ 20)별 인원수
+    private Map<StatusCode, long[]> experienceYears;
+}
@@ -0,0 +1,13 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperVersionSumDto {
+    private Long count;
+    private Long versionSum;
+}
@@ -0,0 +1,35 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+public class ImportDevelopers {
+
+    /**
+     * chunk 마다 한 줄씩 NDJSON 으로 내려보내는 진행 상황 (누적 값).
+     * failures 는 해당 chunk 에서 실패한 항목만 담는다.
+     */
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Progress{
+        private long processed;
+        private long created;
+        private long updated;
+        // 이미 같은 값이라 수정하지 않은 건수
+        private long unchanged;
+        private long failed;
+        private List<BatchCreateDeveloper.Result> failures;
+        private boolean done;
+
+        // 입력을 더 읽을 수 없어 중단된 경우 (이미 처리된 chunk 는 반영됨)
+        private DMakerErrorCode errorCode;
+        private String errorMessage;
+    }
+}
@@ -0,0 +1,35 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+public class RetireDevelopers {
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @ToString
+    @Builder
+    public static class Request{
+        // 요청 하나가 트랜잭션 / 메모리를 오래 잡지 않도록 건수 제한
+        @NotEmpty
+        @Size(max = 10000)
+        private List<String> memberIds;
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response{
+        private int retiredCount;
+
+        // 존재하지 않거나 이미 퇴직한 memberId
+        private List<String> missingMemberIds;
+    }
+}
@@ -1,10 +1,16 @@
 package com.fastcampus.programming.dmaker.entity;
 
 import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.config.HibernateCacheConfig;
 import com.fastcampus.programming.dmaker.type.DeveloperLevel;
 import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,10 +23,25 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.DEVELOPER_REGION)
+@NaturalIdCache(region = HibernateCacheConfig.DEVELOPER_NATURAL_ID_REGION)
+@Table(indexes = {
+        @Index(name = Developer.MEMBER_ID_UNIQUE_INDEX, columnList = "memberId", unique = true),
+        // 검색 API 필터 순서 (등치 조건 -> 범위 조건)
+        @Index(name = "idx_developer_search",
+                columnList = "statusCode, developerLevel, developerSkillType, experienceYears"),
+        @Index(name = "idx_developer_status_name", columnList = "statusCode, name")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Developer {
+    public static final String MEMBER_ID_UNIQUE_INDEX = "uk_developer_member_id";
+
+    // IDENTITY 는 insert 즉시 실행되어 JDBC batch 가 꺼지므로 pooled sequence 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "developer_seq")
+    @SequenceGenerator(name = "developer_seq", sequenceName = "developer_seq", allocationSize = 50)
     protected Long id;
 
     @Enumerated(EnumType.STRING)
@@ -30,13 +51,21 @@ public class Developer {
     private DeveloperSkillType developerSkillType;
 
     private Integer experienceYears;
+
+    // 생성 이후 바뀌지 않음, findByMemberId 는 natural id 캐시로 조회
+    @NaturalId
     private String memberId;
+
     private String name;
     private Integer age;
 
     @Enumerated(EnumType.STRING)
     private StatusCode statusCode;
 
+    // optimistic locking, ETag 로 노출
+    @Version
+    private Long version;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
@@ -0,0 +1,56 @@
+package com.fastcampus.programming.dmaker.entity;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 개발자 변경 outbox. 변경과 같은 트랜잭션에서 insert 되고,
+ * relay 가 commit 된 순서대로 sequenceNo 를 부여해서 consumer 에게 노출한다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(indexes = @Index(name = "uk_developer_event_sequence_no", columnList = "sequenceNo", unique = true))
+@EntityListeners(AuditingEntityListener.class)
+public class DeveloperEvent {
+    // batch insert 를 위해 pooled sequence 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "developer_event_seq")
+    @SequenceGenerator(name = "developer_event_seq", sequenceName = "developer_event_seq", allocationSize = 50)
+    protected Long id;
+
+    // publish 전에는 null
+    private Long sequenceNo;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperEventType eventType;
+
+    private String memberId;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperLevel developerLevel;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperSkillType developerSkillType;
+
+    private Integer experienceYears;
+
+    @Enumerated(EnumType.STRING)
+    private StatusCode statusCode;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+}
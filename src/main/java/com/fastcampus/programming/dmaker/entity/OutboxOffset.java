@@ -0,0 +1,30 @@
+package com.fastcampus.programming.dmaker.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import lombok.*;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * outbox consumer 별 처리 위치 (마지막으로 처리한 DeveloperEvent.sequenceNo)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+public class OutboxOffset {
+    @Id
+    private String consumer;
+
+    private Long lastSequenceNo;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+}
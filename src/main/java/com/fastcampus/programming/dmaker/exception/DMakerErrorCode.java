@@ -15,6 +15,9 @@ public enum DMakerErrorCode {
     NO_DEVELOPER("해당되는 개발자가 없습니다."),
     DUPLICATED_MEMBER_ID("MemberId가 중복되는 개발자가 있습니다."),
     LEVEL_EXPERIENCE_YEARS_NOT_MATCHED("개발자 레벨과 연차가 맞지 않습니다."),
+    VERSION_CONFLICT("다른 요청에 의해 개발자 정보가 변경되었습니다."),
+    TOO_MANY_REQUESTS("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    SERVICE_UNAVAILABLE("서버가 혼잡합니다. 잠시 후 다시 시도해 주세요."),
     INTERNAL_SERVER_ERROR("서버에 오류가 발생하였습니다."),
     INVALID_REQUEST("잘못된 요청입니다.")
 
@@ -1,8 +1,12 @@
 package com.fastcampus.programming.dmaker.exception;
 
 import com.fastcampus.programming.dmaker.dto.DMakerErrorResponse;
+import com.fastcampus.programming.dmaker.metrics.DMakerErrorCounter;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -10,20 +14,38 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @Slf4j
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
 public class DMakerExceptionHandler {
 
+    private final DMakerErrorCounter dMakerErrorCounter;
+
     @ExceptionHandler(DMakerException.class)
     public DMakerErrorResponse handleException(
             DMakerException e,
             HttpServletRequest request
     ){
         log.error("errorCode: {}, url: {}, message: {}", e.getDMakerErrorCode(), request.getRequestURI(), e.getDetailMessage());
+        dMakerErrorCounter.increment(e.getDMakerErrorCode());
         return DMakerErrorResponse.builder()
                 .errorCode(e.getDMakerErrorCode())
                 .errorMessage(e.getDetailMessage())
                 .build();
     }
 
+    // entity 경로(deleteDeveloper 등)에서 @Version 충돌
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public DMakerErrorResponse handleOptimisticLockingFailure(
+            ObjectOptimisticLockingFailureException e, HttpServletRequest request
+    ){
+        log.error("url: {}, message: {}", request.getRequestURI(), e.getMessage());
+        dMakerErrorCounter.increment(DMakerErrorCode.VERSION_CONFLICT);
+        return DMakerErrorResponse.builder()
+                .errorCode(DMakerErrorCode.VERSION_CONFLICT)
+                .errorMessage(DMakerErrorCode.VERSION_CONFLICT.getMessage())
+                .build();
+    }
+
     @ExceptionHandler(value ={
         HttpRequestMethodNotSupportedException.class,
             MethodArgumentNotValidException.class
@@ -32,6 +54,7 @@ public class DMakerExceptionHandler {
             Exception e, HttpServletRequest request
     ){
         log.error("url: {}, message: {}", request.getRequestURI(), e.getMessage());
+        dMakerErrorCounter.increment(DMakerErrorCode.INVALID_REQUEST);
         return DMakerErrorResponse.builder()
                 .errorCode(DMakerErrorCode.INVALID_REQUEST)
                 .errorMessage(DMakerErrorCode.INVALID_REQUEST.getMessage())
@@ -43,6 +66,7 @@ public class DMakerExceptionHandler {
             Exception e, HttpServletRequest request
     ){
         log.error("url: {}, message: {}", request.getRequestURI(), e.getMessage());
+        dMakerErrorCounter.increment(DMakerErrorCode.INTERNAL_SERVER_ERROR);
         return DMakerErrorResponse.builder()
                 .errorCode(DMakerErrorCode.INTERNAL_SERVER_ERROR)
                 .errorMessage(DMakerErrorCode.INTERNAL_SERVER_ERROR.getMessage())
@@ -0,0 +1,63 @@
+package com.fastcampus.programming.dmaker.exception;
+
+import com.fastcampus.programming.dmaker.dto.DMakerErrorResponse;
+import com.fastcampus.programming.dmaker.metrics.DMakerErrorCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.ServerWebInputException;
+
+// DMakerExceptionHandler 의 WebFlux 판, 같은 errorCode 로 응답
+@Slf4j
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveDMakerExceptionHandler {
+
+    private final DMakerErrorCounter dMakerErrorCounter;
+
+    @ExceptionHandler(DMakerException.class)
+    public DMakerErrorResponse handleException(
+            DMakerException e,
+            ServerHttpRequest request
+    ){
+        log.error("errorCode: {}, url: {}, message: {}", e.getDMakerErrorCode(), request.getPath(), e.getDetailMessage());
+        dMakerErrorCounter.increment(e.getDMakerErrorCode());
+        return DMakerErrorResponse.builder()
+                .errorCode(e.getDMakerErrorCode())
+                .errorMessage(e.getDetailMessage())
+                .build();
+    }
+
+    // @Valid 실패는 WebExchangeBindException (ServerWebInputException 의 하위), body 파싱 실패는 ServerWebInputException
+    @ExceptionHandler(value ={
+        MethodNotAllowedException.class,
+            ServerWebInputException.class
+    })
+    public DMakerErrorResponse handleBadRequest(
+            Exception e, ServerHttpRequest request
+    ){
+        log.error("url: {}, message: {}", request.getPath(), e.getMessage());
+        dMakerErrorCounter.increment(DMakerErrorCode.INVALID_REQUEST);
+        return DMakerErrorResponse.builder()
+                .errorCode(DMakerErrorCode.INVALID_REQUEST)
+                .errorMessage(DMakerErrorCode.INVALID_REQUEST.getMessage())
+                .build();
+    }
+
+    @ExceptionHandler(Exception.class)
+    public DMakerErrorResponse handleException(
+            Exception e, ServerHttpRequest request
+    ){
+        log.error("url: {}, message: {}", request.getPath(), e.getMessage());
+        dMakerErrorCounter.increment(DMakerErrorCode.INTERNAL_SERVER_ERROR);
+        return DMakerErrorResponse.builder()
+                .errorCode(DMakerErrorCode.INTERNAL_SERVER_ERROR)
+                .errorMessage(DMakerErrorCode.INTERNAL_SERVER_ERROR.getMessage())
+                .build();
+    }
+}
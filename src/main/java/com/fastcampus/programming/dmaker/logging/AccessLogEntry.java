@@ -0,0 +1,12 @@
+package com.fastcampus.programming.dmaker.logging;
+
+/**
+ * 요청 스레드에서는 값만 담아 큐에 넣고, 문자열 조립은 writer 스레드에서 한다.
+ */
+record AccessLogEntry(
+        String method,
+        String uri,
+        int status,
+        long durationNanos
+) {
+}
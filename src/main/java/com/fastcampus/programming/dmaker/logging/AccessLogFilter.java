@@ -0,0 +1,146 @@
+package com.fastcampus.programming.dmaker.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /developers 요청의 access log.
+ * 요청 스레드는 bounded ring buffer(ArrayBlockingQueue)에 offer 만 하고 절대 블록되지 않는다.
+ * 버퍼가 가득 차면 버리고 dmaker.access-log.dropped 로 센다.
+ * 버퍼가 절반 이상 차면 4xx/5xx 를 제외한 요청은 loadSampleRate 로 샘플링한다.
+ * 요청 body 는 로그에 남기지 않는다 (name, age 등 PII).
+ */
+@Slf4j(topic = "ACCESS")
+public class AccessLogFilter extends OncePerRequestFilter implements DisposableBean {
+
+    private final BlockingQueue<AccessLogEntry> buffer;
+    private final int loadThreshold;
+    private final double sampleRate;
+    private final double loadSampleRate;
+    private final Counter dropped;
+    private final Thread writer;
+
+    public AccessLogFilter(
+            int bufferSize,
+            double sampleRate,
+            double loadSampleRate,
+            MeterRegistry meterRegistry
+    ) {
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.loadThreshold = bufferSize / 2;
+        this.sampleRate = sampleRate;
+        this.loadSampleRate = loadSampleRate;
+        this.dropped = Counter.builder("dmaker.access-log.dropped").register(meterRegistry);
+        this.writer = new Thread(this::drain, "access-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/developers");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            // 처리되지 않은 예외는 filter 밖에서 container 가 500 으로 바꾸므로 아직 response status 에 반영되지 않음
+            record(request, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, start);
+            throw e;
+        }
+
+        // 비동기 요청 (StreamingResponseBody, DeferredResult 등) 은 응답이 끝난 뒤에 기록
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new AsyncListener() {
+                private volatile boolean failed;
+
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    record(request, failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(), start);
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                    failed = true;
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                }
+
+                // async 를 다시 시작하면 listener 가 해제되므로 다시 등록
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                    event.getAsyncContext().addListener(this);
+                }
+            });
+            return;
+        }
+        record(request, response.getStatus(), start);
+    }
+
+    private void record(HttpServletRequest request, int status, long start) {
+        if (log.isInfoEnabled() && sampled(status)
+                && !buffer.offer(new AccessLogEntry(
+                        request.getMethod(), request.getRequestURI(), status, System.nanoTime() - start))) {
+            dropped.increment();
+        }
+    }
+
+    private boolean sampled(int status) {
+        if (status >= 400) {
+            return true;
+        }
+        double rate = buffer.size() >= loadThreshold ? loadSampleRate : sampleRate;
+        return rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private void drain() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                write(buffer.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 시 남은 로그 flush
+        AccessLogEntry entry;
+        while ((entry = buffer.poll()) != null) {
+            write(entry);
+        }
+    }
+
+    private void write(AccessLogEntry entry) {
+        log.info("method={} uri={} status={} durationMs={}",
+                entry.method(), entry.uri(), entry.status(),
+                TimeUnit.NANOSECONDS.toMillis(entry.durationNanos()));
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(1));
+    }
+}
@@ -0,0 +1,31 @@
+package com.fastcampus.programming.dmaker.metrics;
+
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * DMakerErrorCode 별 응답 횟수 (dmaker.errors{errorCode}).
+ * 발생 전에도 0 으로 보이도록 미리 등록해 둔다.
+ */
+@Component
+public class DMakerErrorCounter {
+
+    private final Map<DMakerErrorCode, Counter> counters = new EnumMap<>(DMakerErrorCode.class);
+
+    public DMakerErrorCounter(MeterRegistry meterRegistry) {
+        for (DMakerErrorCode errorCode : DMakerErrorCode.values()) {
+            counters.put(errorCode, Counter.builder("dmaker.errors")
+                    .tag("errorCode", errorCode.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    public void increment(DMakerErrorCode errorCode) {
+        counters.get(errorCode).increment();
+    }
+}
@@ -0,0 +1,59 @@
+package com.fastcampus.programming.dmaker.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /developers 요청마다 statement 수(dmaker.jdbc.statements)와 JDBC 시간(dmaker.jdbc.time)을 기록.
+ * NDJSON 스트리밍처럼 다른 스레드에서 실행되는 JDBC 는 집계되지 않는다.
+ */
+@RequiredArgsConstructor
+public class JdbcMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/developers");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        JdbcUsage usage = JdbcMetricsListener.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            JdbcMetricsListener.end();
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+            DistributionSummary.builder("dmaker.jdbc.statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(usage.getStatementCount());
+            Timer.builder("dmaker.jdbc.time")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(usage.getElapsedMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.fastcampus.programming.dmaker.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * datasource-proxy listener. JdbcMetricsFilter 가 연 요청 범위(ThreadLocal) 안에서만 누적한다.
+ * batch 실행은 round trip 한 번으로 센다.
+ */
+public class JdbcMetricsListener implements QueryExecutionListener {
+
+    private static final ThreadLocal<JdbcUsage> CURRENT = new ThreadLocal<>();
+
+    public static JdbcUsage begin() {
+        JdbcUsage usage = new JdbcUsage();
+        CURRENT.set(usage);
+        return usage;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        JdbcUsage usage = CURRENT.get();
+        if (usage != null) {
+            usage.record(execInfo.getElapsedTime());
+        }
+    }
+}
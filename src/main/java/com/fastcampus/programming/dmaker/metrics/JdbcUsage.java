@@ -0,0 +1,17 @@
+package com.fastcampus.programming.dmaker.metrics;
+
+import lombok.Getter;
+
+/**
+ * 요청 하나 동안 실행된 JDBC statement 수와 실행 시간 누적값.
+ */
+@Getter
+public class JdbcUsage {
+    private int statementCount;
+    private long elapsedMillis;
+
+    void record(long elapsedMillis) {
+        this.statementCount++;
+        this.elapsedMillis += elapsedMillis;
+    }
+}
@@ -0,0 +1,90 @@
+package com.fastcampus.programming.dmaker.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 응답 시간으로 동시 처리 한도를 조절하는 gradient 방식 limit.
+ * 최근 응답 시간(short RTT)이 장기 평균(long RTT) * tolerance 보다 길어지면 그 비율만큼 limit 을 줄이고,
+ * 그렇지 않으면 sqrt(limit) 만큼 늘린다. write 는 limit 의 (1 - readReserve) 까지만 쓸 수 있어서
+ * write 가 몰려도 read 용 자리가 남는다.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    // long RTT 지수 이동 평균의 샘플 수
+    private static final double LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double readReserve;
+    private final double tolerance;
+    private final double smoothing;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile double limit;
+    // update() 안에서만 접근
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimit(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double readReserve,
+            double tolerance,
+            double smoothing
+    ) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.readReserve = readReserve;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+    }
+
+    public boolean tryAcquire(boolean write) {
+        double allowed = write ? Math.max(1, limit * (1 - readReserve)) : limit;
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // 응답 시간을 반영하지 않고 반환 (long-poll, streaming 처럼 처리 시간이 부하와 무관한 요청)
+    public void release() {
+        inflight.decrementAndGet();
+    }
+
+    public void release(long rttNanos) {
+        int inflightAtCompletion = inflight.getAndDecrement();
+        update(Math.max(rttNanos, 1L), inflightAtCompletion);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inflightAtCompletion) {
+        longRttNanos = longRttNanos == 0 ? rttNanos : longRttNanos + (rttNanos - longRttNanos) / LONG_WINDOW;
+        // 부하가 풀린 직후에는 long RTT 가 너무 커서 감소를 못 잡으므로 빠르게 따라 내려옴
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        // limit 의 절반도 안 쓰는 동안은 늘릴 근거가 없음
+        if (gradient >= 1.0 && inflightAtCompletion < limit / 2) {
+            return;
+        }
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
@@ -0,0 +1,257 @@
+package com.fastcampus.programming.dmaker.ratelimit;
+
+import com.fastcampus.programming.dmaker.dto.DMakerErrorResponse;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * /developers 요청의 admission control.
+ * 1. rule 이 있는 endpoint 는 (client, rule) 별 token bucket 을 통과해야 하며, 부족하면 429 + Retry-After.
+ * 2. 모든 요청은 AdaptiveConcurrencyLimit 의 자리를 잡아야 하며, 없으면 503 + Retry-After.
+ * 거절은 dmaker.rate-limit.rejected{reason, endpoint} 로 센다.
+ * client 는 인증된 principal, 없으면 remote address 로 구분한다. clientHeader 는 누구나 보낼 수 있으므로
+ * remote address 가 trustedProxies (gateway) 일 때만 그 값을 쓴다.
+ * rule 의 path 는 PathPattern 이며 Spring MVC 의 handler mapping 과 같은 방식으로 파싱한 경로
+ * (context path 제외, segment 별 decode, matrix 변수 제외) 와 비교한다.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_BUCKETS = 100_000;
+    private static final Duration BUCKET_IDLE_TIMEOUT = Duration.ofMinutes(10);
+    private static final long CONCURRENCY_RETRY_AFTER_SECONDS = 1;
+
+    private final String clientHeader;
+    private final TrustedProxies trustedProxies;
+    private final List<CompiledRule> rules = new ArrayList<>();
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 오래 안 쓴 bucket 은 어차피 가득 찬 상태이므로 버려도 동작이 같음
+    private final Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+            .maximumSize(MAX_BUCKETS)
+            .expireAfterAccess(BUCKET_IDLE_TIMEOUT)
+            .build();
+
+    public RateLimitFilter(
+            String clientHeader,
+            List<String> trustedProxies,
+            List<RateLimitProperties.Rule> rules,
+            AdaptiveConcurrencyLimit concurrencyLimit,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.clientHeader = clientHeader;
+        this.trustedProxies = TrustedProxies.of(trustedProxies);
+        for (RateLimitProperties.Rule rule : rules) {
+            if (rule.capacity() < 1 || rule.refillPerSecond() <= 0) {
+                throw new IllegalArgumentException("invalid rate limit rule: " + rule);
+            }
+            this.rules.add(new CompiledRule(this.rules.size(), rule,
+                    PathPatternParser.defaultInstance.parse(rule.path()), rule.method() + " " + rule.path()));
+        }
+        this.concurrencyLimit = concurrencyLimit;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+
+        if (concurrencyLimit != null) {
+            Gauge.builder("dmaker.concurrency.limit", concurrencyLimit, AdaptiveConcurrencyLimit::getLimit)
+                    .register(meterRegistry);
+            Gauge.builder("dmaker.concurrency.inflight", concurrencyLimit, AdaptiveConcurrencyLimit::getInflight)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !path(request).value().startsWith("/developers");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String client = client(request);
+        CompiledRule rule = match(client, request);
+        if (rule != null) {
+            long waitNanos = buckets.get(rule.id() + "|" + client,
+                            k -> new TokenBucket(rule.rule().capacity(), rule.rule().refillPerSecond(), System.nanoTime()))
+                    .tryAcquire(System.nanoTime());
+            if (waitNanos > 0) {
+                reject(response, HttpStatus.TOO_MANY_REQUESTS, DMakerErrorCode.TOO_MANY_REQUESTS,
+                        Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)),
+                        "rate_limit", rule.endpoint());
+                return;
+            }
+        }
+
+        if (concurrencyLimit == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean write = !isRead(request.getMethod());
+        if (!concurrencyLimit.tryAcquire(write)) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, DMakerErrorCode.SERVICE_UNAVAILABLE,
+                    CONCURRENCY_RETRY_AFTER_SECONDS, "concurrency", write ? "write" : "read");
+            return;
+        }
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            async = request.isAsyncStarted();
+        } finally {
+            if (async) {
+                // 비동기 응답(long-poll, streaming)은 끝날 때까지 자리를 잡고 있음,
+                // 대기 시간은 부하를 뜻하지 않으므로 RTT 로 쓰지 않음
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(concurrencyLimit));
+            } else {
+                concurrencyLimit.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private String client(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return principal.getName();
+        }
+        String remoteAddress = request.getRemoteAddr();
+        if (clientHeader != null && trustedProxies.contains(remoteAddress)) {
+            String client = request.getHeader(clientHeader);
+            if (client != null && !client.isBlank()) {
+                return client;
+            }
+        }
+        return remoteAddress;
+    }
+
+    // handler mapping 과 같은 경로로 비교해야 /developers;x=1/batch, /developers/%62atch 같은 표기로 rule 을 피하지 못함
+    private static PathContainer path(HttpServletRequest request) {
+        return RequestPath.parse(request.getRequestURI(), request.getContextPath()).pathWithinApplication();
+    }
+
+    // client 를 지정한 rule 이 기본 rule 보다 우선
+    private CompiledRule match(String client, HttpServletRequest request) {
+        PathContainer path = null;
+        CompiledRule fallback = null;
+        for (CompiledRule rule : rules) {
+            if (!rule.rule().method().equalsIgnoreCase(request.getMethod())) {
+                continue;
+            }
+            if (path == null) {
+                path = path(request);
+            }
+            if (!rule.pattern().matches(path)) {
+                continue;
+            }
+            if (client.equals(rule.rule().client())) {
+                return rule;
+            }
+            if (rule.rule().client() == null && fallback == null) {
+                fallback = rule;
+            }
+        }
+        return fallback;
+    }
+
+    private static boolean isRead(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+
+    private void reject(
+            HttpServletResponse response,
+            HttpStatus status,
+            DMakerErrorCode errorCode,
+            long retryAfterSeconds,
+            String reason,
+            String endpoint
+    ) throws IOException {
+        Counter.builder("dmaker.rate-limit.rejected")
+                .tag("reason", reason)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .increment();
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), DMakerErrorResponse.builder()
+                .errorCode(errorCode)
+                .errorMessage(errorCode.getMessage())
+                .build());
+    }
+
+    private record CompiledRule(int id, RateLimitProperties.Rule rule, PathPattern pattern, String endpoint) {
+    }
+
+    // complete / error / timeout 중 어느 것이 먼저 오든 한 번만 반납
+    private static final class ReleaseOnCompletion implements AsyncListener {
+
+        private final AdaptiveConcurrencyLimit concurrencyLimit;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleaseOnCompletion(AdaptiveConcurrencyLimit concurrencyLimit) {
+            this.concurrencyLimit = concurrencyLimit;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // AsyncContext 를 다시 시작해도 listener 는 그대로 두고 complete 를 기다림
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                concurrencyLimit.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.fastcampus.programming.dmaker.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * dmaker.rate-limit 설정. endpoint 별 rule 목록이라 @Value 대신 binding 으로 읽는다.
+ */
+@ConfigurationProperties("dmaker.rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        String clientHeader,
+        List<String> trustedProxies,
+        List<Rule> rules,
+        Concurrency concurrency
+) {
+
+    /**
+     * method + path pattern 별 token bucket. client 를 지정하면 해당 client 에만 적용되고 기본 rule 보다 우선한다.
+     */
+    public record Rule(
+            String client,
+            String method,
+            String path,
+            int capacity,
+            double refillPerSecond
+    ) {
+    }
+
+    public record Concurrency(
+            boolean enabled,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double readReserve,
+            double tolerance,
+            double smoothing
+    ) {
+    }
+}
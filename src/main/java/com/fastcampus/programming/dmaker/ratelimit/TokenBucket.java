@@ -0,0 +1,31 @@
+package com.fastcampus.programming.dmaker.ratelimit;
+
+/**
+ * capacity 만큼 burst 를 허용하고 초당 refillPerSecond 개씩 채워지는 bucket.
+ * 별도 타이머 없이 요청 시점에 지난 시간만큼 한꺼번에 채운다.
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNanos;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerNanos = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    // 토큰을 가져가면 0, 부족하면 다음 토큰이 생길 때까지 남은 시간(ns)
+    synchronized long tryAcquire(long nowNanos) {
+        tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * refillPerNanos);
+        lastRefillNanos = nowNanos;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0L;
+        }
+        return (long) Math.ceil((1 - tokens) / refillPerNanos);
+    }
+}
@@ -0,0 +1,91 @@
+package com.fastcampus.programming.dmaker.ratelimit;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * client header 를 믿어도 되는 proxy (gateway) 주소 목록. "10.0.0.5" 처럼 주소 하나 또는 "10.0.0.0/8" 처럼 CIDR.
+ * 주소 문자열만 해석하므로 DNS 조회는 하지 않는다.
+ */
+final class TrustedProxies {
+
+    private static final Pattern IPV4 = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}");
+
+    private final List<Range> ranges;
+
+    private TrustedProxies(List<Range> ranges) {
+        this.ranges = ranges;
+    }
+
+    static TrustedProxies of(List<String> proxies) {
+        List<Range> ranges = new ArrayList<>();
+        for (String proxy : proxies) {
+            if (proxy.isBlank()) {
+                continue;
+            }
+            int slash = proxy.indexOf('/');
+            byte[] address = parse(slash < 0 ? proxy : proxy.substring(0, slash));
+            int prefix = slash < 0 ? address.length * 8 : Integer.parseInt(proxy.substring(slash + 1));
+            if (prefix < 0 || prefix > address.length * 8) {
+                throw new IllegalArgumentException("invalid trusted proxy: " + proxy);
+            }
+            ranges.add(new Range(address, prefix));
+        }
+        return new TrustedProxies(ranges);
+    }
+
+    boolean contains(String remoteAddress) {
+        if (ranges.isEmpty() || remoteAddress == null) {
+            return false;
+        }
+        byte[] address;
+        try {
+            address = parse(remoteAddress);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        for (Range range : ranges) {
+            if (range.contains(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // IP literal 만 허용 (host 이름이면 InetAddress 가 DNS 를 조회하므로 거절, IPv6 는 ':' 를 포함)
+    private static byte[] parse(String address) {
+        String literal = address.trim();
+        if (!IPV4.matcher(literal).matches() && literal.indexOf(':') < 0) {
+            throw new IllegalArgumentException("not an IP address: " + address);
+        }
+        try {
+            return InetAddress.getByName(literal).getAddress();
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("not an IP address: " + address, e);
+        }
+    }
+
+    private record Range(byte[] network, int prefix) {
+
+        boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefix / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefix % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = 0xFF << (8 - remainingBits);
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.fastcampus.programming.dmaker.replica;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * client 별 마지막 쓰기 시각을 기억해 두고, 그 이후를 적용한 replica 에서만 읽게 한다.
+ * max-lag 보다 오래된 쓰기는 사용 가능한 replica 라면 모두 적용했으므로 그만큼만 보관한다.
+ * client 는 clientHeader 값, 없으면 remote address 로 구분한다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final String clientHeader;
+    private final Cache<String, Long> lastWrites;
+
+    public ReadYourWritesFilter(String clientHeader, Duration maxLag) {
+        this.clientHeader = clientHeader;
+        this.lastWrites = Caffeine.newBuilder()
+                .expireAfterWrite(maxLag)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String client = client(request);
+        Long writtenAt = lastWrites.getIfPresent(client);
+        ReplicaContext.begin(writtenAt == null ? 0L : writtenAt);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // commit 이후 시각이어야 이 시각 다음의 heartbeat 를 본 replica 가 쓰기를 포함함
+            if (ReplicaContext.end()) {
+                lastWrites.put(client, System.currentTimeMillis());
+            }
+        }
+    }
+
+    private String client(HttpServletRequest request) {
+        String client = clientHeader == null ? null : request.getHeader(clientHeader);
+        return client == null || client.isBlank() ? request.getRemoteAddr() : client;
+    }
+}
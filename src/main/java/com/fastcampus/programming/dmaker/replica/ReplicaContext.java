@@ -0,0 +1,79 @@
+package com.fastcampus.programming.dmaker.replica;
+
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 read-your-writes 상태. ReadYourWritesFilter 가 요청마다 열고 닫는다.
+ * 요청 밖(스케줄러 등)에서는 상태가 없으므로 제약 없이 replica 를 쓴다.
+ */
+public final class ReplicaContext {
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private ReplicaContext() {
+    }
+
+    /**
+     * @param writtenAt 이 client 가 마지막으로 쓴 시각 (epoch millis), 없으면 0
+     */
+    static void begin(long writtenAt) {
+        CURRENT.set(new State(writtenAt));
+    }
+
+    /**
+     * @return 이 요청에서 primary 에 쓰기 트랜잭션을 열었는지
+     */
+    static boolean end() {
+        State state = CURRENT.get();
+        CURRENT.remove();
+        return state != null && state.wrote;
+    }
+
+    /**
+     * readOnly 트랜잭션이라도 query 안의 조회는 primary 에서 실행.
+     * 여러 요청이 공유하는 캐시를 채우는 조회용 (replica 의 지연된 row 가 캐시에 남으면 다른 client 의 read-your-writes 가 깨짐)
+     */
+    public static <T> T onPrimary(Supplier<T> query) {
+        if (Boolean.TRUE.equals(PRIMARY_ONLY.get())) {
+            return query.get();
+        }
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            PRIMARY_ONLY.remove();
+        }
+    }
+
+    static boolean primaryOnly() {
+        return Boolean.TRUE.equals(PRIMARY_ONLY.get());
+    }
+
+    static long writtenAt() {
+        State state = CURRENT.get();
+        return state == null ? 0L : state.writtenAt;
+    }
+
+    static boolean wrote() {
+        State state = CURRENT.get();
+        return state != null && state.wrote;
+    }
+
+    static void markWritten() {
+        State state = CURRENT.get();
+        if (state != null) {
+            state.wrote = true;
+        }
+    }
+
+    private static final class State {
+
+        private final long writtenAt;
+        private boolean wrote;
+
+        private State(long writtenAt) {
+            this.writtenAt = writtenAt;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.fastcampus.programming.dmaker.replica;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * primary 와 replica 별 connection pool.
+ * DataSource bean 으로 등록하지 않아야 proxy BeanPostProcessor 들이 routing DataSource 한 곳에서만 감싼다.
+ */
+public class ReplicaDataSources implements DisposableBean {
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+
+    public ReplicaDataSources(DataSource primary, Map<String, DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+
+    public DataSource primary() {
+        return primary;
+    }
+
+    public Map<String, DataSource> replicas() {
+        return replicas;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            close(replica);
+        }
+        close(primary);
+    }
+
+    // pool 이 ConcurrencyLimitingDataSource 등으로 감싸져 있어도 실제 pool 을 닫음
+    private static void close(DataSource dataSource) throws Exception {
+        if (dataSource.isWrapperFor(AutoCloseable.class)) {
+            dataSource.unwrap(AutoCloseable.class).close();
+        }
+    }
+}
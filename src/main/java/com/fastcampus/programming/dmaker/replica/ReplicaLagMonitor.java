@@ -0,0 +1,116 @@
+package com.fastcampus.programming.dmaker.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * primary 의 replica_heartbeat 에 주기적으로 현재 시각을 쓰고, replica 에서 읽은 값으로 복제 지연을 잰다.
+ * replica 가 본 heartbeat 가 곧 그 replica 가 적용한 마지막 시점이다 (복제는 commit 순서).
+ * 첫 heartbeat 전이나 조회에 실패한 replica 는 사용하지 않는다.
+ * 시각은 애플리케이션 시계 기준이므로 인스턴스 간 시계가 맞아야 한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements InitializingBean {
+
+    private final JdbcTemplate primary;
+    private final Map<String, Replica> replicas = new LinkedHashMap<>();
+    private final long maxLagMillis;
+
+    public ReplicaLagMonitor(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            Duration maxLag,
+            MeterRegistry meterRegistry
+    ) {
+        this.primary = new JdbcTemplate(primary);
+        this.maxLagMillis = maxLag.toMillis();
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(new JdbcTemplate(dataSource));
+            this.replicas.put(name, replica);
+            Gauge.builder("dmaker.replica.lag", replica, r -> r.appliedAt == 0
+                            ? Double.NaN
+                            : (System.currentTimeMillis() - r.appliedAt) / 1000.0)
+                    .description("time since the last heartbeat this replica has applied")
+                    .baseUnit("seconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+            Gauge.builder("dmaker.replica.available", replica, r -> isAvailable(r, 0L) ? 1 : 0)
+                    .description("1 if reads may be routed to this replica")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        primary.execute("create table if not exists replica_heartbeat (id int primary key, beat_at bigint not null)");
+        heartbeat();
+    }
+
+    @Scheduled(fixedDelayString = "${dmaker.replica.heartbeat-interval-ms}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        if (primary.update("update replica_heartbeat set beat_at = ? where id = 1", now) == 0) {
+            primary.update("insert into replica_heartbeat (id, beat_at) values (1, ?)", now);
+        }
+
+        replicas.forEach((name, replica) -> {
+            try {
+                Long appliedAt = replica.jdbcTemplate.queryForObject(
+                        "select beat_at from replica_heartbeat where id = 1", Long.class);
+                replica.appliedAt = appliedAt == null ? 0L : appliedAt;
+                replica.down = false;
+            } catch (DataAccessException e) {
+                markDown(name);
+                log.warn("replica heartbeat failed, replica: {}, message: {}", name, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * lag 이 max-lag 이내이고, writtenAt 이후의 heartbeat 까지 적용한 replica 인지
+     */
+    public boolean isAvailable(String name, long writtenAt) {
+        Replica replica = replicas.get(name);
+        return replica != null && isAvailable(replica, writtenAt);
+    }
+
+    /**
+     * connection 을 얻지 못한 replica 는 다음 heartbeat 가 성공할 때까지 제외
+     */
+    public void markDown(String name) {
+        Replica replica = replicas.get(name);
+        if (replica != null) {
+            replica.down = true;
+        }
+    }
+
+    private boolean isAvailable(Replica replica, long writtenAt) {
+        long appliedAt = replica.appliedAt;
+        return !replica.down
+                && appliedAt != 0
+                && System.currentTimeMillis() - appliedAt <= maxLagMillis
+                && appliedAt > writtenAt;
+    }
+
+    private static final class Replica {
+
+        private final JdbcTemplate jdbcTemplate;
+        private volatile long appliedAt;
+        private volatile boolean down;
+
+        private Replica(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.fastcampus.programming.dmaker.replica;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * dmaker.replica 설정. primary 는 spring.datasource 를 그대로 쓰고 replica 목록만 추가로 받는다.
+ */
+@ConfigurationProperties("dmaker.replica")
+public record ReplicaProperties(
+        boolean enabled,
+        Duration maxLag,
+        String clientHeader,
+        List<Replica> replicas
+) {
+
+    public record Replica(
+            String name,
+            String url,
+            String username,
+            String password,
+            int maximumPoolSize
+    ) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.fastcampus.programming.dmaker.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * readOnly 트랜잭션은 replica 로, 나머지 (쓰기 트랜잭션, 트랜잭션 밖) 는 primary 로 connection 을 연다.
+ * 트랜잭션의 readOnly 여부는 트랜잭션 시작 후에 정해지므로 LazyConnectionDataSourceProxy 뒤에서 사용한다.
+ * replica 는 round robin 으로 고르고, 지연이 크거나 요청한 client 의 마지막 쓰기를 아직 적용하지 않았거나
+ * connection 을 얻지 못하면 primary 로 보낸다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<String> replicaNames;
+    private final List<DataSource> replicas;
+    private final ReplicaLagMonitor lagMonitor;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Counter> routeCounters = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            ReplicaLagMonitor lagMonitor,
+            MeterRegistry meterRegistry
+    ) {
+        this.primary = primary;
+        this.replicaNames = new ArrayList<>(replicas.keySet());
+        this.replicas = new ArrayList<>(replicas.values());
+        this.lagMonitor = lagMonitor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection connect(Connector connector) throws SQLException {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return connectPrimary(connector, "non-transactional");
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 같은 요청의 이후 조회와 이 client 의 다음 요청은 replica 가 따라올 때까지 primary 에서
+            ReplicaContext.markWritten();
+            return connectPrimary(connector, "write");
+        }
+        if (ReplicaContext.wrote()) {
+            return connectPrimary(connector, "read-your-writes");
+        }
+        if (ReplicaContext.primaryOnly()) {
+            return connectPrimary(connector, "shared-cache");
+        }
+
+        long writtenAt = ReplicaContext.writtenAt();
+        int start = next.getAndIncrement();
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = Math.floorMod(start + i, replicas.size());
+            String name = replicaNames.get(index);
+            if (!lagMonitor.isAvailable(name, writtenAt)) {
+                continue;
+            }
+            try {
+                Connection connection = connector.connect(replicas.get(index));
+                count(name, "read");
+                return connection;
+            } catch (SQLException e) {
+                lagMonitor.markDown(name);
+                log.warn("replica connection failed, replica: {}, message: {}", name, e.getMessage());
+            }
+        }
+        return connectPrimary(connector, writtenAt > 0 ? "read-your-writes" : "fallback");
+    }
+
+    private Connection connectPrimary(Connector connector, String reason) throws SQLException {
+        Connection connection = connector.connect(primary);
+        count(PRIMARY, reason);
+        return connection;
+    }
+
+    private void count(String pool, String reason) {
+        routeCounters.computeIfAbsent(pool + ":" + reason, key -> Counter.builder("dmaker.datasource.route")
+                        .description("connections handed out by the read/write routing DataSource")
+                        .tag("pool", pool)
+                        .tag("reason", reason)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    @FunctionalInterface
+    private interface Connector {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+}
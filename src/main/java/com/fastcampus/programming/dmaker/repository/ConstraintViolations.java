@@ -0,0 +1,36 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * DataIntegrityViolationException 이 어떤 제약조건 위반인지 확인.
+ * NOT NULL / 길이 위반 등까지 중복으로 바꾸지 않도록 unique index 이름으로 구분한다.
+ */
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * hibernate 가 추출한 제약조건 이름이 있으면 그것으로, 없으면 (R2DBC 등) 원인 메시지로 판단.
+     * DB 는 index 이름을 대문자 / schema 접두어를 붙여 보고하므로 대소문자 무시 부분 일치.
+     */
+    public static boolean isViolationOf(DataIntegrityViolationException e, String constraintName) {
+        String name = constraintName.toLowerCase(Locale.ROOT);
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(name);
+            }
+            if (cause.getMessage() != null && cause.getMessage().toLowerCase(Locale.ROOT).contains(name)) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+}
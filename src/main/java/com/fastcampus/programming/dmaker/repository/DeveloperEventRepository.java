@@ -0,0 +1,54 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperEventDto;
+import com.fastcampus.programming.dmaker.entity.DeveloperEvent;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DeveloperEventRepository extends JpaRepository<DeveloperEvent, Long> {
+
+    // relay: 아직 publish 되지 않은 이벤트를 insert 순서대로
+    List<DeveloperEvent> findTop500BySequenceNoIsNullOrderByIdAsc();
+
+    @Query("select coalesce(max(e.sequenceNo), 0) from DeveloperEvent e")
+    long findLastSequenceNo();
+
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperEventDto(" +
+            "e.sequenceNo, e.eventType, e.memberId, e.developerLevel, e.developerSkillType, " +
+            "e.experienceYears, e.statusCode, e.createdAt) " +
+            "from DeveloperEvent e where e.sequenceNo > :since order by e.sequenceNo")
+    List<DeveloperEventDto> findPublishedAfter(@Param("since") Long since, Pageable pageable);
+
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperEventDto(" +
+            "e.sequenceNo, e.eventType, e.memberId, e.developerLevel, e.developerSkillType, " +
+            "e.experienceYears, e.statusCode, e.createdAt) " +
+            "from DeveloperEvent e where e.sequenceNo > :since and e.eventType = :eventType order by e.sequenceNo")
+    List<DeveloperEventDto> findPublishedAfter(
+            @Param("since") Long since,
+            @Param("eventType") DeveloperEventType eventType,
+            Pageable pageable);
+
+    @Query("select count(e) from DeveloperEvent e where e.sequenceNo > :since and e.eventType = :eventType")
+    long countPublishedAfter(
+            @Param("since") Long since,
+            @Param("eventType") DeveloperEventType eventType);
+
+    // 마지막 이벤트는 남겨서 sequenceNo 가 처음부터 다시 시작하지 않도록 함 (since 가 의존)
+    // consumedUpTo 이후는 아직 처리하지 않은 consumer (OutboxOffset) 가 있으므로 보관 기간이 지나도 남김
+    @Modifying
+    @Query("delete from DeveloperEvent e where e.publishedAt < :publishedBefore " +
+            "and e.sequenceNo <= :consumedUpTo " +
+            "and e.sequenceNo < (select max(last.sequenceNo) from DeveloperEvent last)")
+    int deletePublishedBefore(
+            @Param("publishedBefore") LocalDateTime publishedBefore,
+            @Param("consumedUpTo") long consumedUpTo);
+}
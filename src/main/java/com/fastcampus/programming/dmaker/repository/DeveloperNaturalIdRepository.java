@@ -0,0 +1,18 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.entity.Developer;
+
+import java.util.Optional;
+
+public interface DeveloperNaturalIdRepository {
+
+    /**
+     * memberId (natural id) 로 조회. natural id 캐시 -> 엔티티 캐시 순으로 찾고 둘 다 없을 때만 DB 조회
+     */
+    Optional<Developer> findByMemberId(String memberId);
+
+    /**
+     * 캐시에서 읽은 엔티티를 DB 의 최신 row 로 다시 읽고 트랜잭션이 끝날 때까지 row lock 을 잡음
+     */
+    void refreshForUpdate(Developer developer);
+}
@@ -0,0 +1,30 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.entity.Developer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DeveloperNaturalIdRepositoryImpl implements DeveloperNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<Developer> findByMemberId(String memberId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Developer.class)
+                .loadOptional(memberId);
+    }
+
+    @Override
+    @Transactional
+    public void refreshForUpdate(Developer developer) {
+        entityManager.refresh(developer, LockModeType.PESSIMISTIC_WRITE);
+    }
+}
@@ -1,16 +1,100 @@
 package com.fastcampus.programming.dmaker.repository;
 
 import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.config.HibernateCacheConfig;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperFacetCountDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperVersionSumDto;
 import com.fastcampus.programming.dmaker.entity.Developer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface DeveloperRepository extends JpaRepository<Developer, Long> {
+public interface DeveloperRepository
+        extends JpaRepository<Developer, Long>, DeveloperSearchRepository, DeveloperNaturalIdRepository {
 
-    Optional<Developer> findByMemberId(String memberId);
-    List<Developer> findDevelopersByStatusCodeEquals(StatusCode statusCode);
+    boolean existsByMemberId(String memberId);
+
+    // DeveloperIndex 적재용, id 순 chunk 조회
+    List<Developer> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+
+    List<Developer> findAllByMemberIdIn(Collection<String> memberIds);
+
+    @Query("select d.memberId from Developer d where d.memberId in :memberIds")
+    Set<String> findExistingMemberIds(@Param("memberIds") Collection<String> memberIds);
+
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperFacetCountDto(" +
+            "d.developerLevel, d.developerSkillType, d.statusCode, d.experienceYears, count(d)) " +
+            "from Developer d " +
+            "group by d.developerLevel, d.developerSkillType, d.statusCode, d.experienceYears")
+    List<DeveloperFacetCountDto> countByFacets();
+
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperFacetCountDto(" +
+            "d.developerLevel, d.developerSkillType, d.statusCode, d.experienceYears, count(d)) " +
+            "from Developer d where d.memberId in :memberIds and d.statusCode = :statusCode " +
+            "group by d.developerLevel, d.developerSkillType, d.statusCode, d.experienceYears")
+    List<DeveloperFacetCountDto> countByFacets(
+            @Param("memberIds") Collection<String> memberIds,
+            @Param("statusCode") StatusCode statusCode);
+
+    // 목록 ETag 용 (DeveloperListVersion): insert 는 건수를, 수정/퇴직은 version 합을 바꿈
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperVersionSumDto(" +
+            "count(d), coalesce(sum(d.version), 0L)) from Developer d")
+    DeveloperVersionSumDto sumVersions();
+
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperDetailDto(" +
+            "d.developerLevel, d.developerSkillType, d.experienceYears, d.memberId, d.statusCode, d.name, d.age, d.version) " +
+            "from Developer d where d.memberId in :memberIds and d.statusCode = :statusCode")
+    List<DeveloperDetailDto> findDetailsByStatusCode(
+            @Param("memberIds") Collection<String> memberIds,
+            @Param("statusCode") StatusCode statusCode);
+
+    // bulk update 는 auditing 이 동작하지 않으므로 updatedAt 을 직접 갱신
+    @Modifying
+    @Query("update Developer d set d.statusCode = :to, d.version = d.version + 1, d.updatedAt = local datetime " +
+            "where d.memberId in :memberIds and d.statusCode = :from")
+    int updateStatusCode(
+            @Param("memberIds") Collection<String> memberIds,
+            @Param("from") StatusCode from,
+            @Param("to") StatusCode to);
+
+    // keyset pagination: id > cursor 조건으로 offset 없이 다음 페이지 조회
+    // 결과는 query cache 에 두고 Developer 가 바뀌면 Hibernate 가 무효화 (sharding / replica 에서는 꺼짐)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.DEVELOPER_LIST_REGION)
+    })
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperDto(" +
+            "d.id, d.developerLevel, d.developerSkillType, d.memberId) " +
+            "from Developer d where d.statusCode = :statusCode and d.id > :cursor order by d.id")
+    List<DeveloperDto> findDtosByStatusCodeAfter(
+            @Param("statusCode") StatusCode statusCode,
+            @Param("cursor") Long cursor,
+            Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperDto(" +
+            "d.id, d.developerLevel, d.developerSkillType, d.memberId) " +
+            "from Developer d where d.statusCode = :statusCode order by d.id")
+    Stream<DeveloperDto> streamDtosByStatusCode(@Param("statusCode") StatusCode statusCode);
+
+    // export: forward-only cursor 로 전체 명단을 id 순으로
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperDetailDto(" +
+            "d.developerLevel, d.developerSkillType, d.experienceYears, d.memberId, d.statusCode, d.name, d.age, d.version) " +
+            "from Developer d order by d.id")
+    Stream<DeveloperDetailDto> streamDetails();
 }
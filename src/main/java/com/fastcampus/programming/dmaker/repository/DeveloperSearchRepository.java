@@ -0,0 +1,49 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearchCondition;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearchCursor;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearchResultDto;
+
+import java.util.Comparator;
+import java.util.List;
+
+public interface DeveloperSearchRepository {
+
+    DeveloperSearchResultDto search(DeveloperSearchCondition condition);
+
+    /**
+     * search 와 같은 조건/정렬로 size + 1 건까지 정렬 기준 값과 함께 조회 (shard 별 결과를 합칠 때 사용)
+     */
+    List<Row> searchRows(DeveloperSearchCondition condition);
+
+    /**
+     * 정렬된 row 에서 size 건을 잘라 페이지와 다음 cursor 를 만든다.
+     */
+    static DeveloperSearchResultDto page(List<Row> rows, DeveloperSearchCondition condition) {
+        int size = condition.getSize();
+        boolean hasNext = rows.size() > size;
+        List<Row> page = hasNext ? rows.subList(0, size) : rows;
+
+        String next = null;
+        if (hasNext) {
+            Row last = page.get(size - 1);
+            next = DeveloperSearchCursor.encode(condition, last.sortValue(), last.developer().getId());
+        }
+
+        return DeveloperSearchResultDto.builder()
+                .developers(page.stream().map(Row::developer).toList())
+                .next(next)
+                .build();
+    }
+
+    record Row(DeveloperDto developer, Comparable<?> sortValue) {
+
+        // 오름차순 (정렬 기준, id)
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public static Comparator<Row> order() {
+            return Comparator.<Row, Comparable>comparing(row -> row.sortValue())
+                    .thenComparing(row -> row.developer().getId());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearchCondition;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearchCursor;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearchResultDto;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria 로 조건을 조합하고 (정렬 기준, id) keyset 으로 페이지를 자른다.
+ * 필요한 컬럼만 select 해서 DeveloperDto 로 매핑하며 엔티티는 만들지 않는다.
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DeveloperSearchRepositoryImpl implements DeveloperSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public DeveloperSearchResultDto search(DeveloperSearchCondition condition) {
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        return DeveloperSearchRepository.page(searchRows(condition), condition);
+    }
+
+    @Override
+    public List<Row> searchRows(DeveloperSearchCondition condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Developer> developer = query.from(Developer.class);
+
+        Path<Long> id = developer.get("id");
+        Path<?> sortPath = sortPath(developer, condition.getSort());
+        boolean ascending = condition.getDirection().isAscending();
+
+        List<Predicate> predicates = filters(cb, developer, condition);
+        if (condition.getCursor() != null) {
+            predicates.add(after(cb, developer, condition, ascending));
+        }
+
+        query.multiselect(
+                        id,
+                        developer.get("developerLevel"),
+                        developer.get("developerSkillType"),
+                        developer.get("memberId"),
+                        sortPath)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(
+                        ascending ? cb.asc(sortPath) : cb.desc(sortPath),
+                        ascending ? cb.asc(id) : cb.desc(id));
+
+        List<Tuple> tuples = entityManager.createQuery(query)
+                .setMaxResults(condition.getSize() + 1)
+                .getResultList();
+
+        List<Row> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            rows.add(new Row(
+                    DeveloperDto.builder()
+                            .id(tuple.get(0, Long.class))
+                            .developerLevel(tuple.get(1, DeveloperLevel.class))
+                            .developerSkillType(tuple.get(2, DeveloperSkillType.class))
+                            .memberId(tuple.get(3, String.class))
+                            .build(),
+                    (Comparable<?>) tuple.get(4)));
+        }
+        return rows;
+    }
+
+    private List<Predicate> filters(CriteriaBuilder cb, Root<Developer> developer, DeveloperSearchCondition condition) {
+        // 조건 순서는 복합 인덱스 (statusCode, developerLevel, developerSkillType, experienceYears) 순서
+        List<Predicate> predicates = new ArrayList<>();
+        if (condition.getStatusCode() != null) {
+            predicates.add(cb.equal(developer.get("statusCode"), condition.getStatusCode()));
+        }
+        if (condition.getDeveloperLevel() != null) {
+            predicates.add(cb.equal(developer.get("developerLevel"), condition.getDeveloperLevel()));
+        }
+        if (condition.getDeveloperSkillType() != null) {
+            predicates.add(cb.equal(developer.get("developerSkillType"), condition.getDeveloperSkillType()));
+        }
+        if (condition.getMinExperienceYears() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(
+                    developer.get("experienceYears"), condition.getMinExperienceYears()));
+        }
+        if (condition.getMaxExperienceYears() != null) {
+            predicates.add(cb.lessThanOrEqualTo(
+                    developer.get("experienceYears"), condition.getMaxExperienceYears()));
+        }
+        if (condition.getNamePrefix() != null && !condition.getNamePrefix().isEmpty()) {
+            predicates.add(cb.like(developer.get("name"), escapeLike(condition.getNamePrefix()) + "%", '\\'));
+        }
+        return predicates;
+    }
+
+    private Predicate after(
+            CriteriaBuilder cb,
+            Root<Developer> developer,
+            DeveloperSearchCondition condition,
+            boolean ascending
+    ) {
+        DeveloperSearchCursor cursor = DeveloperSearchCursor.decode(condition);
+        Long lastId = cursor.getId();
+
+        Path<Long> id = developer.get("id");
+        Predicate idAfter = ascending ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+
+        return switch (condition.getSort()) {
+            case ID -> idAfter;
+            case EXPERIENCE_YEARS -> after(cb, developer.get("experienceYears"),
+                    cursor.intValue(), idAfter, ascending);
+            case MEMBER_ID -> after(cb, developer.get("memberId"), cursor.getValue(), idAfter, ascending);
+        };
+    }
+
+    private <T extends Comparable<? super T>> Predicate after(
+            CriteriaBuilder cb,
+            Path<T> path,
+            T value,
+            Predicate idAfter,
+            boolean ascending
+    ) {
+        Predicate beyond = ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+        return cb.or(beyond, cb.and(cb.equal(path, value), idAfter));
+    }
+
+    private Path<?> sortPath(Root<Developer> developer, DeveloperSearchCondition.SortField sort) {
+        return switch (sort) {
+            case ID -> developer.get("id");
+            case EXPERIENCE_YEARS -> developer.get("experienceYears");
+            case MEMBER_ID -> developer.get("memberId");
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
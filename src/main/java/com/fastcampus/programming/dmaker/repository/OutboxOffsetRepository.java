@@ -0,0 +1,28 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.entity.OutboxOffset;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface OutboxOffsetRepository extends JpaRepository<OutboxOffset, String> {
+
+    // 모든 consumer 가 처리한 마지막 sequenceNo, consumer 가 없으면 null (lastSequenceNo 가 없는 lock row 는 제외됨)
+    @Query("select min(o.lastSequenceNo) from OutboxOffset o")
+    Long findMinLastSequenceNo();
+
+    // FOR UPDATE SKIP LOCKED (-2 = LockOptions.SKIP_LOCKED), 다른 트랜잭션이 잡고 있으면 empty
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("select o from OutboxOffset o where o.consumer = :consumer")
+    Optional<OutboxOffset> lockByConsumer(@Param("consumer") String consumer);
+}
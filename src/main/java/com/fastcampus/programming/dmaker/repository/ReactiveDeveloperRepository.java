@@ -0,0 +1,173 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * reactive API 용 R2DBC 조회/수정. JPA 가 만든 테이블을 같은 DB 에서 그대로 쓰고
+ * DeveloperRepository / DeveloperEventRepository 의 projection, 조건부 update 와 같은 SQL 을 실행한다.
+ * id 는 sequence 에서 받은 값을 그대로 쓴다: Hibernate pooled optimizer 는 그 값이 속한 구간을 받지 않으므로 겹치지 않는다.
+ */
+public class ReactiveDeveloperRepository {
+
+    private static final String DETAIL_COLUMNS =
+            "developer_level, developer_skill_type, experience_years, member_id, status_code, name, age, version";
+    private static final String DTO_COLUMNS = "id, developer_level, developer_skill_type, member_id";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveDeveloperRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<Boolean> existsByMemberId(String memberId) {
+        return databaseClient.sql("select count(*) from developer where member_id = :memberId")
+                .bind("memberId", memberId)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(count -> count > 0);
+    }
+
+    public Mono<Developer> insert(Developer developer) {
+        LocalDateTime now = LocalDateTime.now();
+        return databaseClient.sql("insert into developer (id, " + DETAIL_COLUMNS + ", created_at, updated_at) " +
+                        "values (next value for developer_seq, :developerLevel, :developerSkillType, :experienceYears, " +
+                        ":memberId, :statusCode, :name, :age, 0, :now, :now)")
+                .bind("developerLevel", developer.getDeveloperLevel().name())
+                .bind("developerSkillType", developer.getDeveloperSkillType().name())
+                .bind("experienceYears", developer.getExperienceYears())
+                .bind("memberId", developer.getMemberId())
+                .bind("statusCode", developer.getStatusCode().name())
+                .bind("name", developer.getName())
+                .bind("age", developer.getAge())
+                .bind("now", now)
+                .fetch()
+                .rowsUpdated()
+                .map(inserted -> {
+                    developer.setVersion(0L);
+                    developer.setCreatedAt(now);
+                    developer.setUpdatedAt(now);
+                    return developer;
+                });
+    }
+
+    public Mono<DeveloperDetailDto> findDetailByMemberId(String memberId) {
+        return databaseClient.sql("select " + DETAIL_COLUMNS + " from developer where member_id = :memberId")
+                .bind("memberId", memberId)
+                .map(ReactiveDeveloperRepository::toDetail)
+                .one();
+    }
+
+    // keyset pagination, DeveloperRepository.findDtosByStatusCodeAfter 와 같은 조건
+    public Flux<DeveloperDto> findDtosByStatusCodeAfter(StatusCode statusCode, long cursor, int limit) {
+        return databaseClient.sql("select " + DTO_COLUMNS + " from developer " +
+                        "where status_code = :statusCode and id > :cursor order by id fetch first :limit rows only")
+                .bind("statusCode", statusCode.name())
+                .bind("cursor", cursor)
+                .bind("limit", limit)
+                .map(ReactiveDeveloperRepository::toDto)
+                .all();
+    }
+
+    // 구독자가 요청한 만큼만 row 를 읽어 내려보냄 (느린 client 면 DB 읽기도 멈춤)
+    public Flux<DeveloperDto> streamDtosByStatusCode(StatusCode statusCode) {
+        return databaseClient.sql("select " + DTO_COLUMNS + " from developer where status_code = :statusCode order by id")
+                .bind("statusCode", statusCode.name())
+                .map(ReactiveDeveloperRepository::toDto)
+                .all();
+    }
+
+    // version 조건부 UPDATE, 0 이면 다른 요청이 먼저 수정했거나 없는 개발자
+    public Mono<Long> updateProfile(
+            String memberId,
+            Long version,
+            DeveloperLevel developerLevel,
+            DeveloperSkillType developerSkillType,
+            Integer experienceYears
+    ) {
+        return databaseClient.sql("update developer set developer_level = :developerLevel, " +
+                        "developer_skill_type = :developerSkillType, experience_years = :experienceYears, " +
+                        "version = version + 1, updated_at = :now " +
+                        "where member_id = :memberId and version = :version")
+                .bind("developerLevel", developerLevel.name())
+                .bind("developerSkillType", developerSkillType.name())
+                .bind("experienceYears", experienceYears)
+                .bind("now", LocalDateTime.now())
+                .bind("memberId", memberId)
+                .bind("version", version)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> updateStatusCode(String memberId, Long version, StatusCode to) {
+        return databaseClient.sql("update developer set status_code = :to, version = version + 1, updated_at = :now " +
+                        "where member_id = :memberId and version = :version")
+                .bind("to", to.name())
+                .bind("now", LocalDateTime.now())
+                .bind("memberId", memberId)
+                .bind("version", version)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> archive(String memberId, String name) {
+        LocalDateTime now = LocalDateTime.now();
+        return databaseClient.sql("insert into retired_developer (member_id, name, created_at, updated_at) " +
+                        "values (:memberId, :name, :now, :now)")
+                .bind("memberId", memberId)
+                .bind("name", name)
+                .bind("now", now)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    // DeveloperOutbox 와 같은 이벤트 (name / age 는 싣지 않음), sequenceNo 는 relay 가 부여
+    public Mono<Long> appendEvent(DeveloperEventType eventType, DeveloperDetailDto developer) {
+        return databaseClient.sql("insert into developer_event (id, event_type, member_id, developer_level, " +
+                        "developer_skill_type, experience_years, status_code, created_at) " +
+                        "values (next value for developer_event_seq, :eventType, :memberId, :developerLevel, " +
+                        ":developerSkillType, :experienceYears, :statusCode, :now)")
+                .bind("eventType", eventType.name())
+                .bind("memberId", developer.getMemberId())
+                .bind("developerLevel", developer.getDeveloperLevel().name())
+                .bind("developerSkillType", developer.getDeveloperSkillType().name())
+                .bind("experienceYears", developer.getExperienceYears())
+                .bind("statusCode", developer.getStatusCode().name())
+                .bind("now", LocalDateTime.now())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static DeveloperDetailDto toDetail(Readable row) {
+        return DeveloperDetailDto.builder()
+                .developerLevel(DeveloperLevel.valueOf(row.get("developer_level", String.class)))
+                .developerSkillType(DeveloperSkillType.valueOf(row.get("developer_skill_type", String.class)))
+                .experienceYears(row.get("experience_years", Integer.class))
+                .memberId(row.get("member_id", String.class))
+                .statusCode(StatusCode.valueOf(row.get("status_code", String.class)))
+                .name(row.get("name", String.class))
+                .age(row.get("age", Integer.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+
+    private static DeveloperDto toDto(Readable row) {
+        return DeveloperDto.builder()
+                .id(row.get("id", Long.class))
+                .developerLevel(DeveloperLevel.valueOf(row.get("developer_level", String.class)))
+                .developerSkillType(DeveloperSkillType.valueOf(row.get("developer_skill_type", String.class)))
+                .memberId(row.get("member_id", String.class))
+                .build();
+    }
+}
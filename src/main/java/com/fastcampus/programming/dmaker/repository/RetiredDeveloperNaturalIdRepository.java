@@ -0,0 +1,10 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.entity.RetiredDeveloper;
+
+import java.util.Optional;
+
+public interface RetiredDeveloperNaturalIdRepository {
+
+    Optional<RetiredDeveloper> findByMemberId(String memberId);
+}
@@ -0,0 +1,23 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.entity.RetiredDeveloper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RetiredDeveloperNaturalIdRepositoryImpl implements RetiredDeveloperNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<RetiredDeveloper> findByMemberId(String memberId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(RetiredDeveloper.class)
+                .loadOptional(memberId);
+    }
+}
@@ -1,14 +1,27 @@
 package com.fastcampus.programming.dmaker.repository;
 
-import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.code.StatusCode;
 import com.fastcampus.programming.dmaker.entity.RetiredDeveloper;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.Collection;
 
 @Repository
-public interface RetiredDeveloperRepository extends JpaRepository<RetiredDeveloper, Long> {
+public interface RetiredDeveloperRepository
+        extends JpaRepository<RetiredDeveloper, Long>, RetiredDeveloperNaturalIdRepository {
 
-    Optional<Developer> findByMemberId(String memberId);
+    // 엔티티 로딩 없이 Developer -> RetiredDeveloper 로 INSERT ... SELECT
+    // 이미 archive 된 memberId 는 건너뛰므로 같은 이벤트를 다시 처리하거나 단건 퇴직과 겹쳐도 unique 위반이 없음
+    @Modifying
+    @Query("insert into RetiredDeveloper (memberId, name, createdAt, updatedAt) " +
+            "select d.memberId, d.name, local datetime, local datetime from Developer d " +
+            "where d.memberId in :memberIds and d.statusCode = :statusCode " +
+            "and not exists (select r.id from RetiredDeveloper r where r.memberId = d.memberId)")
+    int archiveDevelopersIfAbsent(
+            @Param("memberIds") Collection<String> memberIds,
+            @Param("statusCode") StatusCode statusCode);
 }
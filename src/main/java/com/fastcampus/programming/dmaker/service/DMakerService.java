@@ -1,32 +1,64 @@
 package com.fastcampus.programming.dmaker.service;
 
 import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.config.CacheConfig;
 import com.fastcampus.programming.dmaker.dto.*;
 import com.fastcampus.programming.dmaker.entity.Developer;
 import com.fastcampus.programming.dmaker.entity.RetiredDeveloper;
 import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
 import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.replica.ReplicaContext;
+import com.fastcampus.programming.dmaker.repository.ConstraintViolations;
 import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.repository.DeveloperSearchRepository;
 import com.fastcampus.programming.dmaker.repository.RetiredDeveloperRepository;
-import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DMakerService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final DeveloperRepository developerRepository;
     private final RetiredDeveloperRepository retiredDeveloperRepository;
+    private final CacheManager cacheManager;
+    private final DeveloperStatistics developerStatistics;
+    private final DeveloperListVersion developerListVersion;
+    private final DeveloperIndex developerIndex;
+    private final DeveloperOutbox developerOutbox;
+    private final DeveloperLevelPolicy developerLevelPolicy;
+    private final DeveloperShards developerShards;
+
+    @Value("${dmaker.archive.async:false}")
+    private boolean archiveAsync;
 
+    // 단건 쓰기/조회는 memberId 의 shard 에서만 실행 (트랜잭션의 첫 쿼리 전에 shard 를 정함)
     @Transactional
     public CreateDeveloper.Response createDeveloper(CreateDeveloper.Request request) {
+        return developerShards.onMember(request.getMemberId(), () -> create(request));
+    }
+
+    private CreateDeveloper.Response create(CreateDeveloper.Request request) {
         validateCreateDeveloperRequest(request);
         // business logic start
         Developer developer = Developer.builder()
@@ -38,80 +70,205 @@ public class DMakerService {
                 .age(request.getAge())
                 .statusCode(StatusCode.EMPLOYED)
                 .build();
-        developerRepository.save(developer);
+        try {
+            developerRepository.saveAndFlush(developer);
+        } catch (DataIntegrityViolationException e) {
+            // 동시 요청이 exists 검사를 통과한 경우 unique index 에서 걸러짐, 다른 제약조건 위반은 그대로 전파
+            if (!ConstraintViolations.isViolationOf(e, Developer.MEMBER_ID_UNIQUE_INDEX)) {
+                throw e;
+            }
+            throw new DMakerException(DMakerErrorCode.DUPLICATED_MEMBER_ID);
+        }
+
+        DeveloperDetailDto developerDetail = DeveloperDetailDto.fromEntity(developer);
+        developerStatistics.add(developerDetail);
+        developerIndex.put(developer);
+        developerOutbox.append(DeveloperEventType.CREATED, developerDetail);
+
+        Cache developerDetailCache = cacheManager.getCache(CacheConfig.DEVELOPER_DETAIL);
+        if (developerDetailCache != null) {
+            developerDetailCache.put(developer.getMemberId(), developerDetail);
+        }
         return CreateDeveloper.Response.fromEntity(developer);
     }
 
     public void validateCreateDeveloperRequest(CreateDeveloper.Request request){
 
-        validateDeveloperLevel(request.getDeveloperLevel(), request.getExperienceYears());
-
-        developerRepository.findByMemberId(request.getMemberId())
-                .ifPresent(developer -> {
-                    throw new DMakerException(DMakerErrorCode.DUPLICATED_MEMBER_ID);
-                });
+        developerLevelPolicy.validate(request.getDeveloperLevel(), request.getExperienceYears());
 
+        if (developerRepository.existsByMemberId(request.getMemberId())) {
+            throw new DMakerException(DMakerErrorCode.DUPLICATED_MEMBER_ID);
         }
+    }
 
-    private void validateDeveloperLevel(DeveloperLevel developerLevel, Integer experienceYears) {
-        if(developerLevel == DeveloperLevel.SENIOR && experienceYears < 10 ||
-                developerLevel == DeveloperLevel.JUNGIOR && (experienceYears < 4 || experienceYears > 10) ||
-                developerLevel == DeveloperLevel.JUNIOR && experienceYears > 4
-        ){
-            throw new DMakerException(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED,
-                    DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED.getMessage());
+    // 조회 메서드는 서비스 트랜잭션을 열지 않음: index 에서 응답하면 connection 을 잡지 않고,
+    // DB 조회만 shard 별 readOnly 트랜잭션으로 flush/dirty checking 없이 projection 으로 바로 DTO 조회
+    public DeveloperPageDto getAllEmployedDevelopers(Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        if (developerIndex.isReady()) {
+            return developerIndex.page(StatusCode.EMPLOYED, cursor == null ? 0L : cursor, pageSize);
         }
 
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단, shard 별 결과를 id 순으로 합침
+        List<DeveloperDto> developers = developerShards.scatterRead(shard ->
+                        developerRepository.findDtosByStatusCodeAfter(
+                                StatusCode.EMPLOYED,
+                                cursor == null ? 0L : cursor,
+                                PageRequest.ofSize(pageSize + 1)))
+                .stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparing(DeveloperDto::getId))
+                .limit(pageSize + 1)
+                .toList();
+
+        boolean hasNext = developers.size() > pageSize;
+        List<DeveloperDto> page = hasNext ? developers.subList(0, pageSize) : developers;
+
+        return DeveloperPageDto.builder()
+                .developers(page)
+                .next(hasNext ? page.get(pageSize - 1).getId() : null)
+                .build();
+    }
+
+    // stream 은 shard 순서대로 하나씩 (shard 안에서만 id 순)
+    public void streamAllEmployedDevelopers(Consumer<DeveloperDto> consumer) {
+        developerShards.readEach(shard -> {
+            try (Stream<DeveloperDto> developers =
+                         developerRepository.streamDtosByStatusCode(StatusCode.EMPLOYED)) {
+                developers.forEach(consumer);
+            }
+        });
     }
 
-    public List<DeveloperDto> getAllEmployedDevelopers() {
-        return developerRepository.findDevelopersByStatusCodeEquals(StatusCode.EMPLOYED)
-                .stream().map(DeveloperDto::fromEntity)
-                .collect(Collectors.toList());
+    public void exportDevelopers(Consumer<DeveloperDetailDto> consumer) {
+        developerShards.readEach(shard -> {
+            try (Stream<DeveloperDetailDto> developers = developerRepository.streamDetails()) {
+                developers.forEach(consumer);
+            }
+        });
     }
 
+    // sync = true: cold key 에 대한 동시 요청은 한 번만 DB 조회
+    // 결과가 모든 client 가 공유하는 상세 캐시에 들어가므로 miss 조회는 replica 가 아닌 primary 에서
+    @Cacheable(cacheNames = CacheConfig.DEVELOPER_DETAIL, key = "#memberId", sync = true)
     public DeveloperDetailDto getDeveloperDetail(String memberId) {
-        return developerRepository.findByMemberId(memberId)
-                .map(DeveloperDetailDto::fromEntity)
+        if (developerIndex.isReady()) {
+            return developerIndex.findDetail(memberId)
+                    .orElseThrow(() -> new DMakerException(DMakerErrorCode.NO_DEVELOPER));
+        }
+        // natural id / 2차 캐시를 거치도록 엔티티로 조회
+        return ReplicaContext.onPrimary(() -> developerShards.readOnMember(memberId,
+                        () -> developerRepository.findByMemberId(memberId).map(DeveloperDetailDto::fromEntity)))
                 .orElseThrow(() -> new DMakerException(DMakerErrorCode.NO_DEVELOPER));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.DEVELOPER_DETAIL, key = "#memberId")
     @Transactional
     public DeveloperDetailDto editDeveloper(
             EditDeveloper.Request request,
-            String memberId
+            String memberId,
+            Long expectedVersion
         ) {
+        return developerShards.onMember(memberId, () -> edit(request, memberId, expectedVersion));
+    }
+
+    private DeveloperDetailDto edit(EditDeveloper.Request request, String memberId, Long expectedVersion) {
         validateEditDeveloperRequest(request, memberId);
 
-        // 선언식 코드
+        // natural id / 2차 캐시에서 찾으므로 캐시에 있으면 수정 전 조회 없이 version 조건부 UPDATE 한 번,
+        // 엔티티로 수정해야 Hibernate 가 2차 캐시의 이 row 만 갱신함 (bulk update 는 Developer 영역 전체를 비움)
         Developer developer = developerRepository.findByMemberId(memberId)
                 .orElseThrow(() -> new DMakerException(DMakerErrorCode.NO_DEVELOPER));
+        // If-Match 가 없거나 캐시의 version 과 다르면 (캐시가 늦었을 수 있음) 최신 row 를 lock 걸고 다시 읽음
+        if (expectedVersion == null || !expectedVersion.equals(developer.getVersion())) {
+            developerRepository.refreshForUpdate(developer);
+        }
+        if (expectedVersion != null && !expectedVersion.equals(developer.getVersion())) {
+            throw new DMakerException(DMakerErrorCode.VERSION_CONFLICT);
+        }
 
+        developerStatistics.remove(DeveloperDetailDto.fromEntity(developer));
         developer.setDeveloperLevel(request.getDeveloperLevel());
         developer.setDeveloperSkillType(request.getDeveloperSkillType());
         developer.setExperienceYears(request.getExperienceYears());
+        try {
+            // 바뀐 version 을 응답 / index / outbox 에 쓰기 위해 여기서 UPDATE
+            developerRepository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            // lock 없이 캐시의 version 으로 수정하는 사이 다른 요청이 먼저 수정
+            throw new DMakerException(DMakerErrorCode.VERSION_CONFLICT);
+        }
 
-        return DeveloperDetailDto.fromEntity(developer);
+        DeveloperDetailDto edited = DeveloperDetailDto.fromEntity(developer);
+        developerStatistics.add(edited);
+        developerIndex.put(developer);
+        developerOutbox.append(DeveloperEventType.EDITED, edited);
+        return edited;
     }
 
     private void validateEditDeveloperRequest(EditDeveloper.Request request, String memberId) {
-        validateDeveloperLevel(request.getDeveloperLevel(), request.getExperienceYears());
+        developerLevelPolicy.validate(request.getDeveloperLevel(), request.getExperienceYears());
 
     }
 
+    @CacheEvict(cacheNames = CacheConfig.DEVELOPER_DETAIL, key = "#memberId")
     @Transactional
     public DeveloperDetailDto deleteDeveloper(String memberId) {
+        return developerShards.onMember(memberId, () -> retire(memberId));
+    }
+
+    private DeveloperDetailDto retire(String memberId) {
         // 1. EMPLOYED -> RETIRED
         Developer developer = developerRepository.findByMemberId(memberId)
+                .filter(found -> found.getStatusCode() != StatusCode.RETIRED)
                 .orElseThrow(() -> new DMakerException(DMakerErrorCode.NO_DEVELOPER));
+        developerStatistics.remove(DeveloperDetailDto.fromEntity(developer));
         developer.setStatusCode(StatusCode.RETIRED);
+        DeveloperDetailDto retired = DeveloperDetailDto.fromEntity(developer);
+        developerStatistics.add(retired);
+        developerIndex.put(developer);
+        developerOutbox.append(DeveloperEventType.RETIRED, retired);
 
-        // 2. save into RetiredDeveloper
-        RetiredDeveloper retiredDeveloper = RetiredDeveloper.builder()
-                                                            .memberId(memberId)
-                                                            .name(developer.getName())
-                                                            .build();
-        retiredDeveloperRepository.save(retiredDeveloper);
+        // 2. save into RetiredDeveloper (async 모드면 RetiredDeveloperArchiver 가 outbox 이벤트로 처리)
+        if (!archiveAsync) {
+            RetiredDeveloper retiredDeveloper = RetiredDeveloper.builder()
+                                                                .memberId(memberId)
+                                                                .name(developer.getName())
+                                                                .build();
+            retiredDeveloperRepository.save(retiredDeveloper);
+        }
         return DeveloperDetailDto.fromEntity(developer);
     }
+
+    public DeveloperSearchResultDto searchDevelopers(DeveloperSearchCondition condition) {
+        if (condition.getMinExperienceYears() != null
+                && condition.getMaxExperienceYears() != null
+                && condition.getMinExperienceYears() > condition.getMaxExperienceYears()) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "minExperienceYears 가 maxExperienceYears 보다 큽니다.");
+        }
+        if (developerIndex.isReady() && developerIndex.supports(condition)) {
+            return developerIndex.search(condition);
+        }
+        if (!developerShards.isSharded()) {
+            return developerRepository.search(condition);
+        }
+        // shard 마다 다음 페이지 판단용 한 건까지 조회해서 (정렬 기준, id) 순으로 합침
+        Comparator<DeveloperSearchRepository.Row> order = DeveloperSearchRepository.Row.order();
+        List<DeveloperSearchRepository.Row> rows = developerShards.scatterRead(shard ->
+                        developerRepository.searchRows(condition))
+                .stream()
+                .flatMap(List::stream)
+                .sorted(condition.getDirection().isAscending() ? order : order.reversed())
+                .toList();
+        return DeveloperSearchRepository.page(rows, condition);
+    }
+
+    // 목록 ETag 용, Developer 의 건수와 version 합 (ttl 동안 재사용)
+    public String getDevelopersVersion() {
+        return developerListVersion.get();
+    }
+
+    public DeveloperStatisticsDto getDeveloperStatistics() {
+        return developerStatistics.snapshot();
+    }
 }
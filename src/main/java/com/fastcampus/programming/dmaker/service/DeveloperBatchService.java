@@ -0,0 +1,567 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.config.CacheConfig;
+import com.fastcampus.programming.dmaker.dto.BatchCreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperFacetCountDto;
+import com.fastcampus.programming.dmaker.dto.ImportDevelopers;
+import com.fastcampus.programming.dmaker.dto.RetireDevelopers;
+import com.fastcampus.programming.dmaker.dto.ValidateDevelopers;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.repository.ConstraintViolations;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.repository.RetiredDeveloperRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeveloperBatchService {
+
+    private static final int RETIRE_MAX_ATTEMPTS = 3;
+    private static final int UPSERT_ROW_MAX_ATTEMPTS = 3;
+
+    private final DeveloperRepository developerRepository;
+    private final RetiredDeveloperRepository retiredDeveloperRepository;
+    private final DeveloperLevelPolicy developerLevelPolicy;
+    private final CacheManager cacheManager;
+    private final DeveloperStatistics developerStatistics;
+    private final DeveloperIndex developerIndex;
+    private final DeveloperOutbox developerOutbox;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final DeveloperShards developerShards;
+
+    @Value("${dmaker.batch.chunk-size}")
+    private int chunkSize;
+
+    @Value("${dmaker.archive.async:false}")
+    private boolean archiveAsync;
+
+    /**
+     * chunk 단위로 검증 후 JDBC batch insert, chunk 마다 (sharding 이면 chunk 의 shard 마다) 별도 트랜잭션.
+     * 실패한 항목은 건너뛰고 항목별 결과를 반환한다.
+     */
+    public BatchCreateDeveloper.Response createDevelopers(Iterator<CreateDeveloper.Request> requests) {
+        List<BatchCreateDeveloper.Result> results = new ArrayList<>();
+        Set<String> seenMemberIds = new HashSet<>();
+        List<CreateDeveloper.Request> chunk = new ArrayList<>(chunkSize);
+
+        while (requests.hasNext()) {
+            chunk.add(requests.next());
+            if (chunk.size() == chunkSize) {
+                results.addAll(createChunk(chunk, results.size(), seenMemberIds));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(createChunk(chunk, results.size(), seenMemberIds));
+        }
+
+        int createdCount = (int) results.stream().filter(BatchCreateDeveloper.Result::isCreated).count();
+        return BatchCreateDeveloper.Response.builder()
+                .createdCount(createdCount)
+                .failedCount(results.size() - createdCount)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * 저장 없이 createDevelopers 와 같은 검증만 수행 (bean validation, 레벨/연차 규칙, 요청 내 memberId 중복).
+     * DB 를 조회하지 않으므로 기존 memberId 와의 중복은 확인하지 않는다.
+     */
+    public ValidateDevelopers.Response validateDevelopers(Iterator<CreateDeveloper.Request> requests) {
+        List<ValidateDevelopers.Result> failures = new ArrayList<>();
+        Set<String> seenMemberIds = new HashSet<>();
+        int index = 0;
+
+        while (requests.hasNext()) {
+            CreateDeveloper.Request request = requests.next();
+            DMakerException error = validate(request, seenMemberIds);
+            if (error != null) {
+                failures.add(ValidateDevelopers.Result.builder()
+                        .index(index)
+                        .memberId(request.getMemberId())
+                        .errorCode(error.getDMakerErrorCode())
+                        .errorMessage(error.getDetailMessage())
+                        .build());
+            }
+            index++;
+        }
+
+        return ValidateDevelopers.Response.builder()
+                .validCount(index - failures.size())
+                .invalidCount(failures.size())
+                .failures(failures)
+                .build();
+    }
+
+    /**
+     * shard 별 chunk 마다 재직 중인 개발자를 DTO 로 조회한 뒤 UPDATE ... WHERE memberId IN (...) 한 번으로 퇴직시키고,
+     * 이어서 INSERT ... SELECT 한 번으로 RetiredDeveloper 를 만든다 (async 모드면 생략).
+     * 마지막으로 바뀐 version 을 다시 읽어 index/outbox 에 반영한다. 엔티티는 로딩하지 않는다.
+     */
+    public RetireDevelopers.Response retireDevelopers(List<String> memberIds) {
+        List<String> distinctMemberIds = new ArrayList<>(new LinkedHashSet<>(memberIds));
+        List<String> missingMemberIds = new ArrayList<>();
+        int retiredCount = 0;
+
+        for (int from = 0; from < distinctMemberIds.size(); from += chunkSize) {
+            List<String> chunk = distinctMemberIds.subList(from, Math.min(from + chunkSize, distinctMemberIds.size()));
+            for (Map.Entry<String, List<String>> shard :
+                    developerShards.partition(chunk, memberId -> memberId).entrySet()) {
+                retiredCount += retireChunk(shard.getKey(), shard.getValue(), missingMemberIds);
+            }
+        }
+
+        return RetireDevelopers.Response.builder()
+                .retiredCount(retiredCount)
+                .missingMemberIds(missingMemberIds)
+                .build();
+    }
+
+    // 조회 이후 다른 요청 (단건 퇴직 등) 이 같은 개발자를 먼저 퇴직시키면 chunk 를 롤백하고 다시 조회
+    private int retireChunk(String shard, List<String> chunk, List<String> missingMemberIds) {
+        for (int attempt = 1; ; attempt++) {
+            List<String> missing = new ArrayList<>();
+            try {
+                Integer retired = developerShards.on(shard, () ->
+                        transactionTemplate.execute(status -> retireChunk(chunk, missing)));
+                missingMemberIds.addAll(missing);
+                return retired == null ? 0 : retired;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= RETIRE_MAX_ATTEMPTS) {
+                    throw new DMakerException(DMakerErrorCode.VERSION_CONFLICT);
+                }
+                log.warn("retire chunk rolled back, retrying, shard: {}, message: {}", shard, e.getMessage());
+            }
+        }
+    }
+
+    private int retireChunk(List<String> chunk, List<String> missingMemberIds) {
+        List<DeveloperDetailDto> employed =
+                developerRepository.findDetailsByStatusCode(chunk, StatusCode.EMPLOYED);
+        Set<String> employedMemberIds = employed.stream()
+                .map(DeveloperDetailDto::getMemberId)
+                .collect(Collectors.toSet());
+        chunk.stream()
+                .filter(memberId -> !employedMemberIds.contains(memberId))
+                .forEach(missingMemberIds::add);
+        if (employedMemberIds.isEmpty()) {
+            return 0;
+        }
+
+        // 통계 반영용 facet 집계도 상태를 바꾸기 전에 조회
+        for (DeveloperFacetCountDto facet :
+                developerRepository.countByFacets(employedMemberIds, StatusCode.EMPLOYED)) {
+            developerStatistics.add(facet.getDeveloperLevel(), facet.getDeveloperSkillType(),
+                    StatusCode.EMPLOYED, facet.getExperienceYears(), -facet.getCount());
+            developerStatistics.add(facet.getDeveloperLevel(), facet.getDeveloperSkillType(),
+                    StatusCode.RETIRED, facet.getExperienceYears(), facet.getCount());
+        }
+
+        // 상태를 먼저 바꿔서 row lock 을 잡음, 조회 이후 다른 요청이 퇴직시킨 row 가 있으면 건수가 달라짐
+        int retired = developerRepository.updateStatusCode(
+                employedMemberIds, StatusCode.EMPLOYED, StatusCode.RETIRED);
+        if (retired != employedMemberIds.size()) {
+            throw new OptimisticLockingFailureException(
+                    "developers retired concurrently, expected: " + employedMemberIds.size() + ", retired: " + retired);
+        }
+        // 이미 archive 된 memberId 는 건너뜀 (async 모드면 RetiredDeveloperArchiver 가 처리)
+        if (!archiveAsync) {
+            retiredDeveloperRepository.archiveDevelopersIfAbsent(employedMemberIds, StatusCode.RETIRED);
+        }
+        // 조회와 UPDATE 사이에 수정된 row 도 있으므로 row lock 을 잡은 상태에서 바뀐 version 을 다시 읽음
+        List<DeveloperDetailDto> retiredDevelopers =
+                developerRepository.findDetailsByStatusCode(employedMemberIds, StatusCode.RETIRED);
+        developerIndex.updateStatusCode(retiredDevelopers);
+        developerOutbox.appendAll(DeveloperEventType.RETIRED, retiredDevelopers);
+
+        Cache developerDetailCache = cacheManager.getCache(CacheConfig.DEVELOPER_DETAIL);
+        if (developerDetailCache != null) {
+            employedMemberIds.forEach(developerDetailCache::evict);
+        }
+        return retired;
+    }
+
+    private List<BatchCreateDeveloper.Result> createChunk(
+            List<CreateDeveloper.Request> chunk,
+            int firstIndex,
+            Set<String> seenMemberIds
+    ) {
+        BatchCreateDeveloper.Result[] results = new BatchCreateDeveloper.Result[chunk.size()];
+
+        // 1. 요청 단위 검증 (bean validation, 레벨/연차, 배치 내 memberId 중복)
+        for (int i = 0; i < chunk.size(); i++) {
+            CreateDeveloper.Request request = chunk.get(i);
+            DMakerException error = validate(request, seenMemberIds);
+            if (error != null) {
+                results[i] = failed(firstIndex + i, request, error.getDMakerErrorCode(), error.getDetailMessage());
+            }
+        }
+
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (results[i] == null) {
+                pending.add(i);
+            }
+        }
+
+        for (Map.Entry<String, List<Integer>> shard :
+                developerShards.partition(pending, i -> chunk.get(i).getMemberId()).entrySet()) {
+            List<Integer> shardPending = shard.getValue();
+            try {
+                developerShards.run(shard.getKey(), () -> transactionTemplate.executeWithoutResult(status ->
+                        insertChunk(chunk, firstIndex, shardPending, results)));
+            } catch (DataIntegrityViolationException e) {
+                if (!ConstraintViolations.isViolationOf(e, Developer.MEMBER_ID_UNIQUE_INDEX)) {
+                    throw e;
+                }
+                // 다른 요청이 같은 memberId 를 먼저 insert 한 경우 chunk (의 해당 shard 분) 전체가 롤백됨,
+                // 중복인 항목만 실패로 남도록 한 건씩 다시 insert
+                log.warn("batch chunk rolled back, retrying row by row, firstIndex: {}, shard: {}, message: {}",
+                        firstIndex, shard.getKey(), e.getMessage());
+                for (int i : shardPending) {
+                    insertRow(shard.getKey(), chunk, firstIndex, i, results);
+                }
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private void insertRow(
+            String shard,
+            List<CreateDeveloper.Request> chunk,
+            int firstIndex,
+            int i,
+            BatchCreateDeveloper.Result[] results
+    ) {
+        try {
+            developerShards.run(shard, () -> transactionTemplate.executeWithoutResult(status ->
+                    insertChunk(chunk, firstIndex, List.of(i), results)));
+        } catch (DataIntegrityViolationException e) {
+            if (!ConstraintViolations.isViolationOf(e, Developer.MEMBER_ID_UNIQUE_INDEX)) {
+                throw e;
+            }
+            results[i] = failed(firstIndex + i, chunk.get(i), DMakerErrorCode.DUPLICATED_MEMBER_ID,
+                    DMakerErrorCode.DUPLICATED_MEMBER_ID.getMessage());
+        }
+    }
+
+    private void insertChunk(
+            List<CreateDeveloper.Request> chunk,
+            int firstIndex,
+            List<Integer> pending,
+            BatchCreateDeveloper.Result[] results
+    ) {
+        // 2. DB 중복 검사는 chunk 당 IN 쿼리 한 번
+        Set<String> existingMemberIds = developerRepository.findExistingMemberIds(
+                pending.stream().map(i -> chunk.get(i).getMemberId()).collect(Collectors.toList()));
+
+        List<Developer> developers = new ArrayList<>(pending.size());
+        List<Integer> inserted = new ArrayList<>(pending.size());
+        for (int i : pending) {
+            CreateDeveloper.Request request = chunk.get(i);
+            if (existingMemberIds.contains(request.getMemberId())) {
+                results[i] = failed(firstIndex + i, request, DMakerErrorCode.DUPLICATED_MEMBER_ID,
+                        DMakerErrorCode.DUPLICATED_MEMBER_ID.getMessage());
+                continue;
+            }
+            developers.add(Developer.builder()
+                    .developerLevel(request.getDeveloperLevel())
+                    .developerSkillType(request.getDeveloperSkillType())
+                    .experienceYears(request.getExperienceYears())
+                    .memberId(request.getMemberId())
+                    .name(request.getName())
+                    .age(request.getAge())
+                    .statusCode(StatusCode.EMPLOYED)
+                    .build());
+            inserted.add(i);
+        }
+
+        // 3. pooled sequence 로 id 를 미리 할당하므로 hibernate.jdbc.batch_size 단위로 묶여서 insert
+        developerRepository.saveAllAndFlush(developers);
+        List<DeveloperDetailDto> created = new ArrayList<>(developers.size());
+        developers.forEach(developer -> {
+            DeveloperDetailDto detail = DeveloperDetailDto.fromEntity(developer);
+            developerStatistics.add(detail);
+            developerIndex.put(developer);
+            created.add(detail);
+        });
+        developerOutbox.appendAll(DeveloperEventType.CREATED, created);
+
+        for (int i : inserted) {
+            results[i] = BatchCreateDeveloper.Result.builder()
+                    .index(firstIndex + i)
+                    .memberId(chunk.get(i).getMemberId())
+                    .created(true)
+                    .build();
+        }
+    }
+
+    /**
+     * 명단 import: chunk 단위로 검증 후 memberId 기준 upsert, chunk 마다 별도 트랜잭션.
+     * 요청 전체를 메모리에 올리지 않고, chunk 가 끝날 때마다 누적 진행 상황을 listener 에 전달한다.
+     * 입력을 읽다 실패하면 그 전까지 처리한 chunk 는 유지하고 중단한다 (upsert 이므로 다시 보내도 됨).
+     */
+    public ImportDevelopers.Progress importDevelopers(
+            Iterator<CreateDeveloper.Request> requests,
+            Consumer<ImportDevelopers.Progress> progressListener
+    ) {
+        ImportDevelopers.Progress progress = new ImportDevelopers.Progress();
+        List<CreateDeveloper.Request> chunk = new ArrayList<>(chunkSize);
+
+        try {
+            while (requests.hasNext()) {
+                chunk.add(requests.next());
+                if (chunk.size() == chunkSize) {
+                    progressListener.accept(importChunk(chunk, progress));
+                    chunk.clear();
+                }
+            }
+        } catch (DMakerException e) {
+            progress.setErrorCode(e.getDMakerErrorCode());
+            progress.setErrorMessage(e.getDetailMessage());
+        }
+        if (!chunk.isEmpty()) {
+            progressListener.accept(importChunk(chunk, progress));
+        }
+
+        progress.setFailures(null);
+        progress.setDone(true);
+        return progress;
+    }
+
+    private ImportDevelopers.Progress importChunk(List<CreateDeveloper.Request> chunk, ImportDevelopers.Progress progress) {
+        int firstIndex = (int) progress.getProcessed();
+        List<BatchCreateDeveloper.Result> failures = new ArrayList<>();
+
+        // chunk 안에서만 memberId 중복 검사 (chunk 사이 중복은 나중 값으로 덮어씀)
+        Set<String> seenMemberIds = new HashSet<>();
+        List<Integer> pendingIndexes = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            CreateDeveloper.Request request = chunk.get(i);
+            DMakerException error = validate(request, seenMemberIds);
+            if (error != null) {
+                failures.add(failed(firstIndex + i, request, error.getDMakerErrorCode(), error.getDetailMessage()));
+            } else {
+                pendingIndexes.add(i);
+            }
+        }
+
+        // [created, updated, unchanged]
+        int[] counts = new int[3];
+        for (Map.Entry<String, List<Integer>> shard :
+                developerShards.partition(pendingIndexes, i -> chunk.get(i).getMemberId()).entrySet()) {
+            List<CreateDeveloper.Request> pending = shard.getValue().stream().map(chunk::get).toList();
+            List<Integer> indexes = shard.getValue().stream().map(i -> firstIndex + i).toList();
+            List<BatchCreateDeveloper.Result> upsertFailures = new ArrayList<>();
+            int[] shardCounts = new int[3];
+            try {
+                developerShards.run(shard.getKey(), () -> transactionTemplate.executeWithoutResult(status ->
+                        upsertChunk(pending, indexes, upsertFailures, shardCounts)));
+                failures.addAll(upsertFailures);
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += shardCounts[i];
+                }
+            } catch (DataIntegrityViolationException | OptimisticLockingFailureException e) {
+                // 다른 요청과 경합하면 chunk (의 해당 shard 분) 전체가 롤백됨, memberId 중복이 아닌 제약조건 위반은 그대로 전파
+                rethrowUnlessRace(e);
+                // 한 건씩 다시 upsert: 먼저 insert 된 memberId 는 다시 조회해서 update 로 처리
+                log.warn("import chunk rolled back, retrying row by row, firstIndex: {}, shard: {}, message: {}",
+                        firstIndex, shard.getKey(), e.getMessage());
+                for (int i = 0; i < pending.size(); i++) {
+                    upsertRow(shard.getKey(), pending.get(i), indexes.get(i), failures, counts);
+                }
+            }
+        }
+
+        failures.sort(Comparator.comparingInt(BatchCreateDeveloper.Result::getIndex));
+        progress.setProcessed(progress.getProcessed() + chunk.size());
+        progress.setCreated(progress.getCreated() + counts[0]);
+        progress.setUpdated(progress.getUpdated() + counts[1]);
+        progress.setUnchanged(progress.getUnchanged() + counts[2]);
+        progress.setFailed(progress.getFailed() + failures.size());
+        progress.setFailures(failures);
+        return progress;
+    }
+
+    private void upsertRow(
+            String shard,
+            CreateDeveloper.Request request,
+            int index,
+            List<BatchCreateDeveloper.Result> failures,
+            int[] counts
+    ) {
+        for (int attempt = 1; ; attempt++) {
+            List<BatchCreateDeveloper.Result> rowFailures = new ArrayList<>();
+            int[] rowCounts = new int[3];
+            try {
+                developerShards.run(shard, () -> transactionTemplate.executeWithoutResult(status ->
+                        upsertChunk(List.of(request), List.of(index), rowFailures, rowCounts)));
+                failures.addAll(rowFailures);
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += rowCounts[i];
+                }
+                return;
+            } catch (DataIntegrityViolationException | OptimisticLockingFailureException e) {
+                rethrowUnlessRace(e);
+                if (attempt >= UPSERT_ROW_MAX_ATTEMPTS) {
+                    DMakerErrorCode errorCode = e instanceof DataIntegrityViolationException
+                            ? DMakerErrorCode.DUPLICATED_MEMBER_ID
+                            : DMakerErrorCode.VERSION_CONFLICT;
+                    failures.add(failed(index, request, errorCode, errorCode.getMessage()));
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void rethrowUnlessRace(RuntimeException e) {
+        if (e instanceof DataIntegrityViolationException violation
+                && !ConstraintViolations.isViolationOf(violation, Developer.MEMBER_ID_UNIQUE_INDEX)) {
+            throw violation;
+        }
+    }
+
+    private void upsertChunk(
+            List<CreateDeveloper.Request> pending,
+            List<Integer> pendingIndexes,
+            List<BatchCreateDeveloper.Result> failures,
+            int[] counts
+    ) {
+        // 기존 개발자는 IN 쿼리 한 번으로 로딩
+        Map<String, Developer> existing = developerRepository.findAllByMemberIdIn(
+                        pending.stream().map(CreateDeveloper.Request::getMemberId).toList())
+                .stream()
+                .collect(Collectors.toMap(Developer::getMemberId, developer -> developer));
+
+        List<Developer> created = new ArrayList<>();
+        List<Developer> updated = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+            CreateDeveloper.Request request = pending.get(i);
+            Developer developer = existing.get(request.getMemberId());
+            if (developer == null) {
+                created.add(Developer.builder()
+                        .developerLevel(request.getDeveloperLevel())
+                        .developerSkillType(request.getDeveloperSkillType())
+                        .experienceYears(request.getExperienceYears())
+                        .memberId(request.getMemberId())
+                        .name(request.getName())
+                        .age(request.getAge())
+                        .statusCode(StatusCode.EMPLOYED)
+                        .build());
+                continue;
+            }
+            if (developer.getStatusCode() == StatusCode.RETIRED) {
+                failures.add(failed(pendingIndexes.get(i), request, DMakerErrorCode.INVALID_REQUEST,
+                        "퇴직한 개발자는 import 로 수정할 수 없습니다."));
+                continue;
+            }
+            if (sameProfile(developer, request)) {
+                counts[2]++;
+                continue;
+            }
+            developerStatistics.remove(DeveloperDetailDto.fromEntity(developer));
+            developer.setDeveloperLevel(request.getDeveloperLevel());
+            developer.setDeveloperSkillType(request.getDeveloperSkillType());
+            developer.setExperienceYears(request.getExperienceYears());
+            developer.setName(request.getName());
+            developer.setAge(request.getAge());
+            updated.add(developer);
+        }
+
+        // insert 는 pooled sequence 로, update 는 dirty checking 으로 hibernate.jdbc.batch_size 단위 batch
+        developerRepository.saveAll(created);
+        developerRepository.flush();
+
+        Cache developerDetailCache = cacheManager.getCache(CacheConfig.DEVELOPER_DETAIL);
+        List<DeveloperDetailDto> createdDetails = new ArrayList<>(created.size());
+        for (Developer developer : created) {
+            DeveloperDetailDto detail = DeveloperDetailDto.fromEntity(developer);
+            developerStatistics.add(detail);
+            developerIndex.put(developer);
+            createdDetails.add(detail);
+        }
+        List<DeveloperDetailDto> updatedDetails = new ArrayList<>(updated.size());
+        for (Developer developer : updated) {
+            DeveloperDetailDto detail = DeveloperDetailDto.fromEntity(developer);
+            developerStatistics.add(detail);
+            developerIndex.put(developer);
+            updatedDetails.add(detail);
+            if (developerDetailCache != null) {
+                developerDetailCache.evict(developer.getMemberId());
+            }
+        }
+        developerOutbox.appendAll(DeveloperEventType.CREATED, createdDetails);
+        developerOutbox.appendAll(DeveloperEventType.EDITED, updatedDetails);
+
+        counts[0] = created.size();
+        counts[1] = updated.size();
+    }
+
+    private static boolean sameProfile(Developer developer, CreateDeveloper.Request request) {
+        return developer.getDeveloperLevel() == request.getDeveloperLevel()
+                && developer.getDeveloperSkillType() == request.getDeveloperSkillType()
+                && Objects.equals(developer.getExperienceYears(), request.getExperienceYears())
+                && Objects.equals(developer.getName(), request.getName())
+                && Objects.equals(developer.getAge(), request.getAge());
+    }
+
+    private DMakerException validate(CreateDeveloper.Request request, Set<String> seenMemberIds) {
+        Set<ConstraintViolation<CreateDeveloper.Request>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return new DMakerException(DMakerErrorCode.INVALID_REQUEST,
+                    violations.stream()
+                            .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                            .sorted()
+                            .collect(Collectors.joining(", ")));
+        }
+
+        if (!developerLevelPolicy.isAllowed(request.getDeveloperLevel(), request.getExperienceYears())) {
+            return new DMakerException(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED,
+                    DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED.getMessage());
+        }
+
+        if (!seenMemberIds.add(request.getMemberId())) {
+            return new DMakerException(DMakerErrorCode.DUPLICATED_MEMBER_ID);
+        }
+        return null;
+    }
+
+    private BatchCreateDeveloper.Result failed(
+            int index,
+            CreateDeveloper.Request request,
+            DMakerErrorCode errorCode,
+            String errorMessage
+    ) {
+        return BatchCreateDeveloper.Result.builder()
+                .index(index)
+                .memberId(request.getMemberId())
+                .created(false)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
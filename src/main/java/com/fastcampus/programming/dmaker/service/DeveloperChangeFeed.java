@@ -0,0 +1,137 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperChangesDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperEventDto;
+import com.fastcampus.programming.dmaker.repository.DeveloperEventRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GET /developers/changes long-poll.
+ * since 이후 publish 된 이벤트가 있으면 바로 응답하고, 없으면 relay 가 다음 batch 를 publish 할 때까지
+ * (최대 poll-timeout) 요청 스레드를 잡지 않고 대기한다.
+ * relay 는 한 인스턴스에서만 돌기 때문에, 다른 인스턴스의 대기자는 무효화 채널로 변경을 전달받았을 때
+ * (changedElsewhere) publish 된 이벤트를 다시 조회해서 깨운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeveloperChangeFeed {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private final DeveloperEventRepository developerEventRepository;
+    private final DeveloperShards developerShards;
+
+    @Value("${dmaker.outbox.poll-timeout-ms}")
+    private long pollTimeoutMillis;
+
+    private final Set<Poll> polls = ConcurrentHashMap.newKeySet();
+
+    public DeferredResult<DeveloperChangesDto> poll(long since, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        DeferredResult<DeveloperChangesDto> result =
+                new DeferredResult<>(pollTimeoutMillis, () -> changes(List.of(), since));
+        Poll poll = new Poll(since, pageSize, result);
+
+        // 조회 전에 등록해야 조회와 publish 사이에 들어온 이벤트를 놓치지 않음
+        polls.add(poll);
+        result.onCompletion(() -> polls.remove(poll));
+
+        List<DeveloperEventDto> events = findPublishedAfter(since, pageSize);
+        if (!events.isEmpty()) {
+            complete(poll, events);
+        }
+        return result;
+    }
+
+    /**
+     * 다른 인스턴스의 relay 가 publish 한 변경을 무효화 채널로 받았을 때 호출.
+     * 대기 중인 가장 작은 since 부터 다시 읽어 publish 와 같은 방식으로 깨우고,
+     * 한 page 를 넘으면 아직 못 깨운 (since 가 page 끝 이후인) 대기자를 위해 이어서 읽는다.
+     */
+    public void changedElsewhere(Set<String> memberIds) {
+        Set<Poll> waiting = new HashSet<>(polls);
+        while (!waiting.isEmpty()) {
+            long since = waiting.stream().mapToLong(Poll::since).min().getAsLong();
+            List<DeveloperEventDto> events = findPublishedAfter(since, MAX_LIMIT);
+            if (events.isEmpty()) {
+                return;
+            }
+            publish(events);
+            if (events.size() < MAX_LIMIT) {
+                return;
+            }
+            long last = events.get(events.size() - 1).getSequence();
+            waiting.removeIf(poll -> poll.since() < last);
+        }
+    }
+
+    /**
+     * 마지막으로 publish 된 sequence. relay 가 다음 sequence 를 매기는 기준이라
+     * 지연된 replica 에서 읽으면 sequence 가 중복되므로 트랜잭션 없이 primary 에서 읽는다.
+     */
+    public long lastSequence() {
+        return developerShards.scatter(shard -> developerEventRepository.findLastSequenceNo())
+                .stream()
+                .mapToLong(Long::longValue)
+                .max()
+                .orElse(0L);
+    }
+
+    /**
+     * relay 가 commit 한 batch (sequence 오름차순)
+     */
+    public void publish(List<DeveloperEventDto> published) {
+        for (Poll poll : polls) {
+            List<DeveloperEventDto> events = published.stream()
+                    .filter(event -> event.getSequence() > poll.since())
+                    .limit(poll.limit())
+                    .toList();
+            if (!events.isEmpty()) {
+                complete(poll, events);
+            }
+        }
+    }
+
+    // shard 별 결과를 sequence 순으로 합침. 대기자 등록 이전에 publish 된 이벤트를 모두 봐야 하므로
+    // replica 로 보내지 않음 (트랜잭션 밖 조회는 primary)
+    private List<DeveloperEventDto> findPublishedAfter(long since, int pageSize) {
+        return developerShards.scatter(shard ->
+                        developerEventRepository.findPublishedAfter(since, PageRequest.ofSize(pageSize)))
+                .stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparing(DeveloperEventDto::getSequence))
+                .limit(pageSize)
+                .toList();
+    }
+
+    int waiting() {
+        return polls.size();
+    }
+
+    private void complete(Poll poll, List<DeveloperEventDto> events) {
+        polls.remove(poll);
+        // 이미 응답한 요청이면 무시됨
+        poll.result().setResult(changes(events, poll.since()));
+    }
+
+    private static DeveloperChangesDto changes(List<DeveloperEventDto> events, long since) {
+        return DeveloperChangesDto.builder()
+                .events(events)
+                .next(events.isEmpty() ? since : events.get(events.size() - 1).getSequence())
+                .build();
+    }
+
+    private record Poll(long since, int limit, DeferredResult<DeveloperChangesDto> result) {
+    }
+}
@@ -0,0 +1,148 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperEventDto;
+import com.fastcampus.programming.dmaker.entity.DeveloperEvent;
+import com.fastcampus.programming.dmaker.entity.OutboxOffset;
+import com.fastcampus.programming.dmaker.repository.DeveloperEventRepository;
+import com.fastcampus.programming.dmaker.repository.OutboxOffsetRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * commit 된 outbox 이벤트에 순서대로 sequenceNo 를 부여(publish)하고 change feed 대기자를 깨운다.
+ * insert 시점의 id 는 commit 순서와 다를 수 있으므로, consumer 가 since 이후를 놓치지 않도록
+ * 번호는 relay 한 곳에서만 매긴다.
+ * sharding 이면 이벤트는 개발자의 shard 에 있고, 전체 shard 의 마지막 번호 다음부터 shard 순서대로 commit 하므로
+ * 작은 번호가 큰 번호보다 늦게 보이는 일은 없다. 번호가 shard 를 가로지르므로 행 단위로 나눠 잡지 않고,
+ * 첫 shard 의 lock row 를 잡은 인스턴스 하나만 relay 를 실행한다.
+ */
+@Slf4j
+@Component
+public class DeveloperEventRelay implements SmartInitializingSingleton {
+
+    static final String RELAY_LOCK = "developer-event-relay";
+    private static final int RELAY_BATCH_SIZE = 500;
+
+    private final DeveloperEventRepository developerEventRepository;
+    private final OutboxOffsetRepository outboxOffsetRepository;
+    private final DeveloperChangeFeed developerChangeFeed;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final DeveloperShards developerShards;
+
+    @Value("${dmaker.outbox.retention}")
+    private Duration retention;
+
+    public DeveloperEventRelay(
+            DeveloperEventRepository developerEventRepository,
+            OutboxOffsetRepository outboxOffsetRepository,
+            DeveloperChangeFeed developerChangeFeed,
+            TransactionTemplate transactionTemplate,
+            DeveloperShards developerShards
+    ) {
+        this.developerEventRepository = developerEventRepository;
+        this.outboxOffsetRepository = outboxOffsetRepository;
+        this.developerChangeFeed = developerChangeFeed;
+        this.transactionTemplate = transactionTemplate;
+        this.developerShards = developerShards;
+        // lock 을 잡은 트랜잭션과 별개로 batch 마다 해당 shard 에서 commit
+        this.batchTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // lock row 는 consumer offset 과 같은 테이블에 두되 lastSequenceNo 가 없으므로 purge 기준에서 빠짐
+    @Override
+    public void afterSingletonsInstantiated() {
+        developerShards.run(lockShard(), () -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!outboxOffsetRepository.existsById(RELAY_LOCK)) {
+                        outboxOffsetRepository.save(OutboxOffset.builder().consumer(RELAY_LOCK).build());
+                    }
+                });
+            } catch (DataIntegrityViolationException e) {
+                // 동시에 뜬 다른 인스턴스가 먼저 만듦
+            }
+        });
+    }
+
+    // lock 은 이 트랜잭션이 끝날 때까지 유지되고, 다른 인스턴스는 기다리지 않고 (SKIP LOCKED) 이번 주기를 건너뜀
+    @Scheduled(fixedDelayString = "${dmaker.outbox.relay-delay-ms}")
+    public void relay() {
+        developerShards.run(lockShard(), () -> transactionTemplate.executeWithoutResult(status -> {
+            if (outboxOffsetRepository.lockByConsumer(RELAY_LOCK).isPresent()) {
+                relayBatches();
+            }
+        }));
+    }
+
+    private void relayBatches() {
+        boolean hasMore;
+        do {
+            hasMore = false;
+            long sequenceNo = developerChangeFeed.lastSequence();
+            for (String shard : developerShards.names()) {
+                long lastSequenceNo = sequenceNo;
+                List<DeveloperEventDto> published = developerShards.on(shard, () ->
+                        batchTransaction.execute(status -> publishBatch(lastSequenceNo)));
+                if (published == null || published.isEmpty()) {
+                    continue;
+                }
+                developerChangeFeed.publish(published);
+                sequenceNo = published.get(published.size() - 1).getSequence();
+                hasMore |= published.size() == RELAY_BATCH_SIZE;
+            }
+        } while (hasMore);
+    }
+
+    // 보관 기간이 지났어도 offset 을 가진 consumer (RetiredDeveloperArchiver 등) 가 아직 처리하지 않은 이벤트는 남김
+    // offset 은 이벤트와 같은 shard 에 있으므로 shard 마다 그 shard 의 offset 으로 판단
+    @Scheduled(fixedDelayString = "${dmaker.outbox.purge-delay-ms}")
+    public void purge() {
+        LocalDateTime publishedBefore = LocalDateTime.now().minus(retention);
+        for (String shard : developerShards.names()) {
+            Integer purged = developerShards.on(shard, () -> transactionTemplate.execute(status -> {
+                Long consumed = outboxOffsetRepository.findMinLastSequenceNo();
+                return developerEventRepository.deletePublishedBefore(
+                        publishedBefore, consumed == null ? Long.MAX_VALUE : consumed);
+            }));
+            if (purged != null && purged > 0) {
+                log.info("purged published developer events: {}, shard: {}", purged, shard);
+            }
+        }
+    }
+
+    private String lockShard() {
+        return developerShards.names().get(0);
+    }
+
+    private List<DeveloperEventDto> publishBatch(long lastSequenceNo) {
+        List<DeveloperEvent> events = developerEventRepository.findTop500BySequenceNoIsNullOrderByIdAsc();
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        long sequenceNo = lastSequenceNo;
+        LocalDateTime publishedAt = LocalDateTime.now();
+        List<DeveloperEventDto> published = new ArrayList<>(events.size());
+        for (DeveloperEvent event : events) {
+            // dirty checking 으로 commit 시 batch update
+            event.setSequenceNo(++sequenceNo);
+            event.setPublishedAt(publishedAt);
+            published.add(DeveloperEventDto.fromEntity(event));
+        }
+        return published;
+    }
+}
@@ -0,0 +1,570 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearchCondition;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearchCursor;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearchResultDto;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Developer 테이블의 인스턴스 로컬 읽기 전용 복제본 (dmaker.index.enabled=true 일 때만 사용).
+ * row 를 객체로 만들지 않고 컬럼별 primitive 배열에 저장한다. enum 은 ordinal byte,
+ * memberId / name 은 off-heap arena 에 UTF-8 로 저장.
+ * 시작 시 테이블 전체를 적재하고, 이후에는 DMakerService / DeveloperBatchService 의 쓰기 경로에서
+ * commit 이후에 반영한다. 다른 인스턴스에서 일어난 변경은 DeveloperCacheInvalidator 가 받은 memberId 를
+ * refresh 로 다시 읽어 반영한다.
+ */
+@Slf4j
+@Component
+public class DeveloperIndex implements SmartInitializingSingleton {
+
+    private static final DeveloperLevel[] LEVELS = DeveloperLevel.values();
+    private static final DeveloperSkillType[] SKILL_TYPES = DeveloperSkillType.values();
+    private static final StatusCode[] STATUS_CODES = StatusCode.values();
+
+    private static final int INITIAL_ROWS = 1024;
+    private static final int LOAD_CHUNK_SIZE = 500;
+    // 지운 row 의 문자열이 이만큼 쌓이고 arena 의 절반을 넘으면 compact
+    private static final int COMPACT_MIN_RELEASED_BYTES = 64 * 1024;
+
+    private final DeveloperRepository developerRepository;
+    private final DeveloperShards developerShards;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final OffHeapStringArena strings = new OffHeapStringArena(INITIAL_ROWS * 32);
+
+    // 컬럼 (row 번호로 접근)
+    private long[] ids = new long[INITIAL_ROWS];
+    private long[] versions = new long[INITIAL_ROWS];
+    private byte[] levels = new byte[INITIAL_ROWS];
+    private byte[] skillTypes = new byte[INITIAL_ROWS];
+    private byte[] statusCodes = new byte[INITIAL_ROWS];
+    private byte[] experienceYears = new byte[INITIAL_ROWS];
+    private int[] ages = new int[INITIAL_ROWS];
+    private long[] memberIdRefs = new long[INITIAL_ROWS];
+    private long[] nameRefs = new long[INITIAL_ROWS];
+    private int[] memberIdHashes = new int[INITIAL_ROWS];
+    private int size;
+
+    // id 오름차순으로 정렬한 row 번호 (keyset 페이지용)
+    private int[] idOrder = new int[INITIAL_ROWS];
+
+    // memberId -> row + 1 (0 은 빈 slot), open addressing
+    private int[] slots = new int[INITIAL_ROWS * 2];
+
+    private volatile boolean ready;
+
+    public DeveloperIndex(
+            DeveloperRepository developerRepository,
+            DeveloperShards developerShards,
+            @Value("${dmaker.index.enabled:false}") boolean enabled
+    ) {
+        this.developerRepository = developerRepository;
+        this.developerShards = developerShards;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        // web server 가 요청을 받기 전에 shard 마다 id 순으로 chunk 단위 적재
+        for (String shard : developerShards.names()) {
+            developerShards.run(shard, this::load);
+        }
+
+        ready = true;
+        log.info("developer index loaded, rows: {}, off-heap bytes: {}", size, strings.capacity());
+    }
+
+    private void load() {
+        long cursor = 0L;
+        List<Developer> developers;
+        do {
+            developers = developerRepository.findTop500ByIdGreaterThanOrderByIdAsc(cursor);
+            developers.forEach(this::apply);
+            if (!developers.isEmpty()) {
+                cursor = developers.get(developers.size() - 1).getId();
+            }
+        } while (developers.size() == LOAD_CHUNK_SIZE);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * commit 이후에 반영. 엔티티 값은 commit 시점(version 증가 이후)에 읽는다.
+     */
+    public void put(Developer developer) {
+        afterCommit(() -> apply(developer));
+    }
+
+    /**
+     * 이미 있는 row 에 수정 API 로 바꿀 수 있는 컬럼만 반영 (name / age 는 import 가 엔티티로 반영).
+     * 값은 호출 시점에 확정된다.
+     */
+    public void put(DeveloperDetailDto developer) {
+        String memberId = developer.getMemberId();
+        DeveloperLevel developerLevel = developer.getDeveloperLevel();
+        DeveloperSkillType developerSkillType = developer.getDeveloperSkillType();
+        StatusCode statusCode = developer.getStatusCode();
+        Integer experienceYears = developer.getExperienceYears();
+        Long version = developer.getVersion();
+
+        afterCommit(() -> write(() -> {
+            int row = find(memberId);
+            // 동시에 commit 된 수정의 afterCommit 은 순서가 바뀔 수 있으므로 더 오래된 version 은 버림
+            if (row < 0 || isOlder(row, version)) {
+                return;
+            }
+            setColumns(row, version, developerLevel, developerSkillType, statusCode, experienceYears);
+        }));
+    }
+
+    /**
+     * 벌크 UPDATE 로 상태를 바꾼 경우. 상대값 (version + 1) 이 아니라 UPDATE 이후에 읽은 version 으로 맞춘다.
+     */
+    public void updateStatusCode(Collection<DeveloperDetailDto> developers) {
+        List<DeveloperDetailDto> targets = developers.stream()
+                .map(developer -> DeveloperDetailDto.builder()
+                        .memberId(developer.getMemberId())
+                        .statusCode(developer.getStatusCode())
+                        .version(developer.getVersion())
+                        .build())
+                .toList();
+        afterCommit(() -> write(() -> {
+            for (DeveloperDetailDto developer : targets) {
+                int row = find(developer.getMemberId());
+                if (row >= 0 && !isOlder(row, developer.getVersion())) {
+                    statusCodes[row] = (byte) developer.getStatusCode().ordinal();
+                    versions[row] = developer.getVersion() == null ? versions[row] : developer.getVersion();
+                }
+            }
+        }));
+    }
+
+    /**
+     * 다른 인스턴스에서 바뀐 memberId 를 shard 별로 DB 에서 다시 읽어 반영하고, DB 에 없는 row 는 지운다.
+     * 적재 중에 받아도 version 이 더 낮은 값으로 덮어쓰지 않으므로 순서와 관계없이 최신 값이 남는다.
+     */
+    public void refresh(Collection<String> memberIds) {
+        if (!enabled || memberIds.isEmpty()) {
+            return;
+        }
+        Map<String, Developer> found = new HashMap<>();
+        developerShards.partition(memberIds, Function.identity()).forEach((shard, targets) ->
+                developerShards.on(shard, () -> developerRepository.findAllByMemberIdIn(targets))
+                        .forEach(developer -> found.put(developer.getMemberId(), developer)));
+
+        write(() -> {
+            for (String memberId : memberIds) {
+                Developer developer = found.get(memberId);
+                if (developer != null) {
+                    apply(developer);
+                    continue;
+                }
+                int row = find(memberId);
+                if (row >= 0) {
+                    remove(row);
+                }
+            }
+            compactIfNeeded();
+        });
+    }
+
+    public Optional<DeveloperDetailDto> findDetail(String memberId) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            int row = find(memberId);
+            if (row < 0) {
+                return Optional.empty();
+            }
+            return Optional.of(DeveloperDetailDto.builder()
+                    .developerLevel(LEVELS[levels[row]])
+                    .developerSkillType(SKILL_TYPES[skillTypes[row]])
+                    .experienceYears((int) experienceYears[row])
+                    .memberId(memberId)
+                    .statusCode(STATUS_CODES[statusCodes[row]])
+                    .name(strings.get(nameRefs[row]))
+                    .age(ages[row])
+                    .version(versions[row])
+                    .build());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public DeveloperPageDto page(StatusCode statusCode, long cursor, int pageSize) {
+        byte status = (byte) statusCode.ordinal();
+        List<DeveloperDto> developers = new ArrayList<>(pageSize);
+        boolean hasNext = false;
+
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            for (int i = firstAfter(cursor); i < size; i++) {
+                int row = idOrder[i];
+                if (statusCodes[row] != status) {
+                    continue;
+                }
+                if (developers.size() == pageSize) {
+                    hasNext = true;
+                    break;
+                }
+                developers.add(toDto(row));
+            }
+        } finally {
+            readLock.unlock();
+        }
+
+        return DeveloperPageDto.builder()
+                .developers(developers)
+                .next(hasNext ? developers.get(pageSize - 1).getId() : null)
+                .build();
+    }
+
+    /**
+     * id 정렬만 지원 (그 외 정렬은 DB 로 조회)
+     */
+    public boolean supports(DeveloperSearchCondition condition) {
+        return condition.getSort() == DeveloperSearchCondition.SortField.ID;
+    }
+
+    public DeveloperSearchResultDto search(DeveloperSearchCondition condition) {
+        int status = condition.getStatusCode() == null ? -1 : condition.getStatusCode().ordinal();
+        int level = condition.getDeveloperLevel() == null ? -1 : condition.getDeveloperLevel().ordinal();
+        int skillType = condition.getDeveloperSkillType() == null ? -1 : condition.getDeveloperSkillType().ordinal();
+        int minYears = condition.getMinExperienceYears() == null ? Integer.MIN_VALUE : condition.getMinExperienceYears();
+        int maxYears = condition.getMaxExperienceYears() == null ? Integer.MAX_VALUE : condition.getMaxExperienceYears();
+        byte[] namePrefix = condition.getNamePrefix() == null || condition.getNamePrefix().isEmpty()
+                ? null
+                : condition.getNamePrefix().getBytes(StandardCharsets.UTF_8);
+        boolean ascending = condition.getDirection().isAscending();
+        Long cursor = condition.getCursor() == null ? null : DeveloperSearchCursor.decode(condition).getId();
+        int pageSize = condition.getSize();
+
+        List<DeveloperDto> developers = new ArrayList<>(Math.min(pageSize, 1024));
+        boolean hasNext = false;
+
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            int start;
+            if (ascending) {
+                start = cursor == null ? 0 : firstAfter(cursor);
+            } else {
+                start = cursor == null ? size - 1 : firstAfter(cursor - 1) - 1;
+            }
+            for (int i = start; ascending ? i < size : i >= 0; i += ascending ? 1 : -1) {
+                int row = idOrder[i];
+                if (status >= 0 && statusCodes[row] != status
+                        || level >= 0 && levels[row] != level
+                        || skillType >= 0 && skillTypes[row] != skillType
+                        || experienceYears[row] < minYears || experienceYears[row] > maxYears
+                        || namePrefix != null && !strings.startsWith(nameRefs[row], namePrefix)) {
+                    continue;
+                }
+                if (developers.size() == pageSize) {
+                    hasNext = true;
+                    break;
+                }
+                developers.add(toDto(row));
+            }
+        } finally {
+            readLock.unlock();
+        }
+
+        String next = null;
+        if (hasNext) {
+            Long lastId = developers.get(pageSize - 1).getId();
+            next = DeveloperSearchCursor.encode(condition, lastId, lastId);
+        }
+        return DeveloperSearchResultDto.builder()
+                .developers(developers)
+                .next(next)
+                .build();
+    }
+
+    int stringBytes() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return strings.used();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    int size() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return size;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void write(Runnable action) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            action.run();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void apply(Developer developer) {
+        write(() -> {
+            int row = find(developer.getMemberId());
+            if (row >= 0 && ids[row] != developer.getId()) {
+                // shard 이동 등으로 다시 insert 되어 id 가 바뀐 row
+                remove(row);
+                row = -1;
+            }
+            if (row < 0) {
+                row = insert(developer);
+            } else if (isOlder(row, developer.getVersion())) {
+                // 이미 더 최신 값이 반영됨
+                return;
+            }
+            setColumns(row, developer.getVersion(), developer.getDeveloperLevel(),
+                    developer.getDeveloperSkillType(), developer.getStatusCode(), developer.getExperienceYears());
+            setProfile(row, developer.getName(), developer.getAge());
+        });
+    }
+
+    private boolean isOlder(int row, Long version) {
+        return version != null && versions[row] > version;
+    }
+
+    private int insert(Developer developer) {
+        if (size == ids.length) {
+            grow();
+        }
+        int row = size++;
+        ids[row] = developer.getId();
+        memberIdRefs[row] = strings.append(developer.getMemberId());
+        nameRefs[row] = OffHeapStringArena.NULL_REF;
+        memberIdHashes[row] = hash(developer.getMemberId());
+
+        // 보통 id 가 증가하는 순서로 들어오므로 대부분 맨 뒤에 추가됨
+        int position = firstAfter(developer.getId());
+        System.arraycopy(idOrder, position, idOrder, position + 1, row - position);
+        idOrder[position] = row;
+
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        } else {
+            addSlot(row);
+        }
+        return row;
+    }
+
+    /**
+     * 마지막 row 를 지운 자리로 옮긴다.
+     */
+    private void remove(int row) {
+        removeSlot(row);
+        strings.release(memberIdRefs[row]);
+        strings.release(nameRefs[row]);
+
+        int position = firstAfter(ids[row]) - 1;
+        System.arraycopy(idOrder, position + 1, idOrder, position, size - 1 - position);
+        int last = --size;
+        if (row != last) {
+            ids[row] = ids[last];
+            versions[row] = versions[last];
+            levels[row] = levels[last];
+            skillTypes[row] = skillTypes[last];
+            statusCodes[row] = statusCodes[last];
+            experienceYears[row] = experienceYears[last];
+            ages[row] = ages[last];
+            memberIdRefs[row] = memberIdRefs[last];
+            nameRefs[row] = nameRefs[last];
+            memberIdHashes[row] = memberIdHashes[last];
+            idOrder[firstAfter(ids[row]) - 1] = row;
+            slots[slotOf(last)] = row + 1;
+        }
+    }
+
+    private void compactIfNeeded() {
+        int released = strings.released();
+        if (released >= COMPACT_MIN_RELEASED_BYTES && released * 2 >= strings.used()) {
+            strings.compact(size, memberIdRefs, nameRefs);
+            log.info("developer index strings compacted, released bytes: {}, live bytes: {}", released, strings.used());
+        }
+    }
+
+    // import upsert 는 name / age 도 바꿈. 이름이 같으면 arena 에 다시 쓰지 않음
+    private void setProfile(int row, String name, Integer age) {
+        ages[row] = age == null ? 0 : age;
+        if (name == null ? nameRefs[row] == OffHeapStringArena.NULL_REF
+                : strings.equalTo(nameRefs[row], name.getBytes(StandardCharsets.UTF_8))) {
+            return;
+        }
+        strings.release(nameRefs[row]);
+        nameRefs[row] = strings.append(name);
+        compactIfNeeded();
+    }
+
+    private void setColumns(
+            int row,
+            Long version,
+            DeveloperLevel developerLevel,
+            DeveloperSkillType developerSkillType,
+            StatusCode statusCode,
+            Integer experienceYears
+    ) {
+        versions[row] = version == null ? 0L : version;
+        levels[row] = (byte) developerLevel.ordinal();
+        skillTypes[row] = (byte) developerSkillType.ordinal();
+        statusCodes[row] = (byte) statusCode.ordinal();
+        this.experienceYears[row] = (byte) (int) experienceYears;
+    }
+
+    private DeveloperDto toDto(int row) {
+        return DeveloperDto.builder()
+                .id(ids[row])
+                .developerLevel(LEVELS[levels[row]])
+                .developerSkillType(SKILL_TYPES[skillTypes[row]])
+                .memberId(strings.get(memberIdRefs[row]))
+                .build();
+    }
+
+    // idOrder 에서 id 가 cursor 보다 큰 첫 위치
+    private int firstAfter(long cursor) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (ids[idOrder[mid]] <= cursor) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private int find(String memberId) {
+        if (memberId == null) {
+            return -1;
+        }
+        byte[] bytes = memberId.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(memberId);
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int row = slots[slot] - 1;
+            if (memberIdHashes[row] == hash && strings.equalTo(memberIdRefs[row], bytes)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private void addSlot(int row) {
+        int mask = slots.length - 1;
+        int slot = memberIdHashes[row] & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = row + 1;
+    }
+
+    private int slotOf(int row) {
+        int mask = slots.length - 1;
+        int slot = memberIdHashes[row] & mask;
+        while (slots[slot] != row + 1) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // 뒤에 이어진 slot 중 빈 자리 이전이 자기 위치인 것을 당겨 와서 탐색이 끊기지 않게 함
+    private void removeSlot(int row) {
+        int mask = slots.length - 1;
+        int hole = slotOf(row);
+        for (int slot = (hole + 1) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int home = memberIdHashes[slots[slot] - 1] & mask;
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                slots[hole] = slots[slot];
+                hole = slot;
+            }
+        }
+        slots[hole] = 0;
+    }
+
+    private void rehash(int capacity) {
+        slots = new int[capacity];
+        for (int row = 0; row < size; row++) {
+            addSlot(row);
+        }
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+        levels = Arrays.copyOf(levels, capacity);
+        skillTypes = Arrays.copyOf(skillTypes, capacity);
+        statusCodes = Arrays.copyOf(statusCodes, capacity);
+        experienceYears = Arrays.copyOf(experienceYears, capacity);
+        ages = Arrays.copyOf(ages, capacity);
+        memberIdRefs = Arrays.copyOf(memberIdRefs, capacity);
+        nameRefs = Arrays.copyOf(nameRefs, capacity);
+        memberIdHashes = Arrays.copyOf(memberIdHashes, capacity);
+        idOrder = Arrays.copyOf(idOrder, capacity);
+    }
+
+    private static int hash(String memberId) {
+        int hash = memberId.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,127 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * 레벨/연차 규칙을 dmaker.level-rules.location 의 properties 에서 읽어
+ * 레벨마다 허용 연차 bitmask 하나로 미리 계산해 둔 표.
+ * 검증은 배열 조회와 shift 한 번이며, 파일이 바뀌면 새 표로 통째로 교체한다 (잘못된 파일이면 기존 표 유지).
+ */
+@Slf4j
+@Component
+public class DeveloperLevelPolicy {
+
+    // 연차는 bit 위치, 63년 이상은 모두 63번 bit 로 취급
+    private static final int MAX_YEARS = Long.SIZE - 1;
+
+    private final Resource location;
+    private volatile long[] allowedYears;
+    private volatile long lastModified;
+
+    public DeveloperLevelPolicy(@Value("${dmaker.level-rules.location}") Resource location) {
+        this.location = location;
+        this.lastModified = lastModified(location);
+        this.allowedYears = load(location);
+        if (lastModified < 0) {
+            log.info("developer level rules {} is not a file, changes are not reloaded", location.getDescription());
+        }
+    }
+
+    public boolean isAllowed(DeveloperLevel developerLevel, Integer experienceYears) {
+        if (developerLevel == null || experienceYears == null || experienceYears < 0) {
+            return false;
+        }
+        return (allowedYears[developerLevel.ordinal()] >>> Math.min(experienceYears, MAX_YEARS) & 1L) != 0;
+    }
+
+    public void validate(DeveloperLevel developerLevel, Integer experienceYears) {
+        if (!isAllowed(developerLevel, experienceYears)) {
+            throw new DMakerException(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED,
+                    DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dmaker.level-rules.reload-delay-ms}")
+    public void reloadIfModified() {
+        long modified = lastModified(location);
+        if (modified < 0 || modified == lastModified) {
+            return;
+        }
+        lastModified = modified;
+        try {
+            allowedYears = load(location);
+            log.info("reloaded developer level rules from {}", location.getDescription());
+        } catch (IllegalStateException e) {
+            log.warn("keeping previous developer level rules: {}", e.getMessage());
+        }
+    }
+
+    private static long[] load(Resource location) {
+        Properties rules = new Properties();
+        try (InputStream inputStream = location.getInputStream()) {
+            rules.load(inputStream);
+        } catch (IOException e) {
+            throw new IllegalStateException("cannot read level rules " + location.getDescription(), e);
+        }
+
+        long[] allowedYears = new long[DeveloperLevel.values().length];
+        for (DeveloperLevel level : DeveloperLevel.values()) {
+            String rule = rules.getProperty(level.name());
+            if (rule == null) {
+                throw new IllegalStateException("level rule missing: " + level.name());
+            }
+            for (String range : rule.split(",")) {
+                allowedYears[level.ordinal()] |= parseRange(level, range.trim());
+            }
+        }
+        for (String key : rules.stringPropertyNames()) {
+            try {
+                DeveloperLevel.valueOf(key);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("unknown level in rules: " + key);
+            }
+        }
+        return allowedYears;
+    }
+
+    // "4-10", "10-" (상한 없음), "0" (한 해)
+    private static long parseRange(DeveloperLevel level, String range) {
+        int dash = range.indexOf('-');
+        try {
+            int min = Integer.parseInt((dash < 0 ? range : range.substring(0, dash)).trim());
+            int max = dash < 0 ? min
+                    : dash == range.length() - 1 ? MAX_YEARS
+                    : Integer.parseInt(range.substring(dash + 1).trim());
+            if (min < 0 || min > max) {
+                throw new IllegalStateException("invalid range for " + level.name() + ": " + range);
+            }
+            long mask = 0L;
+            for (int years = min; years <= Math.min(max, MAX_YEARS); years++) {
+                mask |= 1L << years;
+            }
+            return mask;
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("invalid range for " + level.name() + ": " + range);
+        }
+    }
+
+    // 파일이 아닌 resource (jar 안의 classpath 등) 는 -1 로 고정되어 다시 읽지 않음
+    private static long lastModified(Resource location) {
+        try {
+            return location.isFile() ? location.lastModified() : -1L;
+        } catch (IOException e) {
+            return -1L;
+        }
+    }
+}
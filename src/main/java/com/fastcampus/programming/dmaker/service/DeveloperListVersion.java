@@ -0,0 +1,86 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperVersionSumDto;
+import com.fastcampus.programming.dmaker.replica.ReplicaContext;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 목록 ETag 용 버전. Developer 의 건수와 @Version 합으로 만든다 (insert 는 건수를, 수정/퇴직은 version 합을 바꾸고 삭제는 없음).
+ * 데이터에서 나온 값이므로 인스턴스나 재시작에 상관없이 같은 상태면 같은 버전이다.
+ * 계산한 값은 ttl 동안 재사용하고, 이 인스턴스의 commit 과 받은 무효화가 있으면 다음 요청에서 다시 계산한다.
+ * 무효화가 오지 않는 다른 인스턴스의 변경 (transport=local) 도 ttl 이 지나면 반영된다.
+ */
+@Component
+public class DeveloperListVersion {
+
+    private final DeveloperRepository developerRepository;
+    private final DeveloperShards developerShards;
+    private final long ttlNanos;
+
+    private final AtomicLong changes = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public DeveloperListVersion(
+            DeveloperRepository developerRepository,
+            DeveloperShards developerShards,
+            @Value("${dmaker.cache.list-version.ttl}") Duration ttl
+    ) {
+        this.developerRepository = developerRepository;
+        this.developerShards = developerShards;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public String get() {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            return current.value();
+        }
+        // 만료된 직후 몰린 요청은 한 번만 조회
+        synchronized (this) {
+            current = snapshot;
+            if (isFresh(current)) {
+                return current.value();
+            }
+            // 조회 중에 들어온 변경은 seen 과 달라지므로 다음 요청이 다시 계산
+            long seen = changes.get();
+            String value = load();
+            snapshot = new Snapshot(value, seen, System.nanoTime() + ttlNanos);
+            return value;
+        }
+    }
+
+    /**
+     * commit 된 변경 (이 인스턴스 또는 무효화로 받은 다른 인스턴스). 다음 요청에서 버전을 다시 계산한다.
+     */
+    public void changed(Set<String> memberIds) {
+        changes.incrementAndGet();
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current != null && current.changes() == changes.get() && System.nanoTime() - current.expiresAt() < 0;
+    }
+
+    // 모든 client 가 공유하는 값이므로 지연된 replica 가 아닌 primary 에서 읽음 (sharding 이면 shard 별 값을 더함)
+    private String load() {
+        List<DeveloperVersionSumDto> sums = ReplicaContext.onPrimary(() ->
+                developerShards.scatterRead(shard -> developerRepository.sumVersions()));
+        long count = 0;
+        long versionSum = 0;
+        for (DeveloperVersionSumDto sum : sums) {
+            count += sum.getCount();
+            versionSum += sum.getVersionSum();
+        }
+        return count + "." + versionSum;
+    }
+
+    private record Snapshot(String value, long changes, long expiresAt) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.cache.DeveloperCacheInvalidator;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.entity.DeveloperEvent;
+import com.fastcampus.programming.dmaker.repository.DeveloperEventRepository;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 변경과 같은 트랜잭션에서 outbox 에 이벤트를 쌓는다. 변경이 rollback 되면 이벤트도 남지 않는다.
+ * 모든 Developer 변경이 여기를 거치므로 commit 이후 다른 인스턴스의 캐시 무효화도 여기서 예약한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeveloperOutbox {
+
+    private final DeveloperEventRepository developerEventRepository;
+    private final DeveloperCacheInvalidator developerCacheInvalidator;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(DeveloperEventType eventType, DeveloperDetailDto developer) {
+        developerEventRepository.save(toEvent(eventType, developer));
+        developerCacheInvalidator.invalidateAfterCommit(List.of(developer.getMemberId()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(DeveloperEventType eventType, Collection<DeveloperDetailDto> developers) {
+        developerEventRepository.saveAll(developers.stream()
+                .map(developer -> toEvent(eventType, developer))
+                .toList());
+        developerCacheInvalidator.invalidateAfterCommit(developers.stream()
+                .map(DeveloperDetailDto::getMemberId)
+                .toList());
+    }
+
+    private static DeveloperEvent toEvent(DeveloperEventType eventType, DeveloperDetailDto developer) {
+        // name / age 는 이벤트에 싣지 않음
+        return DeveloperEvent.builder()
+                .eventType(eventType)
+                .memberId(developer.getMemberId())
+                .developerLevel(developer.getDeveloperLevel())
+                .developerSkillType(developer.getDeveloperSkillType())
+                .experienceYears(developer.getExperienceYears())
+                .statusCode(developer.getStatusCode())
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperFacetCountDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperStatisticsDto;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * level x skillType x statusCode 인원수와 statusCode 별 연차 histogram 을 enum ordinal 로 인덱싱한 카운터.
+ * 시작 시 GROUP BY 한 번으로 채우고, 이후에는 쓰기 경로에서 commit 이후에 증감한다.
+ * 인스턴스 로컬 값이므로 이 인스턴스를 거친 변경만 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeveloperStatistics implements SmartInitializingSingleton {
+
+    public static final int MAX_EXPERIENCE_YEARS = 20;
+
+    private static final DeveloperLevel[] LEVELS = DeveloperLevel.values();
+    private static final DeveloperSkillType[] SKILL_TYPES = DeveloperSkillType.values();
+    private static final StatusCode[] STATUS_CODES = StatusCode.values();
+    private static final int YEARS = MAX_EXPERIENCE_YEARS + 1;
+
+    private final DeveloperRepository developerRepository;
+    private final DeveloperShards developerShards;
+
+    private final AtomicLongArray counts =
+            new AtomicLongArray(LEVELS.length * SKILL_TYPES.length * STATUS_CODES.length);
+    private final AtomicLongArray experienceYears = new AtomicLongArray(STATUS_CODES.length * YEARS);
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // web server 가 요청을 받기 전에 GROUP BY 로 초기화 (shard 별 집계를 병렬로 조회해서 더함)
+        for (List<DeveloperFacetCountDto> facets : developerShards.scatter(shard -> developerRepository.countByFacets())) {
+            for (DeveloperFacetCountDto facet : facets) {
+                apply(facet.getDeveloperLevel(), facet.getDeveloperSkillType(), facet.getStatusCode(),
+                        facet.getExperienceYears(), facet.getCount());
+            }
+        }
+        log.info("developer statistics initialized, total: {}", total());
+    }
+
+    public void add(DeveloperDetailDto developer) {
+        add(developer.getDeveloperLevel(), developer.getDeveloperSkillType(), developer.getStatusCode(),
+                developer.getExperienceYears(), 1);
+    }
+
+    public void remove(DeveloperDetailDto developer) {
+        add(developer.getDeveloperLevel(), developer.getDeveloperSkillType(), developer.getStatusCode(),
+                developer.getExperienceYears(), -1);
+    }
+
+    /**
+     * 트랜잭션 안이면 commit 이후에 반영, rollback 되면 반영하지 않는다.
+     * 값은 호출 시점에 확정되므로 호출 후 DTO 를 수정해도 영향 없음.
+     */
+    public void add(
+            DeveloperLevel developerLevel,
+            DeveloperSkillType developerSkillType,
+            StatusCode statusCode,
+            Integer experienceYears,
+            long delta
+    ) {
+        if (developerLevel == null || developerSkillType == null || statusCode == null || experienceYears == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(developerLevel, developerSkillType, statusCode, experienceYears, delta);
+                }
+            });
+        } else {
+            apply(developerLevel, developerSkillType, statusCode, experienceYears, delta);
+        }
+    }
+
+    public DeveloperStatisticsDto snapshot() {
+        Map<DeveloperLevel, Map<DeveloperSkillType, Map<StatusCode, Long>>> levelCounts =
+                new EnumMap<>(DeveloperLevel.class);
+        long total = 0;
+        for (DeveloperLevel level : LEVELS) {
+            Map<DeveloperSkillType, Map<StatusCode, Long>> skillCounts = new EnumMap<>(DeveloperSkillType.class);
+            for (DeveloperSkillType skillType : SKILL_TYPES) {
+                Map<StatusCode, Long> statusCounts = new EnumMap<>(StatusCode.class);
+                for (StatusCode statusCode : STATUS_CODES) {
+                    long count = counts.get(cell(level, skillType, statusCode));
+                    statusCounts.put(statusCode, count);
+                    total += count;
+                }
+                skillCounts.put(skillType, statusCounts);
+            }
+            levelCounts.put(level, skillCounts);
+        }
+
+        Map<StatusCode, long[]> histogram = new EnumMap<>(StatusCode.class);
+        for (StatusCode statusCode : STATUS_CODES) {
+            long[] years = new long[YEARS];
+            for (int year = 0; year < YEARS; year++) {
+                years[year] = experienceYears.get(statusCode.ordinal() * YEARS + year);
+            }
+            histogram.put(statusCode, years);
+        }
+
+        return DeveloperStatisticsDto.builder()
+                .total(total)
+                .counts(levelCounts)
+                .experienceYears(histogram)
+                .build();
+    }
+
+    private long total() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    private void apply(
+            DeveloperLevel developerLevel,
+            DeveloperSkillType developerSkillType,
+            StatusCode statusCode,
+            Integer experienceYears,
+            long delta
+    ) {
+        counts.addAndGet(cell(developerLevel, developerSkillType, statusCode), delta);
+        int year = Math.max(0, Math.min(experienceYears, MAX_EXPERIENCE_YEARS));
+        this.experienceYears.addAndGet(statusCode.ordinal() * YEARS + year, delta);
+    }
+
+    private static int cell(DeveloperLevel level, DeveloperSkillType skillType, StatusCode statusCode) {
+        return (level.ordinal() * SKILL_TYPES.length + skillType.ordinal()) * STATUS_CODES.length
+                + statusCode.ordinal();
+    }
+}
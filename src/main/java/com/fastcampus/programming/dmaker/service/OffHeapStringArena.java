@@ -0,0 +1,132 @@
+package com.fastcampus.programming.dmaker.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * append-only UTF-8 문자열 저장소 (direct ByteBuffer).
+ * 문자열은 (offset << 32 | length) 형태의 long ref 로 가리킨다.
+ * 버린 문자열은 release 로 크기만 세어 두고, compact 할 때 살아 있는 문자열만 새 buffer 로 옮겨 회수한다.
+ * 동기화는 호출하는 쪽(DeveloperIndex 의 lock)에서 담당한다.
+ */
+class OffHeapStringArena {
+
+    static final long NULL_REF = -1L;
+
+    private final int initialCapacity;
+    private ByteBuffer buffer;
+    private int used;
+    private int released;
+
+    OffHeapStringArena(int initialCapacity) {
+        this.initialCapacity = initialCapacity;
+        this.buffer = ByteBuffer.allocateDirect(initialCapacity);
+    }
+
+    long append(String value) {
+        if (value == null) {
+            return NULL_REF;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(bytes.length);
+        buffer.put(used, bytes);
+        long ref = ((long) used << 32) | bytes.length;
+        used += bytes.length;
+        return ref;
+    }
+
+    String get(long ref) {
+        if (ref == NULL_REF) {
+            return null;
+        }
+        byte[] bytes = new byte[length(ref)];
+        buffer.get(offset(ref), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    boolean equalTo(long ref, byte[] bytes) {
+        return ref != NULL_REF && length(ref) == bytes.length && startsWith(ref, bytes);
+    }
+
+    boolean startsWith(long ref, byte[] prefix) {
+        if (ref == NULL_REF || length(ref) < prefix.length) {
+            return false;
+        }
+        int offset = offset(ref);
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer.get(offset + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 더 이상 가리키지 않는 문자열. 공간은 compact 때 회수된다.
+     */
+    void release(long ref) {
+        if (ref != NULL_REF) {
+            released += length(ref);
+        }
+    }
+
+    /**
+     * refColumns 의 앞 rows 개 ref 가 가리키는 문자열만 새 buffer 에 차례로 복사하고 ref 를 새 위치로 고친다.
+     * 여기 없는 ref 는 모두 무효가 된다. 한 문자열을 두 ref 가 공유하지 않아야 한다.
+     */
+    void compact(int rows, long[]... refColumns) {
+        int live = used - released;
+        ByteBuffer compacted = ByteBuffer.allocateDirect(Math.max(initialCapacity, Math.multiplyExact(live, 2)));
+        int position = 0;
+        for (long[] refs : refColumns) {
+            for (int row = 0; row < rows; row++) {
+                long ref = refs[row];
+                if (ref == NULL_REF) {
+                    continue;
+                }
+                int length = length(ref);
+                compacted.put(position, buffer, offset(ref), length);
+                refs[row] = ((long) position << 32) | length;
+                position += length;
+            }
+        }
+        // 이전 buffer 의 native memory 는 GC 시 Cleaner 가 해제
+        buffer = compacted;
+        used = position;
+        released = 0;
+    }
+
+    int used() {
+        return used;
+    }
+
+    int released() {
+        return released;
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    private void ensureCapacity(int additional) {
+        if (used + additional <= buffer.capacity()) {
+            return;
+        }
+        // 이전 buffer 의 native memory 는 GC 시 Cleaner 가 해제
+        int capacity = buffer.capacity();
+        while (capacity < used + additional) {
+            capacity = Math.multiplyExact(capacity, 2);
+        }
+        ByteBuffer grown = ByteBuffer.allocateDirect(capacity);
+        grown.put(0, buffer, 0, used);
+        buffer = grown;
+    }
+
+    private static int offset(long ref) {
+        return (int) (ref >>> 32);
+    }
+
+    private static int length(long ref) {
+        return (int) ref;
+    }
+}
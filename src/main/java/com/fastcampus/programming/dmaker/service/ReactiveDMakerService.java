@@ -0,0 +1,212 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.cache.DeveloperCacheInvalidator;
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.*;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.repository.ConstraintViolations;
+import com.fastcampus.programming.dmaker.repository.ReactiveDeveloperRepository;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * DMakerService 와 같은 규칙 (레벨/연차 검증, memberId 중복, version 조건부 수정, 퇴직 보관, outbox 이벤트) 을
+ * R2DBC 위에서 non-blocking 으로 실행한다. 통계 / 다른 인스턴스 캐시 무효화는 commit 된 뒤에만 반영한다.
+ */
+public class ReactiveDMakerService {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int EDIT_MAX_ATTEMPTS = 3;
+
+    private final ReactiveDeveloperRepository developerRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final DeveloperStatistics developerStatistics;
+    private final DeveloperListVersion developerListVersion;
+    private final DeveloperLevelPolicy developerLevelPolicy;
+    private final DeveloperCacheInvalidator developerCacheInvalidator;
+    private final boolean archiveAsync;
+
+    public ReactiveDMakerService(
+            ReactiveDeveloperRepository developerRepository,
+            TransactionalOperator transactionalOperator,
+            DeveloperStatistics developerStatistics,
+            DeveloperListVersion developerListVersion,
+            DeveloperLevelPolicy developerLevelPolicy,
+            DeveloperCacheInvalidator developerCacheInvalidator,
+            boolean archiveAsync
+    ) {
+        this.developerRepository = developerRepository;
+        this.transactionalOperator = transactionalOperator;
+        this.developerStatistics = developerStatistics;
+        this.developerListVersion = developerListVersion;
+        this.developerLevelPolicy = developerLevelPolicy;
+        this.developerCacheInvalidator = developerCacheInvalidator;
+        this.archiveAsync = archiveAsync;
+    }
+
+    public Mono<CreateDeveloper.Response> createDeveloper(CreateDeveloper.Request request) {
+        Developer developer = Developer.builder()
+                .developerLevel(request.getDeveloperLevel())
+                .developerSkillType(request.getDeveloperSkillType())
+                .experienceYears(request.getExperienceYears())
+                .memberId(request.getMemberId())
+                .name(request.getName())
+                .age(request.getAge())
+                .statusCode(StatusCode.EMPLOYED)
+                .build();
+
+        return Mono.fromRunnable(() ->
+                        developerLevelPolicy.validate(request.getDeveloperLevel(), request.getExperienceYears()))
+                .then(Mono.defer(() -> developerRepository.existsByMemberId(request.getMemberId())))
+                .flatMap(exists -> exists
+                        ? Mono.<Developer>error(new DMakerException(DMakerErrorCode.DUPLICATED_MEMBER_ID))
+                        : developerRepository.insert(developer))
+                .map(DeveloperDetailDto::fromEntity)
+                .flatMap(created -> developerRepository.appendEvent(DeveloperEventType.CREATED, created)
+                        .thenReturn(new Change(null, created)))
+                .as(transactionalOperator::transactional)
+                // 동시 요청이 exists 검사를 통과한 경우 unique index 에서 걸러짐 (다른 제약조건 위반은 그대로)
+                .onErrorMap(e -> e instanceof DataIntegrityViolationException violation
+                                && ConstraintViolations.isViolationOf(violation, Developer.MEMBER_ID_UNIQUE_INDEX),
+                        e -> new DMakerException(DMakerErrorCode.DUPLICATED_MEMBER_ID))
+                .doOnNext(this::afterCommit)
+                .thenReturn(developer)
+                .map(CreateDeveloper.Response::fromEntity);
+    }
+
+    public Mono<DeveloperPageDto> getAllEmployedDevelopers(Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        return developerRepository.findDtosByStatusCodeAfter(StatusCode.EMPLOYED, cursor == null ? 0L : cursor, pageSize + 1)
+                .collectList()
+                .map(developers -> {
+                    boolean hasNext = developers.size() > pageSize;
+                    List<DeveloperDto> page = hasNext ? developers.subList(0, pageSize) : developers;
+                    return DeveloperPageDto.builder()
+                            .developers(page)
+                            .next(hasNext ? page.get(pageSize - 1).getId() : null)
+                            .build();
+                });
+    }
+
+    public Flux<DeveloperDto> streamAllEmployedDevelopers() {
+        return developerRepository.streamDtosByStatusCode(StatusCode.EMPLOYED);
+    }
+
+    // 목록 버전은 ttl 이 지나면 JDBC 로 다시 계산하므로 event loop 밖에서
+    public Mono<String> getDevelopersVersion() {
+        return Mono.fromSupplier(developerListVersion::get)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public Mono<DeveloperDetailDto> getDeveloperDetail(String memberId) {
+        return developerRepository.findDetailByMemberId(memberId)
+                .switchIfEmpty(Mono.error(() -> new DMakerException(DMakerErrorCode.NO_DEVELOPER)));
+    }
+
+    public Mono<DeveloperDetailDto> editDeveloper(
+            EditDeveloper.Request request,
+            String memberId,
+            Long expectedVersion
+    ) {
+        return Mono.fromRunnable(() ->
+                        developerLevelPolicy.validate(request.getDeveloperLevel(), request.getExperienceYears()))
+                .then(Mono.defer(() -> edit(request, memberId, expectedVersion, 0)))
+                .as(transactionalOperator::transactional)
+                .doOnNext(this::afterCommit)
+                .map(Change::after);
+    }
+
+    // 최신 version 기준으로 수정, 경합 시 lock 없이 재시도 (If-Match 가 있으면 재시도하지 않음)
+    private Mono<Change> edit(EditDeveloper.Request request, String memberId, Long expectedVersion, int attempt) {
+        return getDeveloperDetail(memberId)
+                .flatMap(before -> {
+                    if (expectedVersion != null && !expectedVersion.equals(before.getVersion())) {
+                        return Mono.error(new DMakerException(DMakerErrorCode.VERSION_CONFLICT));
+                    }
+                    return developerRepository.updateProfile(
+                                    memberId,
+                                    before.getVersion(),
+                                    request.getDeveloperLevel(),
+                                    request.getDeveloperSkillType(),
+                                    request.getExperienceYears())
+                            .flatMap(updated -> {
+                                if (updated == 1) {
+                                    DeveloperDetailDto after = copy(before);
+                                    after.setDeveloperLevel(request.getDeveloperLevel());
+                                    after.setDeveloperSkillType(request.getDeveloperSkillType());
+                                    after.setExperienceYears(request.getExperienceYears());
+                                    return developerRepository.appendEvent(DeveloperEventType.EDITED, after)
+                                            .thenReturn(new Change(before, after));
+                                }
+                                if (expectedVersion != null || attempt + 1 >= EDIT_MAX_ATTEMPTS) {
+                                    return Mono.error(new DMakerException(DMakerErrorCode.VERSION_CONFLICT));
+                                }
+                                return edit(request, memberId, expectedVersion, attempt + 1);
+                            });
+                });
+    }
+
+    public Mono<DeveloperDetailDto> deleteDeveloper(String memberId) {
+        // 1. EMPLOYED -> RETIRED
+        return developerRepository.findDetailByMemberId(memberId)
+                .filter(found -> found.getStatusCode() != StatusCode.RETIRED)
+                .switchIfEmpty(Mono.error(() -> new DMakerException(DMakerErrorCode.NO_DEVELOPER)))
+                .flatMap(before -> developerRepository.updateStatusCode(memberId, before.getVersion(), StatusCode.RETIRED)
+                        .flatMap(updated -> {
+                            if (updated != 1) {
+                                return Mono.error(new DMakerException(DMakerErrorCode.VERSION_CONFLICT));
+                            }
+                            DeveloperDetailDto retired = copy(before);
+                            retired.setStatusCode(StatusCode.RETIRED);
+                            // 2. save into RetiredDeveloper (async 모드면 RetiredDeveloperArchiver 가 outbox 이벤트로 처리)
+                            Mono<Long> archive = archiveAsync
+                                    ? Mono.empty()
+                                    : developerRepository.archive(memberId, before.getName());
+                            return developerRepository.appendEvent(DeveloperEventType.RETIRED, retired)
+                                    .then(archive)
+                                    .thenReturn(new Change(before, retired));
+                        }))
+                .as(transactionalOperator::transactional)
+                .doOnNext(this::afterCommit)
+                .map(Change::after);
+    }
+
+    public Mono<DeveloperStatisticsDto> getDeveloperStatistics() {
+        return Mono.fromSupplier(developerStatistics::snapshot);
+    }
+
+    // 트랜잭션 동기화가 없으므로 (reactive) commit 된 결과를 받은 뒤에 직접 반영
+    private void afterCommit(Change change) {
+        if (change.before() != null) {
+            developerStatistics.remove(change.before());
+        }
+        developerStatistics.add(change.after());
+        developerCacheInvalidator.invalidateAfterCommit(List.of(change.after().getMemberId()));
+    }
+
+    // 수정된 row 의 version 은 조건부 UPDATE 에서 1 증가
+    private static DeveloperDetailDto copy(DeveloperDetailDto developer) {
+        return DeveloperDetailDto.builder()
+                .developerLevel(developer.getDeveloperLevel())
+                .developerSkillType(developer.getDeveloperSkillType())
+                .experienceYears(developer.getExperienceYears())
+                .memberId(developer.getMemberId())
+                .statusCode(developer.getStatusCode())
+                .name(developer.getName())
+                .age(developer.getAge())
+                .version(developer.getVersion() + 1)
+                .build();
+    }
+
+    private record Change(DeveloperDetailDto before, DeveloperDetailDto after) {
+    }
+}
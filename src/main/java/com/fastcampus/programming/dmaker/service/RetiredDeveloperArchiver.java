@@ -0,0 +1,139 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperEventDto;
+import com.fastcampus.programming.dmaker.entity.OutboxOffset;
+import com.fastcampus.programming.dmaker.repository.DeveloperEventRepository;
+import com.fastcampus.programming.dmaker.repository.OutboxOffsetRepository;
+import com.fastcampus.programming.dmaker.repository.RetiredDeveloperRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * dmaker.archive.async=true 일 때 퇴직 처리 요청은 상태만 바꾸고,
+ * RetiredDeveloper 는 이 worker 가 outbox 의 RETIRED 이벤트를 batch 로 읽어서 만든다.
+ * archive 와 offset 갱신이 같은 트랜잭션이고 insert 는 memberId 기준으로 idempotent 하므로
+ * 실패하면 다음 주기에 같은 이벤트부터 다시 처리한다 (at-least-once).
+ * sharding 이면 이벤트와 개발자가 같은 shard 에 있으므로 offset 도 shard 마다 따로 둔다.
+ */
+@Slf4j
+@Component
+public class RetiredDeveloperArchiver {
+
+    static final String CONSUMER = "retired-developer-archiver";
+    private static final int BATCH_SIZE = 500;
+
+    private final DeveloperEventRepository developerEventRepository;
+    private final RetiredDeveloperRepository retiredDeveloperRepository;
+    private final OutboxOffsetRepository outboxOffsetRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DeveloperShards developerShards;
+    private final boolean async;
+
+    private final Counter archivedCounter;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public RetiredDeveloperArchiver(
+            DeveloperEventRepository developerEventRepository,
+            RetiredDeveloperRepository retiredDeveloperRepository,
+            OutboxOffsetRepository outboxOffsetRepository,
+            TransactionTemplate transactionTemplate,
+            DeveloperShards developerShards,
+            MeterRegistry meterRegistry,
+            @Value("${dmaker.archive.async:false}") boolean async
+    ) {
+        this.developerEventRepository = developerEventRepository;
+        this.retiredDeveloperRepository = retiredDeveloperRepository;
+        this.outboxOffsetRepository = outboxOffsetRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.developerShards = developerShards;
+        this.async = async;
+
+        this.archivedCounter = Counter.builder("dmaker.archive.archived")
+                .description("RetiredDeveloper rows written by the async archiver")
+                .register(meterRegistry);
+        Gauge.builder("dmaker.archive.queue.depth", queueDepth, AtomicLong::get)
+                .description("published RETIRED events not yet archived")
+                .register(meterRegistry);
+        Gauge.builder("dmaker.archive.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .description("age of the oldest RETIRED event not yet archived")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${dmaker.archive.delay-ms}")
+    public void archive() {
+        if (!async) {
+            return;
+        }
+        for (String shard : developerShards.names()) {
+            Integer processed;
+            do {
+                processed = developerShards.on(shard, () -> transactionTemplate.execute(status -> archiveBatch()));
+            } while (processed != null && processed == BATCH_SIZE);
+        }
+
+        // shard 별 backlog 의 합과 가장 오래된 lag
+        List<long[]> backlogs = developerShards.scatter(shard -> backlog());
+        queueDepth.set(backlogs.stream().mapToLong(backlog -> backlog[0]).sum());
+        lagMillis.set(backlogs.stream().mapToLong(backlog -> backlog[1]).max().orElse(0L));
+    }
+
+    long queueDepth() {
+        return queueDepth.get();
+    }
+
+    long lagMillis() {
+        return lagMillis.get();
+    }
+
+    private int archiveBatch() {
+        OutboxOffset offset = outboxOffsetRepository.findById(CONSUMER)
+                .orElseGet(() -> OutboxOffset.builder().consumer(CONSUMER).lastSequenceNo(0L).build());
+
+        List<DeveloperEventDto> events = developerEventRepository.findPublishedAfter(
+                offset.getLastSequenceNo(), DeveloperEventType.RETIRED, PageRequest.ofSize(BATCH_SIZE));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        int archived = retiredDeveloperRepository.archiveDevelopersIfAbsent(
+                events.stream().map(DeveloperEventDto::getMemberId).distinct().toList(),
+                StatusCode.RETIRED);
+        archivedCounter.increment(archived);
+
+        offset.setLastSequenceNo(events.get(events.size() - 1).getSequence());
+        outboxOffsetRepository.save(offset);
+        return events.size();
+    }
+
+    // [queue depth, lag millis]
+    private long[] backlog() {
+        long lastSequenceNo = outboxOffsetRepository.findById(CONSUMER)
+                .map(OutboxOffset::getLastSequenceNo)
+                .orElse(0L);
+        long depth = developerEventRepository.countPublishedAfter(lastSequenceNo, DeveloperEventType.RETIRED);
+        long lag = developerEventRepository
+                .findPublishedAfter(lastSequenceNo, DeveloperEventType.RETIRED, PageRequest.ofSize(1))
+                .stream()
+                .findFirst()
+                .map(oldest -> Duration.between(oldest.getOccurredAt(), LocalDateTime.now()).toMillis())
+                .orElse(0L);
+        return new long[]{depth, lag};
+    }
+}
@@ -0,0 +1,78 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * virtual node 를 둔 consistent hash ring.
+ * node 를 추가/제거하면 그 node 가 맡는 구간의 key 만 이동한다 (전체의 약 1/N).
+ */
+public final class ConsistentHashRing {
+
+    private final List<String> nodes;
+    private final long[] points;
+    private final String[] owners;
+
+    public ConsistentHashRing(List<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("ring 에 node 가 없습니다.");
+        }
+        int replicas = Math.max(virtualNodes, 1);
+        this.nodes = List.copyOf(nodes);
+
+        long[][] entries = new long[nodes.size() * replicas][];
+        int n = 0;
+        for (int node = 0; node < nodes.size(); node++) {
+            for (int replica = 0; replica < replicas; replica++) {
+                entries[n++] = new long[]{hash(nodes.get(node) + "#" + replica), node};
+            }
+        }
+        // 같은 위치면 node 순서로 (설정 순서가 같으면 어느 인스턴스에서나 같은 ring)
+        Arrays.sort(entries, (a, b) -> a[0] != b[0] ? Long.compareUnsigned(a[0], b[0]) : Long.compare(a[1], b[1]));
+
+        this.points = new long[entries.length];
+        this.owners = new String[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            points[i] = entries[i][0];
+            owners[i] = nodes.get((int) entries[i][1]);
+        }
+    }
+
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    /**
+     * key 의 hash 이상인 첫 point 의 node, 없으면 처음으로 돌아감
+     */
+    public String nodeFor(String key) {
+        long hash = hash(key);
+        int low = 0;
+        int high = points.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Long.compareUnsigned(points[mid], hash) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return owners[low == points.length ? 0 : low];
+    }
+
+    // FNV-1a 64 + murmur3 finalizer (짧은 key 도 ring 에 고르게 퍼지도록)
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,158 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Developer 데이터를 memberId 의 consistent hash 로 나눈 shard 목록.
+ * 한 개발자의 developer / retired_developer / outbox 이벤트는 모두 같은 shard 에 있다.
+ * sharding 을 끄면 shard 는 DEFAULT 하나이고 모든 호출이 현재 스레드에서 그대로 실행된다.
+ */
+public class DeveloperShards implements DisposableBean {
+
+    public static final String DEFAULT = "default";
+
+    private final ConsistentHashRing ring;
+    private final ExecutorService scatterExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public DeveloperShards(
+            List<String> names,
+            int virtualNodes,
+            int scatterThreads,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.ring = new ConsistentHashRing(names, virtualNodes);
+        this.scatterExecutor = names.size() == 1 ? null
+                : Executors.newFixedThreadPool(Math.max(scatterThreads, names.size()), new ScatterThreadFactory());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public static DeveloperShards single(PlatformTransactionManager transactionManager) {
+        return new DeveloperShards(List.of(DEFAULT), 1, 1, transactionManager);
+    }
+
+    public List<String> names() {
+        return ring.nodes();
+    }
+
+    public boolean isSharded() {
+        return ring.nodes().size() > 1;
+    }
+
+    public String shardOf(String memberId) {
+        if (!isSharded()) {
+            return DEFAULT;
+        }
+        return ring.nodeFor(memberId == null ? "" : memberId);
+    }
+
+    public <T> T on(String shard, Supplier<T> action) {
+        return ShardContext.call(shard, action);
+    }
+
+    public void run(String shard, Runnable action) {
+        ShardContext.call(shard, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * memberId 의 shard 에서 실행. 트랜잭션 안이면 첫 쿼리 전에 호출해야 한다.
+     */
+    public <T> T onMember(String memberId, Supplier<T> action) {
+        return on(shardOf(memberId), action);
+    }
+
+    /**
+     * shard 별로 나눈 항목 (shard 순서, shard 안에서는 입력 순서 유지)
+     */
+    public <T> Map<String, List<T>> partition(Collection<T> items, Function<T, String> memberId) {
+        Map<String, List<T>> partitions = new LinkedHashMap<>();
+        for (String shard : names()) {
+            partitions.put(shard, new ArrayList<>());
+        }
+        for (T item : items) {
+            partitions.get(shardOf(memberId.apply(item))).add(item);
+        }
+        partitions.values().removeIf(List::isEmpty);
+        return partitions;
+    }
+
+    /**
+     * 모든 shard 에 같은 조회를 병렬로 보내고 shard 순서대로 결과를 모은다.
+     * 각 조회는 worker 스레드에서 실행되므로 호출한 쪽의 트랜잭션에 참여하지 않는다.
+     */
+    public <T> List<T> scatter(Function<String, T> query) {
+        if (scatterExecutor == null) {
+            return Collections.singletonList(query.apply(DEFAULT));
+        }
+        List<CompletableFuture<T>> futures = names().stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> on(shard, () -> query.apply(shard)), scatterExecutor))
+                .toList();
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * scatter 와 같지만 shard 마다 readOnly 트랜잭션 안에서 조회 (flush / dirty checking 없음, replica 로 routing)
+     */
+    public <T> List<T> scatterRead(Function<String, T> query) {
+        return scatter(shard -> readOnlyTransaction.execute(status -> query.apply(shard)));
+    }
+
+    /**
+     * memberId 의 shard 에서 readOnly 트랜잭션으로 조회
+     */
+    public <T> T readOnMember(String memberId, Supplier<T> query) {
+        return onMember(memberId, () -> readOnlyTransaction.execute(status -> query.get()));
+    }
+
+    /**
+     * shard 마다 readOnly 트랜잭션을 열어 순서대로 실행 (stream 조회용, connection 은 한 번에 하나만 잡음)
+     */
+    public void readEach(Consumer<String> action) {
+        for (String shard : names()) {
+            run(shard, () -> readOnlyTransaction.executeWithoutResult(status -> action.accept(shard)));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scatterExecutor != null) {
+            scatterExecutor.shutdown();
+        }
+    }
+
+    private static class ScatterThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "shard-scatter-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 사용할 shard. ShardRoutingDataSource 가 connection 을 열 때 읽는다.
+ * 트랜잭션 안에서는 첫 쿼리로 connection 이 열린 뒤에 바꿔도 그 트랜잭션의 shard 는 바뀌지 않는다.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T call(String shard, Supplier<T> action) {
+        String previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
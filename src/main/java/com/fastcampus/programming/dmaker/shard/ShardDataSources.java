@@ -0,0 +1,37 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * shard 별 connection pool (설정 순서 유지).
+ * DataSource bean 으로 등록하지 않아야 proxy BeanPostProcessor 들이 routing DataSource 한 곳에서만 감싼다.
+ */
+public class ShardDataSources implements DisposableBean {
+
+    private final Map<String, DataSource> dataSources;
+
+    public ShardDataSources(Map<String, DataSource> dataSources) {
+        this.dataSources = dataSources;
+    }
+
+    public Map<String, DataSource> asMap() {
+        return dataSources;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource dataSource : dataSources.values()) {
+            close(dataSource);
+        }
+    }
+
+    // pool 이 ConcurrencyLimitingDataSource 등으로 감싸져 있어도 실제 pool 을 닫음
+    private static void close(DataSource dataSource) throws Exception {
+        if (dataSource.isWrapperFor(AutoCloseable.class)) {
+            dataSource.unwrap(AutoCloseable.class).close();
+        }
+    }
+}
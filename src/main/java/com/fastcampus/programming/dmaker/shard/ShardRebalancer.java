@@ -0,0 +1,146 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+/**
+ * shard 를 추가/제거한 뒤 ring 상의 소유 shard 와 다른 곳에 있는 개발자를 옮긴다.
+ * developer, retired_developer row 를 대상 shard 에 복사 (이미 있는 memberId 는 건너뜀) 한 뒤 원래 shard 에서 지우므로
+ * 중간에 실패해도 다시 실행하면 된다. shard 사이 트랜잭션은 없으므로 쓰기 요청을 멈춘 상태에서 실행해야 한다.
+ * outbox 이벤트는 이력이므로 옮기지 않는다.
+ */
+@Slf4j
+public class ShardRebalancer {
+
+    private static final int PAGE_SIZE = 500;
+    private static final List<String> DEVELOPER_COLUMNS = List.of(
+            "id", "developer_level", "developer_skill_type", "experience_years", "member_id", "name", "age",
+            "status_code", "version", "created_at", "updated_at");
+    // identity id 는 대상 shard 에서 새로 부여
+    private static final List<String> RETIRED_DEVELOPER_COLUMNS = List.of(
+            "member_id", "name", "created_at", "updated_at");
+
+    private final DeveloperShards developerShards;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ShardRebalancer(DeveloperShards developerShards, JdbcTemplate jdbcTemplate) {
+        this.developerShards = developerShards;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * shard 별 개발자 수와 다른 shard 로 옮겨야 하는 개발자 수
+     */
+    public Map<String, ShardStatus> status() {
+        Map<String, ShardStatus> status = new LinkedHashMap<>();
+        for (String shard : developerShards.names()) {
+            long[] developers = new long[1];
+            int misplaced = scan(shard,
+                    page -> page.values().stream().mapToInt(List::size).sum(),
+                    developers);
+            status.put(shard, new ShardStatus(developers[0], misplaced));
+        }
+        return status;
+    }
+
+    /**
+     * 원래 shard 별로 옮긴 개발자 수
+     */
+    public Map<String, Integer> rebalance() {
+        Map<String, Integer> moved = new LinkedHashMap<>();
+        for (String shard : developerShards.names()) {
+            int count = scan(shard, misplaced -> {
+                int sum = 0;
+                for (Map.Entry<String, List<String>> target : misplaced.entrySet()) {
+                    sum += move(shard, target.getKey(), target.getValue());
+                }
+                return sum;
+            }, new long[1]);
+            if (count > 0) {
+                log.info("rebalanced developers, from: {}, moved: {}", shard, count);
+            }
+            moved.put(shard, count);
+        }
+        return moved;
+    }
+
+    // id 순 page 마다 소유 shard 가 다른 memberId 를 (대상 shard 별로) 모아 handler 에 전달, developers[0] 에 전체 row 수
+    private int scan(String shard, ToIntFunction<Map<String, List<String>>> handler, long[] developers) {
+        int handled = 0;
+        long cursor = 0L;
+        List<Map<String, Object>> rows;
+        do {
+            long after = cursor;
+            rows = developerShards.on(shard, () -> jdbcTemplate.queryForList(
+                    "select id, member_id from developer where id > ? order by id fetch first "
+                            + PAGE_SIZE + " rows only", after));
+            if (rows.isEmpty()) {
+                break;
+            }
+            developers[0] += rows.size();
+            cursor = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+
+            Map<String, List<String>> misplaced = new LinkedHashMap<>();
+            for (Map<String, Object> row : rows) {
+                String memberId = (String) row.get("member_id");
+                String owner = developerShards.shardOf(memberId);
+                if (!owner.equals(shard)) {
+                    misplaced.computeIfAbsent(owner, key -> new ArrayList<>()).add(memberId);
+                }
+            }
+            if (!misplaced.isEmpty()) {
+                handled += handler.applyAsInt(misplaced);
+            }
+        } while (rows.size() == PAGE_SIZE);
+        return handled;
+    }
+
+    private int move(String source, String target, List<String> memberIds) {
+        copy("developer", DEVELOPER_COLUMNS, source, target, memberIds);
+        copy("retired_developer", RETIRED_DEVELOPER_COLUMNS, source, target, memberIds);
+
+        // 복사가 끝난 뒤에 원래 shard 에서 삭제
+        String in = placeholders(memberIds.size());
+        developerShards.run(source, () -> {
+            jdbcTemplate.update("delete from retired_developer where member_id in (" + in + ")", memberIds.toArray());
+            jdbcTemplate.update("delete from developer where member_id in (" + in + ")", memberIds.toArray());
+        });
+        return memberIds.size();
+    }
+
+    private void copy(String table, List<String> columns, String source, String target, List<String> memberIds) {
+        String in = placeholders(memberIds.size());
+        String columnList = String.join(", ", columns);
+        List<Map<String, Object>> rows = developerShards.on(source, () -> jdbcTemplate.queryForList(
+                "select " + columnList + " from " + table + " where member_id in (" + in + ")",
+                memberIds.toArray()));
+        if (rows.isEmpty()) {
+            return;
+        }
+        Set<String> existing = new HashSet<>(developerShards.on(target, () -> jdbcTemplate.queryForList(
+                "select member_id from " + table + " where member_id in (" + in + ")",
+                String.class, memberIds.toArray())));
+
+        List<Object[]> inserts = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            if (!existing.contains((String) row.get("member_id"))) {
+                inserts.add(columns.stream().map(row::get).toArray());
+            }
+        }
+        if (!inserts.isEmpty()) {
+            developerShards.run(target, () -> jdbcTemplate.batchUpdate(
+                    "insert into " + table + " (" + columnList + ") values (" + placeholders(columns.size()) + ")",
+                    inserts));
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    public record ShardStatus(long developers, long misplaced) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * ShardContext 의 shard 로 connection 을 연다. 지정되지 않았으면 기본 shard.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
@@ -0,0 +1,64 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기본 shard 는 spring.jpa.hibernate.ddl-auto 로 스키마가 만들어지므로,
+ * 테이블이 없는 나머지 shard 에 같은 매핑으로 테이블/시퀀스를 만들고 shard 의 id-range 로 시퀀스 대역을 나눈다.
+ * (id-range 가 r 인 shard 는 r * 2^40 부터, id 가 shard 사이에서 겹치지 않음)
+ * SmartInitializingSingleton 보다 먼저 실행되므로 통계/index 적재 전에 끝난다.
+ */
+@Slf4j
+public class ShardSchemaInitializer implements InitializingBean {
+
+    public static final long SEQUENCE_RANGE = 1L << 40;
+    // r * SEQUENCE_RANGE 가 long 을 넘지 않는 대역 수
+    public static final long MAX_ID_RANGES = Long.MAX_VALUE / SEQUENCE_RANGE;
+    private static final List<String> SEQUENCES = List.of("developer_seq", "developer_event_seq");
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final DeveloperShards developerShards;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Integer> idRanges;
+
+    public ShardSchemaInitializer(
+            EntityManagerFactory entityManagerFactory,
+            DeveloperShards developerShards,
+            JdbcTemplate jdbcTemplate,
+            Map<String, Integer> idRanges
+    ) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.developerShards = developerShards;
+        this.jdbcTemplate = jdbcTemplate;
+        this.idRanges = idRanges;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        List<String> shards = developerShards.names();
+        for (int i = 1; i < shards.size(); i++) {
+            String shard = shards.get(i);
+            long firstId = idRanges.get(shard) * SEQUENCE_RANGE + 1;
+            // 이미 테이블이 있는 shard 는 스키마/시퀀스를 건드리지 않음
+            Long tables = developerShards.on(shard, () -> jdbcTemplate.queryForObject(
+                    "select count(*) from information_schema.tables where lower(table_name) = 'developer'",
+                    Long.class));
+            if (tables != null && tables > 0) {
+                continue;
+            }
+            developerShards.run(shard, () -> {
+                entityManagerFactory.unwrap(SessionFactory.class).getSchemaManager().exportMappedObjects(true);
+                SEQUENCES.forEach(sequence ->
+                        jdbcTemplate.execute("alter sequence " + sequence + " restart with " + firstId));
+            });
+            log.info("shard schema initialized: {}", shard);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * dmaker.sharding 설정. 기본 shard 는 목록의 첫 번째.
+ * id 대역은 목록 순서가 아니라 shard 마다 설정한 id-range 로 정하므로, 목록 순서를 바꾸거나 shard 를 추가해도
+ * 이미 만든 shard 의 대역은 그대로다. (기본 shard 는 0, 겹치면 기동 실패)
+ */
+@ConfigurationProperties("dmaker.sharding")
+public record ShardingProperties(
+        boolean enabled,
+        int virtualNodes,
+        int scatterThreads,
+        boolean initializeSchema,
+        List<Shard> shards
+) {
+
+    public record Shard(
+            String name,
+            String url,
+            String username,
+            String password,
+            int maximumPoolSize,
+            int idRange
+    ) {
+    }
+}
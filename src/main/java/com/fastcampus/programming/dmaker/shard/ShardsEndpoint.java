@@ -0,0 +1,30 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/shards: shard 별 분포, POST /actuator/shards: rebalance 실행
+ */
+@Endpoint(id = "shards")
+public class ShardsEndpoint {
+
+    private final ShardRebalancer shardRebalancer;
+
+    public ShardsEndpoint(ShardRebalancer shardRebalancer) {
+        this.shardRebalancer = shardRebalancer;
+    }
+
+    @ReadOperation
+    public Map<String, ShardRebalancer.ShardStatus> status() {
+        return shardRebalancer.status();
+    }
+
+    @WriteOperation
+    public Map<String, Integer> rebalance() {
+        return shardRebalancer.rebalance();
+    }
+}
@@ -1,13 +1,31 @@
 package com.fastcampus.programming.dmaker;
 
+import com.zaxxer.hikari.HikariDataSource;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 @SpringBootTest
 class DmakerApplicationTests {
 
+	@Autowired
+	private DataSource dataSource;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void testHikariSettingsBindToPrimaryPool() throws Exception {
+		// spring.datasource.hikari 가 다른 block 아래로 밀리면 Hikari 기본값(10)으로 조용히 바뀜
+		HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+		assertEquals(20, hikari.getMaximumPoolSize());
+		assertEquals(20, hikari.getMinimumIdle());
+		assertEquals(3000, hikari.getConnectionTimeout());
+	}
+
 }
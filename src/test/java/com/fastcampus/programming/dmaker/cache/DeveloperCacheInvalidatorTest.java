@@ -0,0 +1,127 @@
+package com.fastcampus.programming.dmaker.cache;
+
+import com.fastcampus.programming.dmaker.config.CacheConfig;
+import com.fastcampus.programming.dmaker.config.HibernateCacheConfig;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 같은 LocalCacheInvalidationBus 에 붙은 두 인스턴스 (writer, reader)
+ */
+@ExtendWith(MockitoExtension.class)
+class DeveloperCacheInvalidatorTest {
+
+    @Mock
+    private Cache writerSecondLevelCache;
+
+    @Mock
+    private Cache readerSecondLevelCache;
+
+    private final LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus();
+    private final CacheManager writerCacheManager = new ConcurrentMapCacheManager(CacheConfig.DEVELOPER_DETAIL);
+    private final CacheManager readerCacheManager = new ConcurrentMapCacheManager(CacheConfig.DEVELOPER_DETAIL);
+
+    private DeveloperCacheInvalidator writer;
+    private DeveloperCacheInvalidator reader;
+
+    @BeforeEach
+    void setUp() {
+        writer = instance(writerSecondLevelCache, writerCacheManager);
+        reader = instance(readerSecondLevelCache, readerCacheManager);
+        writerCacheManager.getCache(CacheConfig.DEVELOPER_DETAIL).put("memberId", "writer");
+        readerCacheManager.getCache(CacheConfig.DEVELOPER_DETAIL).put("memberId", "reader");
+        readerCacheManager.getCache(CacheConfig.DEVELOPER_DETAIL).put("other", "reader");
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testOtherInstanceEvictsAfterCommit() {
+        writer.invalidateAfterCommit(List.of("memberId"));
+
+        // commit 전에는 보내지 않음
+        assertNotNull(readerCacheManager.getCache(CacheConfig.DEVELOPER_DETAIL).get("memberId"));
+        verifyNoInteractions(readerSecondLevelCache);
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+
+        assertNull(readerCacheManager.getCache(CacheConfig.DEVELOPER_DETAIL).get("memberId"));
+        assertNotNull(readerCacheManager.getCache(CacheConfig.DEVELOPER_DETAIL).get("other"));
+        verify(readerSecondLevelCache).evictEntityData(Developer.class);
+        verify(readerSecondLevelCache).evictQueryRegion(HibernateCacheConfig.DEVELOPER_LIST_REGION);
+
+        // 보낸 인스턴스는 자기 메시지를 무시 (로컬 캐시는 Hibernate / @CacheEvict 가 이미 처리)
+        assertNotNull(writerCacheManager.getCache(CacheConfig.DEVELOPER_DETAIL).get("memberId"));
+        verifyNoInteractions(writerSecondLevelCache);
+    }
+
+    @Test
+    void testRolledBackChangeIsNotPublished() {
+        writer.invalidateAfterCommit(List.of("memberId"));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertNotNull(readerCacheManager.getCache(CacheConfig.DEVELOPER_DETAIL).get("memberId"));
+        verifyNoInteractions(readerSecondLevelCache);
+    }
+
+    @Test
+    void testPublishesImmediatelyOutsideTransaction() {
+        TransactionSynchronizationManager.clearSynchronization();
+
+        writer.invalidateAfterCommit(List.of("memberId"));
+
+        assertNull(readerCacheManager.getCache(CacheConfig.DEVELOPER_DETAIL).get("memberId"));
+        verify(readerSecondLevelCache).evictEntityData(Developer.class);
+    }
+
+    @Test
+    void testRemoteChangeListenerReceivesOtherInstanceChanges() {
+        List<Set<String>> writerReceived = new ArrayList<>();
+        List<Set<String>> readerReceived = new ArrayList<>();
+        writer.onRemoteChange(writerReceived::add);
+        reader.onRemoteChange(readerReceived::add);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        writer.invalidateAfterCommit(List.of("memberId"));
+
+        assertEquals(List.of(Set.of("memberId")), readerReceived);
+        assertTrue(writerReceived.isEmpty());
+    }
+
+    private DeveloperCacheInvalidator instance(Cache secondLevelCache, CacheManager cacheManager) {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        given(entityManagerFactory.unwrap(SessionFactory.class)).willReturn(sessionFactory);
+        given(sessionFactory.getCache()).willReturn(secondLevelCache);
+        return new DeveloperCacheInvalidator(entityManagerFactory, cacheManager, bus, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,141 @@
+package com.fastcampus.programming.dmaker.cache;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.config.HibernateCacheConfig;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.EditDeveloper;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.service.DMakerService;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DMakerService dMakerService;
+
+    @Test
+    void testFindByMemberIdIsServedFromNaturalIdCache() {
+        developerRepository.save(developer("l2natural"));
+        Statistics statistics = statistics();
+        developerRepository.findByMemberId("l2natural");
+
+        long naturalIdHits = statistics.getNaturalIdCacheHitCount();
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(developerRepository.findByMemberId("l2natural").isPresent());
+
+        assertTrue(statistics.getNaturalIdCacheHitCount() > naturalIdHits);
+        assertEquals(statements, statistics.getPrepareStatementCount());
+
+        Gauge hitRatio = meterRegistry.find("dmaker.cache.l2.hit.ratio")
+                .tag("region", HibernateCacheConfig.DEVELOPER_NATURAL_ID_REGION)
+                .gauge();
+        assertNotNull(hitRatio);
+        assertTrue(hitRatio.value() > 0);
+    }
+
+    @Test
+    void testEmployedListIsServedFromQueryCacheUntilDevelopersChange() {
+        Developer first = developerRepository.save(developer("l2list1"));
+        Statistics statistics = statistics();
+        long cursor = first.getId() - 1;
+        developerRepository.findDtosByStatusCodeAfter(StatusCode.EMPLOYED, cursor, PageRequest.ofSize(10));
+
+        long queryHits = statistics.getQueryCacheHitCount();
+        developerRepository.findDtosByStatusCodeAfter(StatusCode.EMPLOYED, cursor, PageRequest.ofSize(10));
+        assertEquals(queryHits + 1, statistics.getQueryCacheHitCount());
+
+        // insert 로 Developer 의 update timestamp 가 바뀌어 이전 결과는 쓰지 않음
+        developerRepository.save(developer("l2list2"));
+        List<DeveloperDto> developers = developerRepository.findDtosByStatusCodeAfter(
+                StatusCode.EMPLOYED, cursor, PageRequest.ofSize(10));
+        assertTrue(developers.stream().anyMatch(developer -> developer.getMemberId().equals("l2list2")));
+    }
+
+    @Test
+    void testEditKeepsOtherDevelopersCached() {
+        Developer edited = developerRepository.save(developer("l2edit1"));
+        Developer other = developerRepository.save(developer("l2edit2"));
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        assertTrue(cache.containsEntity(Developer.class, other.getId()));
+
+        dMakerService.editDeveloper(
+                new EditDeveloper.Request(DeveloperLevel.SENIOR, DeveloperSkillType.FRONT_END, 13), "l2edit1", null);
+
+        // 엔티티로 수정하므로 수정한 row 만 새 값으로 바뀌고 Developer 영역의 나머지는 그대로
+        assertTrue(cache.containsEntity(Developer.class, other.getId()));
+        assertTrue(cache.containsEntity(Developer.class, edited.getId()));
+
+        Statistics statistics = statistics();
+        long hits = statistics.getSecondLevelCacheHitCount();
+        long statements = statistics.getPrepareStatementCount();
+        assertEquals(DeveloperSkillType.FRONT_END,
+                developerRepository.findByMemberId("l2edit1").orElseThrow().getDeveloperSkillType());
+        assertTrue(developerRepository.findByMemberId("l2edit2").isPresent());
+
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= hits + 2);
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        Gauge hitRatio = meterRegistry.find("dmaker.cache.l2.hit.ratio")
+                .tag("region", HibernateCacheConfig.DEVELOPER_REGION)
+                .gauge();
+        assertNotNull(hitRatio);
+        assertTrue(hitRatio.value() > 0);
+    }
+
+    @Test
+    void testInvalidationFromAnotherInstanceEvictsOnlyChangedDevelopers() {
+        Developer developer = developerRepository.save(developer("l2remote"));
+        Developer other = developerRepository.save(developer("l2remote2"));
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        assertTrue(cache.containsEntity(Developer.class, developer.getId()));
+
+        cacheInvalidationBus.publish(new CacheInvalidation("another-instance", Set.of("l2remote")));
+
+        assertFalse(cache.containsEntity(Developer.class, developer.getId()));
+        assertTrue(cache.containsEntity(Developer.class, other.getId()));
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static Developer developer(String memberId) {
+        return Developer.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("name")
+                .age(40)
+                .statusCode(StatusCode.EMPLOYED)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CborConfigTest {
+
+    private final ObjectMapper cborMapper = CborConfig.cborMapper(Jackson2ObjectMapperBuilder.json());
+    private final ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    // CBOR 응답의 enum 은 ordinal 이므로 순서가 바뀌면 기존 client 가 다른 값으로 읽음: 새 값은 끝에만 추가
+    @Test
+    void testEnumOrdinalsArePartOfWireFormat() {
+        assertEquals(List.of("NEW", "JUNIOR", "JUNGIOR", "SENIOR"), names(DeveloperLevel.values()));
+        assertEquals(List.of("BACK_END", "FRONT_END", "FULL_STACK"), names(DeveloperSkillType.values()));
+        assertEquals(List.of("EMPLOYED", "RETIRED"), names(StatusCode.values()));
+        assertEquals(List.of("NO_DEVELOPER", "DUPLICATED_MEMBER_ID", "LEVEL_EXPERIENCE_YEARS_NOT_MATCHED",
+                        "VERSION_CONFLICT", "TOO_MANY_REQUESTS", "SERVICE_UNAVAILABLE", "INTERNAL_SERVER_ERROR",
+                        "INVALID_REQUEST"),
+                names(DMakerErrorCode.values()));
+    }
+
+    @Test
+    void testDeveloperDtoIsWrittenWithEnumOrdinals() throws Exception {
+        byte[] cbor = cborMapper.writeValueAsBytes(developer(1));
+
+        JsonNode node = cborMapper.readTree(cbor);
+        assertTrue(node.get("developerLevel").isInt());
+        assertEquals(DeveloperLevel.SENIOR.ordinal(), node.get("developerLevel").intValue());
+        assertEquals(DeveloperSkillType.FRONT_END.ordinal(), node.get("developerSkillType").intValue());
+        // JSON 과 같은 DTO 스키마 (cursor 용 id 는 노출하지 않음)
+        assertFalse(node.has("id"));
+    }
+
+    @Test
+    void testCreateRequestAcceptsOrdinalsAndNames() throws Exception {
+        byte[] byOrdinal = cborMapper.writeValueAsBytes(Map.of(
+                "developerLevel", DeveloperLevel.JUNIOR.ordinal(),
+                "developerSkillType", DeveloperSkillType.FULL_STACK.ordinal(),
+                "experienceYears", 3,
+                "memberId", "cbor-member",
+                "name", "cbor",
+                "age", 30));
+        byte[] byName = cborMapper.writeValueAsBytes(Map.of(
+                "developerLevel", "JUNIOR",
+                "developerSkillType", "FULL_STACK"));
+
+        CreateDeveloper.Request request = cborMapper.readValue(byOrdinal, CreateDeveloper.Request.class);
+        assertEquals(DeveloperLevel.JUNIOR, request.getDeveloperLevel());
+        assertEquals(DeveloperSkillType.FULL_STACK, request.getDeveloperSkillType());
+        assertEquals("cbor-member", request.getMemberId());
+
+        CreateDeveloper.Request named = cborMapper.readValue(byName, CreateDeveloper.Request.class);
+        assertEquals(DeveloperLevel.JUNIOR, named.getDeveloperLevel());
+    }
+
+    @Test
+    void testDeveloperPageIsSmallerThanJson() throws Exception {
+        DeveloperPageDto page = DeveloperPageDto.builder()
+                .developers(IntStream.range(0, 100).mapToObj(CborConfigTest::developer).toList())
+                .next(100L)
+                .build();
+
+        byte[] cbor = cborMapper.writeValueAsBytes(page);
+        byte[] json = jsonMapper.writeValueAsBytes(page);
+
+        assertTrue(cbor.length < json.length, "cbor " + cbor.length + " bytes, json " + json.length + " bytes");
+        DeveloperPageDto decoded = cborMapper.readValue(cbor, DeveloperPageDto.class);
+        assertEquals(100, decoded.getDevelopers().size());
+        assertEquals(DeveloperLevel.SENIOR, decoded.getDevelopers().get(99).getDeveloperLevel());
+    }
+
+    private static DeveloperDto developer(int i) {
+        return DeveloperDto.builder()
+                .id((long) i)
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.FRONT_END)
+                .memberId("member-" + i)
+                .build();
+    }
+
+    private static List<String> names(Enum<?>[] values) {
+        return Arrays.stream(values).map(Enum::name).toList();
+    }
+}
@@ -0,0 +1,64 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.shard.ShardDataSources;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ConcurrencyLimitingDataSourceTest {
+
+    @Test
+    void testPermitIsReleasedOnClose() throws Exception {
+        DataSource target = mock(DataSource.class);
+        given(target.getConnection()).willAnswer(invocation -> mock(Connection.class));
+        ConcurrencyLimitingDataSource dataSource =
+                new ConcurrencyLimitingDataSource(target, 1, Duration.ofMillis(10));
+
+        Connection connection = dataSource.getConnection();
+        assertEquals(0, dataSource.getAvailablePermits());
+
+        // permit 이 없으면 timeout 후 실패
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        // close 를 여러 번 호출해도 permit 은 한 번만 반환
+        connection.close();
+        connection.close();
+        assertEquals(1, dataSource.getAvailablePermits());
+        assertNotNull(dataSource.getConnection());
+    }
+
+    @Test
+    void testPostProcessorLimitsEachPoolBySize() throws Exception {
+        BeanPostProcessor postProcessor = ThreadingConfig.concurrencyLimitingDataSourcePostProcessor(
+                new MockEnvironment().withProperty("dmaker.jdbc.acquire-timeout", "10ms"));
+        HikariDataSource shard0 = pool(10);
+        HikariDataSource shard1 = pool(3);
+
+        // shard pool 은 각자 크기만큼, routing DataSource 는 감싸지 않음
+        ShardDataSources shards = (ShardDataSources) postProcessor.postProcessAfterInitialization(
+                new ShardDataSources(Map.of("shard0", shard0, "shard1", shard1)), "shardDataSources");
+        assertEquals(10, ((ConcurrencyLimitingDataSource) shards.asMap().get("shard0")).getAvailablePermits());
+        assertEquals(3, ((ConcurrencyLimitingDataSource) shards.asMap().get("shard1")).getAvailablePermits());
+        assertSame(shard1, shards.asMap().get("shard1").unwrap(HikariDataSource.class));
+
+        DataSource routing = mock(DataSource.class);
+        assertSame(routing, postProcessor.postProcessAfterInitialization(routing, "dataSource"));
+    }
+
+    private static HikariDataSource pool(int maximumPoolSize) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setMaximumPoolSize(maximumPoolSize);
+        return pool;
+    }
+}
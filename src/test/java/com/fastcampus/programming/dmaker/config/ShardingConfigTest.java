@@ -0,0 +1,39 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.shard.ShardingProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardingConfigTest {
+
+    @Test
+    void testIdRangesDoNotDependOnListOrder() {
+        // shard 를 목록 중간에 추가해도 기존 shard 의 대역은 그대로
+        assertDoesNotThrow(() -> ShardingConfig.validateIdRanges(
+                List.of(shard("shard0", 0), shard("shard3", 3), shard("shard1", 1))));
+    }
+
+    @Test
+    void testOverlappingIdRangesFailAtStartup() {
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> ShardingConfig.validateIdRanges(
+                List.of(shard("shard0", 0), shard("shard1", 1), shard("shard2", 1))));
+        assertTrue(e.getMessage().contains("shard1, shard2"));
+
+        // id-range 를 빠뜨리면 0 이 되어 기본 shard 와 겹침
+        assertThrows(IllegalStateException.class, () -> ShardingConfig.validateIdRanges(
+                List.of(shard("shard0", 0), shard("shard1", 0))));
+    }
+
+    @Test
+    void testDefaultShardMustUseFirstIdRange() {
+        assertThrows(IllegalStateException.class, () -> ShardingConfig.validateIdRanges(
+                List.of(shard("shard1", 1), shard("shard0", 0))));
+    }
+
+    private static ShardingProperties.Shard shard(String name, int idRange) {
+        return new ShardingProperties.Shard(name, "jdbc:h2:mem:" + name, "sa", "", 0, idRange);
+    }
+}
@@ -3,50 +3,108 @@ package com.fastcampus.programming.dmaker.controller;
 
 import static net.bytebuddy.matcher.ElementMatchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.config.CborConfig;
+import com.fastcampus.programming.dmaker.dto.BatchCreateDeveloper;
 import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperChangesDto;
 import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperEventDto;
 import com.fastcampus.programming.dmaker.dto.EditDeveloper;
+import com.fastcampus.programming.dmaker.dto.ImportDevelopers;
+import com.fastcampus.programming.dmaker.dto.ValidateDevelopers;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.metrics.DMakerErrorCounter;
 import com.fastcampus.programming.dmaker.service.DMakerService;
+import com.fastcampus.programming.dmaker.service.DeveloperBatchService;
+import com.fastcampus.programming.dmaker.service.DeveloperChangeFeed;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
 import com.fastcampus.programming.dmaker.type.DeveloperLevel;
 import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @MockBean(JpaMetamodelMappingContext.class)
 @WebMvcTest(DMakerController.class)
+@Import({DMakerErrorCounter.class, CborConfig.class})
 class DMakerControllerTest {
 
+    @TestConfiguration
+    static class MeterRegistryConfig {
+        @Bean
+        @Primary
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
     @Autowired
     private ObjectMapper objectMapper;
 
+    private final ObjectMapper cborMapper = CborConfig.cborMapper(Jackson2ObjectMapperBuilder.json());
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @MockBean
     private DMakerService dMakerService;
 
+    @MockBean
+    private DeveloperBatchService developerBatchService;
+
+    @MockBean
+    private DeveloperChangeFeed developerChangeFeed;
+
     protected MediaType contentType = new MediaType(MediaType.APPLICATION_JSON.getType(),
                                                     MediaType.APPLICATION_JSON.getSubtype(),
                                                     StandardCharsets.UTF_8);
@@ -62,19 +120,91 @@ class DMakerControllerTest {
                                                     .developerLevel(DeveloperLevel.SENIOR)
                                                     .memberId("memberId2").build();
 
-        given(dMakerService.getAllEmployedDevelopers())
-        .willReturn(Arrays.asList(juniorDevelperDto, seniorDevelperDto));
+        given(dMakerService.getAllEmployedDevelopers(null, 100))
+        .willReturn(DeveloperPageDto.builder()
+                .developers(Arrays.asList(juniorDevelperDto, seniorDevelperDto))
+                .next(2L)
+                .build());
 
 
         // GET 요청 수행 및 결과 검증
         mockMvc.perform(MockMvcRequestBuilders.get("/developers").contentType(contentType))
                 .andExpect(status().isOk())
-                .andExpect(MockMvcResultMatchers.jsonPath("$[0].memberId").value(juniorDevelperDto.getMemberId()))
-                .andExpect(MockMvcResultMatchers.jsonPath("$[0].developerLevel").value(juniorDevelperDto.getDeveloperLevel().name()))
-                .andExpect(MockMvcResultMatchers.jsonPath("$[0].developerSkillType").value(juniorDevelperDto.getDeveloperSkillType().name()))
-                .andExpect(MockMvcResultMatchers.jsonPath("$[1].memberId").value(seniorDevelperDto.getMemberId()))
-                .andExpect(MockMvcResultMatchers.jsonPath("$[1].developerLevel").value(seniorDevelperDto.getDeveloperLevel().name()))
-                .andExpect(MockMvcResultMatchers.jsonPath("$[1].developerSkillType").value(seniorDevelperDto.getDeveloperSkillType().name()));
+                .andExpect(MockMvcResultMatchers.jsonPath("$.developers[0].memberId").value(juniorDevelperDto.getMemberId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.developers[0].developerLevel").value(juniorDevelperDto.getDeveloperLevel().name()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.developers[0].developerSkillType").value(juniorDevelperDto.getDeveloperSkillType().name()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.developers[1].memberId").value(seniorDevelperDto.getMemberId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.developers[1].developerLevel").value(seniorDevelperDto.getDeveloperLevel().name()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.developers[1].developerSkillType").value(seniorDevelperDto.getDeveloperSkillType().name()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.next").value(2));
+    }
+
+    @Test
+    void testGetAllDevelopersNotModified() throws Exception {
+        given(dMakerService.getDevelopersVersion()).willReturn("a1b2c3d4.42");
+
+        // 목록 버전이 같으면 목록을 조회하지 않고 304
+        mockMvc.perform(get("/developers").header(HttpHeaders.IF_NONE_MATCH, "W/\"a1b2c3d4.42\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"a1b2c3d4.42\""))
+                .andExpect(content().string(""));
+        verify(dMakerService, never()).getAllEmployedDevelopers(any(), anyInt());
+
+        given(dMakerService.getAllEmployedDevelopers(null, 100))
+                .willReturn(DeveloperPageDto.builder().developers(List.of()).build());
+        given(dMakerService.getDevelopersVersion()).willReturn("a1b2c3d4.43");
+        mockMvc.perform(get("/developers").header(HttpHeaders.IF_NONE_MATCH, "W/\"a1b2c3d4.42\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"a1b2c3d4.43\""));
+    }
+
+    @Test
+    void testStreamAllDevelopers() throws Exception {
+        DeveloperDto developerDto = DeveloperDto.builder()
+                                                .developerSkillType(DeveloperSkillType.BACK_END)
+                                                .developerLevel(DeveloperLevel.JUNIOR)
+                                                .memberId("memberId1").build();
+
+        willAnswer(invocation -> {
+            Consumer<DeveloperDto> consumer = invocation.getArgument(0);
+            consumer.accept(developerDto);
+            consumer.accept(developerDto);
+            return null;
+        }).given(dMakerService).streamAllEmployedDevelopers(any());
+
+        MvcResult mvcResult = mockMvc.perform(get("/developers").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String line = objectMapper.writeValueAsString(developerDto);
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string(line + "\n" + line + "\n"));
+    }
+
+    @Test
+    void testGetDeveloperChanges() throws Exception {
+        DeferredResult<DeveloperChangesDto> changes = new DeferredResult<>();
+        changes.setResult(DeveloperChangesDto.builder()
+                .events(List.of(DeveloperEventDto.builder()
+                        .sequence(8L)
+                        .eventType(DeveloperEventType.RETIRED)
+                        .memberId("memberId1")
+                        .statusCode(StatusCode.RETIRED)
+                        .build()))
+                .next(8L)
+                .build());
+        given(developerChangeFeed.poll(7L, 100)).willReturn(changes);
+
+        MvcResult mvcResult = mockMvc.perform(get("/developers/changes").param("since", "7"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events[0].sequence").value(8))
+                .andExpect(jsonPath("$.events[0].eventType").value("RETIRED"))
+                .andExpect(jsonPath("$.next").value(8));
     }
 
     @Test
@@ -91,6 +221,86 @@ class DMakerControllerTest {
     }
 
 
+    @Test
+    void testGetDeveloperDetailNotModified() throws Exception {
+        given(dMakerService.getDeveloperDetail("memberId")).willReturn(DeveloperDetailDto.builder()
+                .memberId("memberId")
+                .version(3L)
+                .build());
+
+        mockMvc.perform(get("/developers/memberId").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testGetDeveloperDetailAsCbor() throws Exception {
+        given(dMakerService.getDeveloperDetail("memberId")).willReturn(DeveloperDetailDto.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.FULL_STACK)
+                .experienceYears(12)
+                .memberId("memberId")
+                .statusCode(StatusCode.EMPLOYED)
+                .version(3L)
+                .build());
+
+        MvcResult result = mockMvc.perform(get("/developers/memberId").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andReturn();
+
+        // enum 은 ordinal
+        JsonNode developer = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(DeveloperLevel.SENIOR.ordinal(), developer.get("developerLevel").intValue());
+        assertEquals(DeveloperSkillType.FULL_STACK.ordinal(), developer.get("developerSkillType").intValue());
+        assertEquals("memberId", developer.get("memberId").textValue());
+        assertFalse(developer.has("version"));
+
+        // Accept 를 지정하지 않으면 그대로 JSON
+        mockMvc.perform(get("/developers/memberId"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.developerLevel").value(DeveloperLevel.SENIOR.name()));
+    }
+
+    @Test
+    void testEditDeveloperFromCbor() throws Exception {
+        EditDeveloper.Request request = EditDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(10)
+                .build();
+        given(dMakerService.editDeveloper(any(EditDeveloper.Request.class), eq("memberId"), any()))
+                .willReturn(DeveloperDetailDto.builder().memberId("memberId").version(4L).build());
+
+        mockMvc.perform(put("/developers/memberId")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+
+        verify(dMakerService).editDeveloper(
+                argThat(edit -> edit.getDeveloperLevel() == DeveloperLevel.SENIOR
+                        && edit.getExperienceYears() == 10),
+                eq("memberId"),
+                any());
+    }
+
+    @Test
+    void testGetDeveloperDetailCountsErrorCode() throws Exception {
+        given(dMakerService.getDeveloperDetail("unknown"))
+                .willThrow(new DMakerException(DMakerErrorCode.NO_DEVELOPER));
+
+        mockMvc.perform(get("/developers/unknown"))
+                .andExpect(status().isConflict())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errorCode").value(DMakerErrorCode.NO_DEVELOPER.name()));
+
+        assertEquals(1.0, meterRegistry.get("dmaker.errors")
+                .tag("errorCode", DMakerErrorCode.NO_DEVELOPER.name())
+                .counter().count());
+    }
+
     @Test
     void testEditDeveloper() throws Exception {
         String memberId = "memberId";
@@ -107,7 +317,7 @@ class DMakerControllerTest {
                 .memberId(memberId)
                 .build();
 
-        given(dMakerService.editDeveloper(any(EditDeveloper.Request.class), eq(memberId)))
+        given(dMakerService.editDeveloper(any(EditDeveloper.Request.class), eq(memberId), any()))
                 .willReturn(updatedDeveloperDetail);
 
         mockMvc.perform(put("/developers/" + memberId)
@@ -117,6 +327,48 @@ class DMakerControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.memberId").value(updatedDeveloperDetail.getMemberId()));
     }
 
+    @Test
+    void testEditDeveloperWithIfMatch() throws Exception {
+        String memberId = "memberId";
+        EditDeveloper.Request request = EditDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(10)
+                .build();
+
+        given(dMakerService.editDeveloper(any(EditDeveloper.Request.class), eq(memberId), eq(3L)))
+                .willReturn(DeveloperDetailDto.builder().memberId(memberId).version(4L).build());
+
+        // If-Match 의 version 이 서비스로 전달되고, 수정된 version 이 ETag 로 내려옴
+        mockMvc.perform(put("/developers/" + memberId)
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(contentType)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.version").doesNotExist());
+    }
+
+    @Test
+    void testEditDeveloperWithStaleIfMatch() throws Exception {
+        EditDeveloper.Request request = EditDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(10)
+                .build();
+
+        given(dMakerService.editDeveloper(any(EditDeveloper.Request.class), eq("memberId"), eq(3L)))
+                .willThrow(new DMakerException(DMakerErrorCode.VERSION_CONFLICT));
+
+        // If-Match 의 version 이 현재 version 과 다르면 412
+        mockMvc.perform(put("/developers/memberId")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(contentType)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errorCode").value(DMakerErrorCode.VERSION_CONFLICT.name()));
+    }
+
     @Test
     void testCreateDeveloper() throws Exception {
         CreateDeveloper.Request request = new CreateDeveloper.Request(); // 요청 데이터 설정
@@ -130,6 +382,130 @@ class DMakerControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void testCreateDevelopersFromNdjson() throws Exception {
+        CreateDeveloper.Request request = CreateDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.JUNIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(2)
+                .memberId("memberId1")
+                .name("name1")
+                .age(25)
+                .build();
+
+        // NDJSON 라인 수만큼 요청이 전달되는지 확인
+        given(developerBatchService.createDevelopers(any())).willAnswer(invocation -> {
+            Iterator<CreateDeveloper.Request> requests = invocation.getArgument(0);
+            int count = 0;
+            while (requests.hasNext()) {
+                assertEquals("memberId1", requests.next().getMemberId());
+                count++;
+            }
+            return BatchCreateDeveloper.Response.builder()
+                    .createdCount(count)
+                    .results(Collections.emptyList())
+                    .build();
+        });
+
+        String line = objectMapper.writeValueAsString(request);
+        mockMvc.perform(post("/developers/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(line + "\n" + line + "\n"))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.createdCount").value(2));
+    }
+
+    @Test
+    void testValidateDevelopers() throws Exception {
+        given(developerBatchService.validateDevelopers(any())).willReturn(ValidateDevelopers.Response.builder()
+                .validCount(1)
+                .invalidCount(1)
+                .failures(List.of(ValidateDevelopers.Result.builder()
+                        .index(1)
+                        .memberId("memberId2")
+                        .errorCode(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED)
+                        .errorMessage(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED.getMessage())
+                        .build()))
+                .build());
+
+        String body = "{\"memberId\":\"memberId1\",\"developerLevel\":\"NEW\",\"experienceYears\":0}\n" +
+                "{\"memberId\":\"memberId2\",\"developerLevel\":\"SENIOR\",\"experienceYears\":3}\n";
+
+        mockMvc.perform(post("/developers/validate")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.validCount").value(1))
+                .andExpect(jsonPath("$.failures[0].index").value(1))
+                .andExpect(jsonPath("$.failures[0].errorCode").value("LEVEL_EXPERIENCE_YEARS_NOT_MATCHED"));
+    }
+
+    @Test
+    void testExportDevelopersAsCsv() throws Exception {
+        willAnswer(invocation -> {
+            Consumer<DeveloperDetailDto> consumer = invocation.getArgument(0);
+            consumer.accept(DeveloperDetailDto.builder()
+                    .memberId("memberId1")
+                    .name("Kim, \"CS\"")
+                    .age(30)
+                    .developerLevel(DeveloperLevel.SENIOR)
+                    .developerSkillType(DeveloperSkillType.BACK_END)
+                    .experienceYears(12)
+                    .statusCode(StatusCode.EMPLOYED)
+                    .build());
+            return null;
+        }).given(dMakerService).exportDevelopers(any());
+
+        MvcResult mvcResult = mockMvc.perform(get("/developers/export").accept("text/csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // ',' 와 '"' 가 들어간 값은 따옴표로 감쌈
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv;charset=UTF-8"))
+                .andExpect(content().string(
+                        "memberId,name,age,developerLevel,developerSkillType,experienceYears,statusCode\n" +
+                        "memberId1,\"Kim, \"\"CS\"\"\",30,SENIOR,BACK_END,12,EMPLOYED\n"));
+    }
+
+    @Test
+    void testImportDevelopersFromGzipCsv() throws Exception {
+        String csv = "memberId,name,age,developerLevel,developerSkillType,experienceYears\n" +
+                "memberId1,name1,25,JUNIOR,BACK_END,2\n" +
+                "\n" +
+                "memberId2,name2,27,UNKNOWN,BACK_END,2\n";
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+            gzip.write(csv.getBytes(StandardCharsets.UTF_8));
+        }
+
+        given(developerBatchService.importDevelopers(any(), any())).willAnswer(invocation -> {
+            Iterator<CreateDeveloper.Request> requests = invocation.getArgument(0);
+            Consumer<ImportDevelopers.Progress> listener = invocation.getArgument(1);
+            assertEquals("memberId1", requests.next().getMemberId());
+            // 잘못된 enum 값은 null 로 전달되어 bean validation 에서 걸러짐
+            assertNull(requests.next().getDeveloperLevel());
+            assertFalse(requests.hasNext());
+            listener.accept(ImportDevelopers.Progress.builder().processed(2).created(1).failed(1).build());
+            return ImportDevelopers.Progress.builder().processed(2).created(1).failed(1).done(true).build();
+        });
+
+        MvcResult mvcResult = mockMvc.perform(post("/developers/import")
+                        .contentType("text/csv")
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .content(gzipped.toByteArray()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String[] lines = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(Boolean.TRUE, objectMapper.readTree(lines[1]).get("done").asBoolean());
+        assertEquals(1, objectMapper.readTree(lines[1]).get("created").asInt());
+    }
+
     @Test
     void testDeleteDeveloper() throws Exception {
         String memberId = "memberId";
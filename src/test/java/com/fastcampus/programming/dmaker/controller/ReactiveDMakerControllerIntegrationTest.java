@@ -0,0 +1,131 @@
+package com.fastcampus.programming.dmaker.controller;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/**
+ * application-reactive.yml 로 띄운 WebFlux + R2DBC API 확인.
+ * web application type 은 test context 를 만들 때 정해지므로 properties 로도 지정한다.
+ */
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+@ActiveProfiles("reactive")
+class ReactiveDMakerControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void testCreateEditAndRetireDeveloper() {
+        create("reactive1", 12).expectStatus().isOk()
+                .expectBody().jsonPath("$.memberId").isEqualTo("reactive1");
+
+        String eTag = webTestClient.get().uri("/developers/reactive1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBody().jsonPath("$.experienceYears").isEqualTo(12)
+                .returnResult().getResponseHeaders().getETag();
+
+        webTestClient.put().uri("/developers/reactive1")
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"developerLevel":"SENIOR","developerSkillType":"FRONT_END","experienceYears":15}
+                        """)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.developerSkillType").isEqualTo("FRONT_END");
+
+        // 이미 수정된 version 으로는 412
+        webTestClient.put().uri("/developers/reactive1")
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"developerLevel":"SENIOR","developerSkillType":"BACK_END","experienceYears":16}
+                        """)
+                .exchange()
+                .expectStatus().isEqualTo(412)
+                .expectBody().jsonPath("$.errorCode").isEqualTo(DMakerErrorCode.VERSION_CONFLICT.name());
+
+        webTestClient.delete().uri("/developers/reactive1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.statusCode").isEqualTo("RETIRED");
+    }
+
+    @Test
+    void testErrorsAreMappedToDMakerErrorResponse() {
+        create("reactive2", 12).expectStatus().isOk();
+        create("reactive2", 12)
+                .expectStatus().isEqualTo(409)
+                .expectBody().jsonPath("$.errorCode").isEqualTo(DMakerErrorCode.DUPLICATED_MEMBER_ID.name());
+
+        create("reactive3", 2)
+                .expectStatus().isEqualTo(409)
+                .expectBody().jsonPath("$.errorCode")
+                .isEqualTo(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED.name());
+
+        // bean validation 실패는 servlet 과 같이 INVALID_REQUEST
+        webTestClient.post().uri("/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"developerLevel":"SENIOR","developerSkillType":"BACK_END","experienceYears":12,"memberId":"r"}
+                        """)
+                .exchange()
+                .expectBody().jsonPath("$.errorCode").isEqualTo(DMakerErrorCode.INVALID_REQUEST.name());
+
+        webTestClient.get().uri("/developers/unknown")
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody().jsonPath("$.errorCode").isEqualTo(DMakerErrorCode.NO_DEVELOPER.name());
+    }
+
+    @Test
+    void testListETagAndStream() {
+        create("reactive4", 12).expectStatus().isOk();
+
+        String eTag = webTestClient.get().uri("/developers?size=1000")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.developers[?(@.memberId == 'reactive4')]").exists()
+                .returnResult().getResponseHeaders().getETag();
+
+        webTestClient.get().uri("/developers?size=1000")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        // 한 건씩 요청해서 받음 (client 의 request(n) 만큼만 내려옴)
+        Flux<DeveloperDto> developers = webTestClient.get().uri("/developers")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(DeveloperDto.class)
+                .getResponseBody();
+        StepVerifier.create(developers.filter(developer -> "reactive4".equals(developer.getMemberId())), 1)
+                .expectNextCount(1)
+                .thenCancel()
+                .verify();
+    }
+
+    private WebTestClient.ResponseSpec create(String memberId, int experienceYears) {
+        return webTestClient.post().uri("/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"developerLevel":"SENIOR","developerSkillType":"BACK_END","experienceYears":%d,
+                         "memberId":"%s","name":"reactive","age":40}
+                        """.formatted(experienceYears, memberId))
+                .exchange();
+    }
+}
@@ -0,0 +1,52 @@
+package com.fastcampus.programming.dmaker.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+    @Test
+    void testLimitFollowsLatency() {
+        AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(10, 2, 50, 0.3, 1.5, 0.5);
+
+        // 응답 시간이 일정하면 limit 을 채워 쓰는 동안 증가
+        for (int i = 0; i < 20; i++) {
+            runFull(concurrencyLimit, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        int grown = concurrencyLimit.getLimit();
+        assertTrue(grown > 10);
+
+        // 응답 시간이 크게 늘면 감소
+        for (int i = 0; i < 20; i++) {
+            runFull(concurrencyLimit, TimeUnit.MILLISECONDS.toNanos(200));
+        }
+        assertTrue(concurrencyLimit.getLimit() < grown);
+        assertTrue(concurrencyLimit.getLimit() >= 2);
+    }
+
+    @Test
+    void testDoesNotGrowWhenIdle() {
+        AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(10, 2, 50, 0.3, 1.5, 0.5);
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(concurrencyLimit.tryAcquire(false));
+            concurrencyLimit.release(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        assertEquals(10, concurrencyLimit.getLimit());
+        assertEquals(0, concurrencyLimit.getInflight());
+    }
+
+    // limit 만큼 read 자리를 채운 뒤 같은 응답 시간으로 모두 반환
+    private void runFull(AdaptiveConcurrencyLimit concurrencyLimit, long rttNanos) {
+        int acquired = 0;
+        while (concurrencyLimit.tryAcquire(false)) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            concurrencyLimit.release(rttNanos);
+        }
+    }
+}
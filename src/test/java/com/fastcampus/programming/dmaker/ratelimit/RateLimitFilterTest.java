@@ -0,0 +1,151 @@
+package com.fastcampus.programming.dmaker.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testTokenBucketRefill() {
+        TokenBucket bucket = new TokenBucket(2, 10, 0L);
+
+        assertEquals(0L, bucket.tryAcquire(0L));
+        assertEquals(0L, bucket.tryAcquire(0L));
+        // 초당 10개 -> 다음 토큰까지 100ms
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), bucket.tryAcquire(0L));
+        assertEquals(0L, bucket.tryAcquire(TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+
+    @Test
+    void testRejectsWithRetryAfterPerClient() throws Exception {
+        RateLimitFilter filter = filter(List.of(
+                new RateLimitProperties.Rule(null, "POST", "/developers", 1, 0.5),
+                new RateLimitProperties.Rule("bulk-loader", "POST", "/developers", 3, 0.5)
+        ), null);
+
+        assertEquals(200, perform(filter, "POST", "/developers", "client-a").getStatus());
+        MockHttpServletResponse rejected = perform(filter, "POST", "/developers", "client-a");
+        assertEquals(429, rejected.getStatus());
+        assertEquals("2", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(rejected.getContentAsString().contains("TOO_MANY_REQUESTS"));
+
+        // bucket 은 client 별, client 를 지정한 rule 이 우선
+        assertEquals(200, perform(filter, "POST", "/developers", "client-b").getStatus());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, perform(filter, "POST", "/developers", "bulk-loader").getStatus());
+        }
+        assertEquals(429, perform(filter, "POST", "/developers", "bulk-loader").getStatus());
+
+        // rule 이 없는 endpoint 는 제한하지 않음
+        assertEquals(200, perform(filter, "GET", "/developers", "client-a").getStatus());
+        assertEquals(2.0, meterRegistry.get("dmaker.rate-limit.rejected")
+                .tag("reason", "rate_limit")
+                .tag("endpoint", "POST /developers")
+                .counter().count());
+    }
+
+    @Test
+    void testReservesConcurrencyForReads() throws Exception {
+        // limit 2, read-reserve 0.5 -> write 는 1 개까지
+        AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(2, 1, 10, 0.5, 1.5, 0.2);
+        RateLimitFilter filter = filter(List.of(), concurrencyLimit);
+        assertTrue(concurrencyLimit.tryAcquire(true));
+
+        MockHttpServletResponse rejected = perform(filter, "DELETE", "/developers/member1", "client-a");
+        assertEquals(503, rejected.getStatus());
+        assertEquals("1", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(200, perform(filter, "GET", "/developers/member1", "client-a").getStatus());
+        assertEquals(1, concurrencyLimit.getInflight());
+        assertEquals(1.0, meterRegistry.get("dmaker.rate-limit.rejected")
+                .tag("reason", "concurrency")
+                .tag("endpoint", "write")
+                .counter().count());
+    }
+
+    @Test
+    void testClientHeaderIsTrustedOnlyFromProxies() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter("X-Client-Id", List.of("10.0.0.0/8"),
+                List.of(new RateLimitProperties.Rule(null, "POST", "/developers", 1, 0.5)),
+                null, new ObjectMapper(), meterRegistry);
+
+        // gateway 가 아닌 주소에서 header 를 바꿔 보내도 같은 bucket
+        assertEquals(200, perform(filter, "POST", "/developers", "192.168.0.7", "client-a").getStatus());
+        assertEquals(429, perform(filter, "POST", "/developers", "192.168.0.7", "client-b").getStatus());
+
+        // gateway 뒤의 client 는 header 로 구분
+        assertEquals(200, perform(filter, "POST", "/developers", "10.1.2.3", "client-a").getStatus());
+        assertEquals(200, perform(filter, "POST", "/developers", "10.1.2.3", "client-b").getStatus());
+        assertEquals(429, perform(filter, "POST", "/developers", "10.1.2.3", "client-b").getStatus());
+    }
+
+    @Test
+    void testRulePatternCoversBulkEndpoints() throws Exception {
+        RateLimitFilter filter = filter(List.of(
+                new RateLimitProperties.Rule(null, "POST", "/developers/*", 2, 0.5)
+        ), null);
+
+        assertEquals(200, perform(filter, "POST", "/developers/batch", "client-a").getStatus());
+        assertEquals(200, perform(filter, "POST", "/developers/import", "client-a").getStatus());
+        // matrix 변수나 encoding 으로 표기를 바꿔도 같은 rule
+        assertEquals(429, perform(filter, "POST", "/developers/retire;x=1", "client-a").getStatus());
+        assertEquals(429, perform(filter, "POST", "/developers/%62atch", "client-a").getStatus());
+    }
+
+    @Test
+    void testAsyncRequestHoldsConcurrencyUntilComplete() throws Exception {
+        AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(2, 1, 10, 0.5, 1.5, 0.2);
+        RateLimitFilter filter = filter(List.of(), concurrencyLimit);
+        MockHttpServletRequest request = request("GET", "/developers/changes", "127.0.0.1", "client-a");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        // long-poll 이 끝날 때까지 자리를 잡고 있음
+        assertEquals(1, concurrencyLimit.getInflight());
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertEquals(0, concurrencyLimit.getInflight());
+    }
+
+    private RateLimitFilter filter(List<RateLimitProperties.Rule> rules, AdaptiveConcurrencyLimit concurrencyLimit) {
+        return new RateLimitFilter("X-Client-Id", List.of("127.0.0.1"), rules, concurrencyLimit,
+                new ObjectMapper(), meterRegistry);
+    }
+
+    private MockHttpServletResponse perform(RateLimitFilter filter, String method, String uri, String client)
+            throws Exception {
+        return perform(filter, method, uri, "127.0.0.1", client);
+    }
+
+    private MockHttpServletResponse perform(
+            RateLimitFilter filter,
+            String method,
+            String uri,
+            String remoteAddress,
+            String client
+    ) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(method, uri, remoteAddress, client), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String remoteAddress, String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddress);
+        request.addHeader("X-Client-Id", client);
+        return request;
+    }
+}
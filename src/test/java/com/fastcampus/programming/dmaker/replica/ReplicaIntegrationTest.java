@@ -0,0 +1,76 @@
+package com.fastcampus.programming.dmaker.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * application-replica.yml 의 H2 replica 로 routing 확인.
+ * 시작 시 heartbeat 한 번 이후로는 heartbeat 를 멈춰서, 이후 쓰기는 replica 가 아직 적용하지 않은 상태로 본다.
+ */
+@SpringBootTest(properties = {
+        "dmaker.replica.heartbeat-interval-ms=3600000",
+        "dmaker.replica.max-lag=1h"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("replica")
+class ReplicaIntegrationTest {
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testReadsGoToReplicaExceptRightAfterOwnWrite() throws Exception {
+        mockMvc.perform(post("/developers")
+                        .header(CLIENT_HEADER, "writer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"developerLevel":"SENIOR","developerSkillType":"BACK_END","experienceYears":12,
+                                 "memberId":"replica1","name":"replica","age":40}
+                                """))
+                .andExpect(status().isOk());
+
+        // 방금 쓴 client 는 primary 에서 읽어서 자기 쓰기를 봄
+        double pinned = routed("primary", "read-your-writes");
+        mockMvc.perform(get("/developers").header(CLIENT_HEADER, "writer"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.developers[?(@.memberId == 'replica1')]").exists());
+        assertTrue(routed("primary", "read-your-writes") > pinned);
+
+        // 다른 client 는 replica 에서 읽음
+        double replicaReads = routed("replica1", "read") + routed("replica2", "read");
+        mockMvc.perform(get("/developers").header(CLIENT_HEADER, "reader"))
+                .andExpect(status().isOk());
+        assertTrue(routed("replica1", "read") + routed("replica2", "read") > replicaReads);
+
+        // 검색도 readOnly 트랜잭션으로 replica 에서 읽음
+        replicaReads = routed("replica1", "read") + routed("replica2", "read");
+        mockMvc.perform(get("/developers/search").param("namePrefix", "repl").header(CLIENT_HEADER, "reader"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.developers[?(@.memberId == 'replica1')]").exists());
+        assertTrue(routed("replica1", "read") + routed("replica2", "read") > replicaReads);
+    }
+
+    private double routed(String pool, String reason) {
+        Counter counter = meterRegistry.find("dmaker.datasource.route").tag("pool", pool).tag("reason", reason)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
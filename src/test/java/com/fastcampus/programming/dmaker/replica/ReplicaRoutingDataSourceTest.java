@@ -0,0 +1,158 @@
+package com.fastcampus.programming.dmaker.replica;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private DataSource replica2;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replica1Connection = mock(Connection.class);
+    private final Connection replica2Connection = mock(Connection.class);
+
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica1", replica1);
+        replicas.put("replica2", replica2);
+        dataSource = new ReplicaRoutingDataSource(primary, replicas, lagMonitor, meterRegistry);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaContext.end();
+    }
+
+    @Test
+    void testReadOnlyTransactionsRoundRobinAcrossReplicas() throws SQLException {
+        given(lagMonitor.isAvailable(anyString(), anyLong())).willReturn(true);
+        given(replica1.getConnection()).willReturn(replica1Connection);
+        given(replica2.getConnection()).willReturn(replica2Connection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(replica1Connection, dataSource.getConnection());
+        assertSame(replica2Connection, dataSource.getConnection());
+        assertSame(replica1Connection, dataSource.getConnection());
+        verifyNoInteractions(primary);
+        assertEquals(2.0, routed("replica1", "read"));
+    }
+
+    @Test
+    void testWriteGoesToPrimaryAndPinsRestOfRequest() throws SQLException {
+        given(primary.getConnection()).willReturn(primaryConnection);
+        ReplicaContext.begin(0L);
+
+        assertSame(primaryConnection, dataSource.getConnection());
+
+        // 같은 요청에서 쓴 뒤의 조회는 replica 를 보지 않음
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(primaryConnection, dataSource.getConnection());
+        verifyNoInteractions(lagMonitor, replica1, replica2);
+        assertTrue(ReplicaContext.end());
+        assertEquals(1.0, routed("primary", "write"));
+        assertEquals(1.0, routed("primary", "read-your-writes"));
+    }
+
+    @Test
+    void testReadYourWritesWaitsForReplicaToCatchUp() throws SQLException {
+        given(lagMonitor.isAvailable("replica1", 1000L)).willReturn(false);
+        given(lagMonitor.isAvailable("replica2", 1000L)).willReturn(false);
+        given(primary.getConnection()).willReturn(primaryConnection);
+        ReplicaContext.begin(1000L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        assertFalse(ReplicaContext.end());
+        assertEquals(1.0, routed("primary", "read-your-writes"));
+    }
+
+    @Test
+    void testFallsBackToPrimaryWhenReplicasLagOrFail() throws SQLException {
+        given(lagMonitor.isAvailable("replica1", 0L)).willReturn(true);
+        given(lagMonitor.isAvailable("replica2", 0L)).willReturn(false);
+        given(replica1.getConnection()).willThrow(new SQLException("connection refused"));
+        given(primary.getConnection()).willReturn(primaryConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        verify(lagMonitor).markDown("replica1");
+        assertEquals(1.0, routed("primary", "fallback"));
+    }
+
+    @Test
+    void testSharedCacheFillReadsFromPrimary() throws SQLException {
+        given(primary.getConnection()).willReturn(primaryConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // 공유 캐시를 채우는 조회는 지연된 replica 를 보지 않음
+        Connection connection = ReplicaContext.onPrimary(this::connect);
+
+        assertSame(primaryConnection, connection);
+        verifyNoInteractions(lagMonitor, replica1, replica2);
+        assertFalse(ReplicaContext.primaryOnly());
+        assertEquals(1.0, routed("primary", "shared-cache"));
+    }
+
+    @Test
+    void testNonTransactionalWorkGoesToPrimary() throws SQLException {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        given(primary.getConnection()).willReturn(primaryConnection);
+        ReplicaContext.begin(0L);
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        assertFalse(ReplicaContext.end());
+        verifyNoInteractions(lagMonitor);
+    }
+
+    private Connection connect() {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double routed(String pool, String reason) {
+        return meterRegistry.get("dmaker.datasource.route").tag("pool", pool).tag("reason", reason)
+                .counter().count();
+    }
+}
@@ -0,0 +1,80 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.entity.DeveloperEvent;
+import com.fastcampus.programming.dmaker.entity.OutboxOffset;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class DeveloperEventRepositoryTest {
+
+    private static final LocalDateTime PUBLISHED_AT = LocalDateTime.now().minusDays(10);
+    private static final LocalDateTime RETENTION_CUTOFF = LocalDateTime.now().minusDays(7);
+
+    @Autowired
+    private DeveloperEventRepository developerEventRepository;
+
+    @Autowired
+    private OutboxOffsetRepository outboxOffsetRepository;
+
+    @BeforeEach
+    void setUp() {
+        developerEventRepository.saveAllAndFlush(List.of(
+                event(1L, DeveloperEventType.EDITED),
+                event(2L, DeveloperEventType.RETIRED),
+                event(3L, DeveloperEventType.RETIRED),
+                event(4L, DeveloperEventType.EDITED),
+                event(5L, DeveloperEventType.EDITED)
+        ));
+    }
+
+    @Test
+    void testPurgeKeepsEventsNotYetConsumed() {
+        // archiver 가 2 번까지만 처리한 상태
+        outboxOffsetRepository.saveAndFlush(OutboxOffset.builder()
+                .consumer("retired-developer-archiver")
+                .lastSequenceNo(2L)
+                .build());
+
+        long consumed = outboxOffsetRepository.findMinLastSequenceNo();
+        int purged = developerEventRepository.deletePublishedBefore(RETENTION_CUTOFF, consumed);
+
+        assertEquals(2, purged);
+        assertEquals(List.of(3L, 4L, 5L), sequenceNos());
+    }
+
+    @Test
+    void testPurgeWithoutConsumersKeepsOnlyLastEvent() {
+        assertNull(outboxOffsetRepository.findMinLastSequenceNo());
+
+        int purged = developerEventRepository.deletePublishedBefore(RETENTION_CUTOFF, Long.MAX_VALUE);
+
+        // 마지막 번호는 남겨서 sequenceNo 가 처음부터 다시 시작하지 않음
+        assertEquals(4, purged);
+        assertEquals(List.of(5L), sequenceNos());
+    }
+
+    private List<Long> sequenceNos() {
+        return developerEventRepository.findAll().stream()
+                .map(DeveloperEvent::getSequenceNo)
+                .sorted()
+                .toList();
+    }
+
+    private static DeveloperEvent event(Long sequenceNo, DeveloperEventType eventType) {
+        return DeveloperEvent.builder()
+                .sequenceNo(sequenceNo)
+                .publishedAt(PUBLISHED_AT)
+                .eventType(eventType)
+                .memberId("member" + sequenceNo)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearchCondition;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearchResultDto;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class DeveloperSearchRepositoryTest {
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @BeforeEach
+    void setUp() {
+        developerRepository.saveAllAndFlush(List.of(
+                developer("senior1", "김철수", DeveloperLevel.SENIOR, 12, StatusCode.EMPLOYED),
+                developer("senior2", "김영희", DeveloperLevel.SENIOR, 15, StatusCode.EMPLOYED),
+                developer("senior3", "이민수", DeveloperLevel.SENIOR, 12, StatusCode.EMPLOYED),
+                developer("senior4", "김_하", DeveloperLevel.SENIOR, 18, StatusCode.RETIRED),
+                developer("junior1", "김지훈", DeveloperLevel.JUNIOR, 3, StatusCode.EMPLOYED)
+        ));
+    }
+
+    @Test
+    void testSearchFiltersByLevelAndExperienceRange() {
+        DeveloperSearchResultDto result = developerRepository.search(DeveloperSearchCondition.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .minExperienceYears(12)
+                .maxExperienceYears(14)
+                .build());
+
+        assertEquals(List.of("senior1", "senior3"), memberIds(result.getDevelopers()));
+        assertNull(result.getNext());
+    }
+
+    @Test
+    void testSearchByNamePrefixEscapesWildcards() {
+        DeveloperSearchResultDto result = developerRepository.search(DeveloperSearchCondition.builder()
+                .statusCode(null)
+                .namePrefix("김_")
+                .build());
+
+        assertEquals(List.of("senior4"), memberIds(result.getDevelopers()));
+    }
+
+    @Test
+    void testSearchWalksKeysetPagesInSortOrder() {
+        DeveloperSearchCondition condition = DeveloperSearchCondition.builder()
+                .sort(DeveloperSearchCondition.SortField.EXPERIENCE_YEARS)
+                .direction(Sort.Direction.DESC)
+                .size(2)
+                .build();
+
+        List<String> memberIds = new ArrayList<>();
+        DeveloperSearchResultDto page;
+        do {
+            page = developerRepository.search(condition);
+            memberIds.addAll(memberIds(page.getDevelopers()));
+            condition.setCursor(page.getNext());
+        } while (page.getNext() != null);
+
+        // 같은 연차(12)는 id 역순
+        assertEquals(List.of("senior2", "senior3", "senior1", "junior1"), memberIds);
+    }
+
+    @Test
+    void testSearchWithInvalidCursor() {
+        DeveloperSearchCondition condition = DeveloperSearchCondition.builder()
+                .cursor("!!!!")
+                .build();
+
+        assertThrows(DMakerException.class, () -> developerRepository.search(condition));
+    }
+
+    @Test
+    void testSearchRejectsCursorFromOtherSort() {
+        DeveloperSearchCondition condition = DeveloperSearchCondition.builder()
+                .sort(DeveloperSearchCondition.SortField.EXPERIENCE_YEARS)
+                .direction(Sort.Direction.DESC)
+                .size(1)
+                .build();
+        String next = developerRepository.search(condition).getNext();
+
+        // 정렬 방향만 바꿔도 keyset 조건이 달라지므로 거부
+        condition.setCursor(next);
+        condition.setDirection(Sort.Direction.ASC);
+        DMakerException exception = assertThrows(DMakerException.class, () -> developerRepository.search(condition));
+        assertEquals(DMakerErrorCode.INVALID_REQUEST, exception.getDMakerErrorCode());
+
+        condition.setDirection(Sort.Direction.DESC);
+        condition.setSort(DeveloperSearchCondition.SortField.MEMBER_ID);
+        assertThrows(DMakerException.class, () -> developerRepository.search(condition));
+    }
+
+    private static List<String> memberIds(List<DeveloperDto> developers) {
+        return developers.stream().map(DeveloperDto::getMemberId).toList();
+    }
+
+    private static Developer developer(
+            String memberId, String name, DeveloperLevel level, int experienceYears, StatusCode statusCode
+    ) {
+        return Developer.builder()
+                .developerLevel(level)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(experienceYears)
+                .memberId(memberId)
+                .name(name)
+                .age(30)
+                .statusCode(statusCode)
+                .build();
+    }
+}
@@ -1,20 +1,35 @@
 package com.fastcampus.programming.dmaker.service;
 
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.config.CacheConfig;
 import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
 import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
 import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearchCondition;
 import com.fastcampus.programming.dmaker.dto.EditDeveloper;
 import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
 import com.fastcampus.programming.dmaker.exception.DMakerException;
 import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
 import com.fastcampus.programming.dmaker.repository.RetiredDeveloperRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
 import com.fastcampus.programming.dmaker.type.DeveloperLevel;
 import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import static org.mockito.ArgumentMatchers.any;
 
 
@@ -22,8 +37,17 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class DMakerServiceTest {
@@ -34,6 +58,25 @@ class DMakerServiceTest {
     @Mock
     private RetiredDeveloperRepository retiredDeveloperRepository;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private DeveloperStatistics developerStatistics;
+
+    @Mock
+    private DeveloperIndex developerIndex;
+
+    @Mock
+    private DeveloperOutbox developerOutbox;
+
+    @Spy
+    private DeveloperLevelPolicy developerLevelPolicy = DeveloperLevelPolicyFixture.defaultRules();
+
+    // sharding 을 끈 상태 (shard 하나, 현재 스레드에서 실행)
+    @Spy
+    private DeveloperShards developerShards = DeveloperShards.single(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private DMakerService dMakerService;
 
@@ -60,6 +103,22 @@ class DMakerServiceTest {
         assertEquals(12, developerDetailDto.getAge());
     }
 
+    @Test
+    void testGetDeveloperDetailFromIndex() {
+        given(developerIndex.isReady()).willReturn(true);
+        given(developerIndex.findDetail("memberId"))
+                .willReturn(Optional.of(DeveloperDetailDto.builder()
+                        .developerLevel(DeveloperLevel.SENIOR)
+                        .memberId("memberId")
+                        .build()));
+
+        DeveloperDetailDto developerDetailDto = dMakerService.getDeveloperDetail("memberId");
+
+        // index 가 준비되어 있으면 DB 를 조회하지 않음
+        assertEquals(DeveloperLevel.SENIOR, developerDetailDto.getDeveloperLevel());
+        verifyNoInteractions(developerRepository);
+    }
+
     @Test
     void testCreateDeveloper() {
         // 테스트를 위한 CreateDeveloper.Request 객체 생성
@@ -71,15 +130,15 @@ class DMakerServiceTest {
                 .memberId("memberId")
                 .build();
 
-        // Mockito를 사용하여 developerRepository의 findByMemberId 메서드가 호출될 때
-        // 항상 Optional.empty()를 반환하도록 설정
+        // Mockito를 사용하여 developerRepository의 existsByMemberId 메서드가 호출될 때
+        // 항상 false를 반환하도록 설정
         // 즉, 해당 멤버 ID를 가진 개발자가 없음을 의미
-        given(developerRepository.findByMemberId(anyString()))
-                .willReturn(Optional.empty());
+        given(developerRepository.existsByMemberId(anyString()))
+                .willReturn(false);
 
-        // Mockito를 사용하여 developerRepository의 save 메서드가 호출될 때
+        // Mockito를 사용하여 developerRepository의 saveAndFlush 메서드가 호출될 때
         // 입력된 Developer 객체를 그대로 반환하도록 설정
-        given(developerRepository.save(any(Developer.class)))
+        given(developerRepository.saveAndFlush(any(Developer.class)))
                 .willAnswer(invocation -> invocation.getArgument(0));
 
         // DMakerService의 createDeveloper 메서드를 호출하여
@@ -97,16 +156,16 @@ class DMakerServiceTest {
     @Test
     void testGetAllEmployedDevelopers(){
         // Mock 데이터 설정
-        given(developerRepository.findDevelopersByStatusCodeEquals(any()))
-                .willReturn(List.of(Developer.builder()
+        given(developerRepository.findDtosByStatusCodeAfter(any(), anyLong(), any()))
+                .willReturn(List.of(DeveloperDto.builder()
+                                .id(1L)
                                 .developerLevel(DeveloperLevel.SENIOR)
                                 .developerSkillType(DeveloperSkillType.BACK_END)
-                                .experienceYears(10)
                                 .memberId("Developer1")
-                                .age(30)
                                 .build()));
         // 메서드 실행
-        List<DeveloperDto> developerDtos = dMakerService.getAllEmployedDevelopers();
+        DeveloperPageDto developerPage = dMakerService.getAllEmployedDevelopers(null, 10);
+        List<DeveloperDto> developerDtos = developerPage.getDevelopers();
 
         // 결과 검증
         assertNotNull(developerDtos);
@@ -115,32 +174,116 @@ class DMakerServiceTest {
         assertEquals(DeveloperLevel.SENIOR, developerDtos.get(0).getDeveloperLevel());
         assertEquals(DeveloperSkillType.BACK_END, developerDtos.get(0).getDeveloperSkillType());
         assertEquals("Developer1", developerDtos.get(0).getMemberId());
+        assertNull(developerPage.getNext());
 
     }
 
+    @Test
+    void testGetAllEmployedDevelopersWithNextCursor(){
+        // 요청 size 보다 한 건 더 조회되면 다음 페이지가 존재
+        given(developerRepository.findDtosByStatusCodeAfter(any(), eq(5L), any()))
+                .willReturn(List.of(
+                        DeveloperDto.builder().id(6L).memberId("Developer6").build(),
+                        DeveloperDto.builder().id(7L).memberId("Developer7").build(),
+                        DeveloperDto.builder().id(8L).memberId("Developer8").build()));
+
+        DeveloperPageDto developerPage = dMakerService.getAllEmployedDevelopers(5L, 2);
+
+        assertEquals(2, developerPage.getDevelopers().size());
+        assertEquals("Developer7", developerPage.getDevelopers().get(1).getMemberId());
+        assertEquals(7L, developerPage.getNext());
+    }
+
     @Test
     void testEditDeveloper() {
         // 요청 객체 생성
         EditDeveloper.Request request = new EditDeveloper.Request(DeveloperLevel.SENIOR, DeveloperSkillType.FRONT_END, 12);
 
         // 모의 데이터 설정
-        given(developerRepository.findByMemberId(anyString()))
-                .willReturn(Optional.of(Developer.builder()
-                        .developerLevel(DeveloperLevel.JUNIOR)
-                        .developerSkillType(DeveloperSkillType.BACK_END)
-                        .experienceYears(5)
-                        .name("Developer")
-                        .age(25)
-                        .build()));
+        Developer developer = developer(3L);
+        given(developerRepository.findByMemberId(anyString())).willReturn(Optional.of(developer));
+        flushIncrementsVersion(developer);
 
         // 메서드 실행
-        DeveloperDetailDto updatedDeveloper = dMakerService.editDeveloper(request, "memberId");
+        DeveloperDetailDto updatedDeveloper = dMakerService.editDeveloper(request, "memberId", null);
 
         // 결과 검증
         assertNotNull(updatedDeveloper);
         assertEquals(DeveloperLevel.SENIOR, updatedDeveloper.getDeveloperLevel());
         assertEquals(DeveloperSkillType.FRONT_END, updatedDeveloper.getDeveloperSkillType());
         assertEquals(12, updatedDeveloper.getExperienceYears());
+        assertEquals(4L, updatedDeveloper.getVersion());
+        // If-Match 가 없으면 최신 row 를 lock 걸고 그 위에 수정
+        verify(developerRepository).refreshForUpdate(developer);
+        verify(developerIndex).put(developer);
+    }
+
+    @Test
+    void testEditDeveloperRereadsWhenCachedVersionDiffersFromIfMatch() {
+        EditDeveloper.Request request = new EditDeveloper.Request(DeveloperLevel.SENIOR, DeveloperSkillType.FRONT_END, 12);
+
+        // 2차 캐시의 엔티티가 다른 인스턴스의 수정보다 늦은 경우
+        Developer developer = developer(3L);
+        given(developerRepository.findByMemberId("memberId")).willReturn(Optional.of(developer));
+        willAnswer(invocation -> {
+            developer.setVersion(4L);
+            return null;
+        }).given(developerRepository).refreshForUpdate(developer);
+        flushIncrementsVersion(developer);
+
+        DeveloperDetailDto updatedDeveloper = dMakerService.editDeveloper(request, "memberId", 4L);
+
+        assertEquals(5L, updatedDeveloper.getVersion());
+    }
+
+    @Test
+    void testEditDeveloperWithStaleIfMatch() {
+        EditDeveloper.Request request = new EditDeveloper.Request(DeveloperLevel.SENIOR, DeveloperSkillType.FRONT_END, 12);
+
+        // 다른 요청이 먼저 수정해서 version 이 4 가 된 상태
+        Developer developer = developer(4L);
+        given(developerRepository.findByMemberId("memberId")).willReturn(Optional.of(developer));
+
+        // If-Match 가 있으면 재시도 없이 충돌로 응답
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> dMakerService.editDeveloper(request, "memberId", 3L));
+        assertEquals(DMakerErrorCode.VERSION_CONFLICT, exception.getDMakerErrorCode());
+        verify(developerRepository, never()).flush();
+    }
+
+    @Test
+    void testEditDeveloperWithIfMatchFromSecondLevelCache() {
+        EditDeveloper.Request request = new EditDeveloper.Request(DeveloperLevel.SENIOR, DeveloperSkillType.FRONT_END, 12);
+
+        // 캐시의 엔티티가 If-Match 와 같은 version 이면 다시 읽지 않고 version 조건부 UPDATE 한 번
+        Developer developer = developer(3L);
+        given(developerRepository.findByMemberId("memberId")).willReturn(Optional.of(developer));
+        flushIncrementsVersion(developer);
+
+        DeveloperDetailDto updatedDeveloper = dMakerService.editDeveloper(request, "memberId", 3L);
+
+        assertEquals(4L, updatedDeveloper.getVersion());
+        assertEquals("name", updatedDeveloper.getName());
+        assertEquals(DeveloperLevel.SENIOR, updatedDeveloper.getDeveloperLevel());
+        verify(developerRepository, never()).refreshForUpdate(any());
+        verify(developerStatistics).remove(argThat(before -> before.getDeveloperLevel() == DeveloperLevel.JUNGIOR));
+    }
+
+    @Test
+    void testEditDeveloperWithIfMatchConflictsWithConcurrentUpdate() {
+        EditDeveloper.Request request = new EditDeveloper.Request(DeveloperLevel.SENIOR, DeveloperSkillType.FRONT_END, 12);
+
+        // 캐시의 version 으로 UPDATE 하는 사이 다른 요청이 먼저 수정
+        Developer developer = developer(3L);
+        given(developerRepository.findByMemberId("memberId")).willReturn(Optional.of(developer));
+        willThrow(new ObjectOptimisticLockingFailureException(Developer.class, 1L))
+                .given(developerRepository).flush();
+
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> dMakerService.editDeveloper(request, "memberId", 3L));
+        assertEquals(DMakerErrorCode.VERSION_CONFLICT, exception.getDMakerErrorCode());
+        verify(developerStatistics, never()).add(any(DeveloperDetailDto.class));
+        verify(developerOutbox, never()).append(any(), any());
     }
 
     @Test
@@ -167,6 +310,26 @@ class DMakerServiceTest {
         // 또한, retiredDeveloperRepository.save가 호출되었는지 확인 (실제로는 Mockito.verify()를 사용할 수 있음)
     }
 
+    @Test
+    void testDeleteDeveloperWithAsyncArchive() {
+        ReflectionTestUtils.setField(dMakerService, "archiveAsync", true);
+        given(developerRepository.findByMemberId("memberId"))
+                .willReturn(Optional.of(Developer.builder()
+                        .developerLevel(DeveloperLevel.SENIOR)
+                        .developerSkillType(DeveloperSkillType.BACK_END)
+                        .experienceYears(10)
+                        .memberId("memberId")
+                        .statusCode(StatusCode.EMPLOYED)
+                        .build()));
+
+        DeveloperDetailDto deletedDeveloper = dMakerService.deleteDeveloper("memberId");
+
+        // 상태 변경과 outbox 이벤트만 남기고 RetiredDeveloper 는 worker 가 생성
+        assertEquals(StatusCode.RETIRED, deletedDeveloper.getStatusCode());
+        verify(developerOutbox).append(eq(DeveloperEventType.RETIRED), any(DeveloperDetailDto.class));
+        verifyNoInteractions(retiredDeveloperRepository);
+    }
+
     @Test
     void testCreateDeveloperWithDuplicatedMemberId() {
         // 테스트를 위한 CreateDeveloper.Request 객체 생성
@@ -177,15 +340,83 @@ class DMakerServiceTest {
                 .memberId("duplicatedMemberId")
                 .build();
 
-        // Mockito를 사용하여 developerRepository의 findByMemberId 메서드가 호출될 때
+        // Mockito를 사용하여 developerRepository의 existsByMemberId 메서드가 호출될 때
         // 이미 존재하는 멤버 ID로 인식하도록 설정
-        given(developerRepository.findByMemberId("duplicatedMemberId"))
-                .willReturn(Optional.of(Developer.builder().build()));
+        given(developerRepository.existsByMemberId("duplicatedMemberId"))
+                .willReturn(true);
 
         // 메서드 실행 시 DMakerException이 발생하는지 검증
         assertThrows(DMakerException.class, () -> dMakerService.createDeveloper(request));
     }
 
+    @Test
+    void testCreateDeveloperPopulatesDetailCache() {
+        CreateDeveloper.Request request = CreateDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(15)
+                .memberId("memberId")
+                .name("name")
+                .age(30)
+                .build();
+        Cache developerDetailCache = mock(Cache.class);
+
+        given(developerRepository.existsByMemberId(anyString()))
+                .willReturn(false);
+        given(developerRepository.saveAndFlush(any(Developer.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        given(cacheManager.getCache(CacheConfig.DEVELOPER_DETAIL))
+                .willReturn(developerDetailCache);
+
+        dMakerService.createDeveloper(request);
+
+        // 생성 직후 상세 조회가 DB 를 타지 않도록 캐시에 미리 적재
+        ArgumentCaptor<DeveloperDetailDto> captor = ArgumentCaptor.forClass(DeveloperDetailDto.class);
+        verify(developerDetailCache).put(eq("memberId"), captor.capture());
+        assertEquals("name", captor.getValue().getName());
+        assertEquals(StatusCode.EMPLOYED, captor.getValue().getStatusCode());
+    }
+
+    @Test
+    void testCreateDeveloperWithConcurrentDuplicatedMemberId() {
+        CreateDeveloper.Request request = CreateDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(15)
+                .memberId("duplicatedMemberId")
+                .build();
+
+        // exists 검사는 통과했지만 insert 시점에 unique index 위반이 발생한 경우
+        given(developerRepository.existsByMemberId("duplicatedMemberId"))
+                .willReturn(false);
+        given(developerRepository.saveAndFlush(any(Developer.class)))
+                .willThrow(new DataIntegrityViolationException("uk_developer_member_id"));
+
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> dMakerService.createDeveloper(request));
+        assertEquals(DMakerErrorCode.DUPLICATED_MEMBER_ID, exception.getDMakerErrorCode());
+    }
+
+    @Test
+    void testCreateDeveloperWithOtherIntegrityViolation() {
+        CreateDeveloper.Request request = CreateDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(15)
+                .memberId("memberId")
+                .build();
+
+        // memberId unique index 가 아닌 제약조건 위반은 중복으로 바꾸지 않음
+        given(developerRepository.existsByMemberId("memberId"))
+                .willReturn(false);
+        given(developerRepository.saveAndFlush(any(Developer.class)))
+                .willThrow(new DataIntegrityViolationException("NULL not allowed for column \"NAME\""));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> dMakerService.createDeveloper(request));
+        verifyNoInteractions(developerOutbox);
+    }
+
     @Test
     void testCreateDeveloperWithInvalidExperienceYears() {
         // 테스트를 위한 CreateDeveloper.Request 객체 생성 (경험 연수가 부적절한 경우)
@@ -212,5 +443,37 @@ class DMakerServiceTest {
         assertThrows(DMakerException.class, () -> dMakerService.createDeveloper(request));
     }
 
+    @Test
+    void testSearchDevelopersWithInvertedExperienceRange() {
+        DeveloperSearchCondition condition = DeveloperSearchCondition.builder()
+                .minExperienceYears(10)
+                .maxExperienceYears(5)
+                .build();
+
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> dMakerService.searchDevelopers(condition));
+        assertEquals(DMakerErrorCode.INVALID_REQUEST, exception.getDMakerErrorCode());
+    }
+
+    private static Developer developer(Long version) {
+        return Developer.builder()
+                .id(1L)
+                .developerLevel(DeveloperLevel.JUNGIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(7)
+                .memberId("memberId")
+                .statusCode(StatusCode.EMPLOYED)
+                .name("name")
+                .age(30)
+                .version(version)
+                .build();
+    }
 
-}
\ No newline at end of file
+    // flush 때 Hibernate 가 올리는 @Version
+    private void flushIncrementsVersion(Developer developer) {
+        willAnswer(invocation -> {
+            developer.setVersion(developer.getVersion() + 1);
+            return null;
+        }).given(developerRepository).flush();
+    }
+}
@@ -0,0 +1,361 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.BatchCreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.ImportDevelopers;
+import com.fastcampus.programming.dmaker.dto.RetireDevelopers;
+import com.fastcampus.programming.dmaker.dto.ValidateDevelopers;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.repository.RetiredDeveloperRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperBatchServiceTest {
+
+    @Mock
+    private DeveloperRepository developerRepository;
+
+    @Mock
+    private RetiredDeveloperRepository retiredDeveloperRepository;
+
+    @Spy
+    private DeveloperLevelPolicy developerLevelPolicy = DeveloperLevelPolicyFixture.defaultRules();
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private DeveloperStatistics developerStatistics;
+
+    @Mock
+    private DeveloperIndex developerIndex;
+
+    @Mock
+    private DeveloperOutbox developerOutbox;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private DeveloperShards developerShards = DeveloperShards.single(mock(PlatformTransactionManager.class));
+
+    @InjectMocks
+    private DeveloperBatchService developerBatchService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(developerBatchService, "chunkSize", 2);
+    }
+
+    private void runTransactionInline() {
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private CreateDeveloper.Request request(String memberId, DeveloperLevel level, int experienceYears) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(level)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(experienceYears)
+                .memberId(memberId)
+                .name("name")
+                .age(30)
+                .build();
+    }
+
+    @Test
+    void testCreateDevelopersInChunks() {
+        runTransactionInline();
+        given(developerRepository.findExistingMemberIds(anyCollection()))
+                .willReturn(Set.of("existing"));
+
+        BatchCreateDeveloper.Response response = developerBatchService.createDevelopers(List.of(
+                request("member1", DeveloperLevel.JUNIOR, 2),
+                request("existing", DeveloperLevel.JUNIOR, 2),
+                request("member1", DeveloperLevel.JUNIOR, 2),
+                request("member3", DeveloperLevel.JUNIOR, 2)
+        ).iterator());
+
+        // chunkSize 2 -> chunk 두 개, chunk 마다 IN 쿼리 한 번 + batch insert 한 번
+        verify(developerRepository, times(2)).findExistingMemberIds(anyCollection());
+        ArgumentCaptor<List<Developer>> captor = ArgumentCaptor.forClass(List.class);
+        verify(developerRepository, times(2)).saveAllAndFlush(captor.capture());
+        assertEquals(1, captor.getAllValues().get(0).size());
+        assertEquals("member3", captor.getAllValues().get(1).get(0).getMemberId());
+
+        assertEquals(2, response.getCreatedCount());
+        assertEquals(2, response.getFailedCount());
+        assertTrue(response.getResults().get(0).isCreated());
+        assertEquals(DMakerErrorCode.DUPLICATED_MEMBER_ID, response.getResults().get(1).getErrorCode());
+        assertEquals(DMakerErrorCode.DUPLICATED_MEMBER_ID, response.getResults().get(2).getErrorCode());
+        assertEquals(3, response.getResults().get(3).getIndex());
+        assertTrue(response.getResults().get(3).isCreated());
+    }
+
+    @Test
+    void testCreateDevelopersRetriesRowByRowOnConcurrentDuplicate() {
+        runTransactionInline();
+        // IN 쿼리 이후 다른 요청이 member2 를 먼저 insert -> 한 건씩 다시 시도할 때 member2 만 중복
+        given(developerRepository.findExistingMemberIds(anyCollection()))
+                .willReturn(Set.of(), Set.of(), Set.of("member2"));
+        given(developerRepository.saveAllAndFlush(any()))
+                .willThrow(new DataIntegrityViolationException("uk_developer_member_id"))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        BatchCreateDeveloper.Response response = developerBatchService.createDevelopers(List.of(
+                request("member1", DeveloperLevel.JUNIOR, 2),
+                request("member2", DeveloperLevel.JUNIOR, 2)
+        ).iterator());
+
+        verify(developerRepository, times(3)).findExistingMemberIds(anyCollection());
+        assertEquals(1, response.getCreatedCount());
+        assertTrue(response.getResults().get(0).isCreated());
+        assertEquals(DMakerErrorCode.DUPLICATED_MEMBER_ID, response.getResults().get(1).getErrorCode());
+    }
+
+    @Test
+    void testCreateDevelopersWithInvalidLevel() {
+        CreateDeveloper.Request invalid = request("member1", DeveloperLevel.SENIOR, 3);
+        BatchCreateDeveloper.Response response =
+                developerBatchService.createDevelopers(List.of(invalid).iterator());
+
+        // 검증에서 모두 걸러지면 트랜잭션을 열지 않음
+        verify(transactionTemplate, times(0)).executeWithoutResult(any());
+        assertEquals(0, response.getCreatedCount());
+        assertEquals(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED,
+                response.getResults().get(0).getErrorCode());
+    }
+
+    @Test
+    void testValidateDevelopers() {
+        ValidateDevelopers.Response response = developerBatchService.validateDevelopers(List.of(
+                request("member1", DeveloperLevel.NEW, 0),
+                request("member2", DeveloperLevel.NEW, 3),
+                request("member1", DeveloperLevel.JUNIOR, 2),
+                request("member4", DeveloperLevel.SENIOR, 12)
+        ).iterator());
+
+        // DB 와 트랜잭션 없이 검증만 수행
+        verifyNoInteractions(developerRepository, transactionTemplate);
+        assertEquals(2, response.getValidCount());
+        assertEquals(2, response.getInvalidCount());
+        assertEquals(1, response.getFailures().get(0).getIndex());
+        assertEquals(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED, response.getFailures().get(0).getErrorCode());
+        assertEquals(2, response.getFailures().get(1).getIndex());
+        assertEquals(DMakerErrorCode.DUPLICATED_MEMBER_ID, response.getFailures().get(1).getErrorCode());
+    }
+
+    @Test
+    void testImportDevelopersUpsertsInChunks() {
+        runTransactionInline();
+        Map<String, Developer> stored = Map.of(
+                "existing", developer("existing", DeveloperLevel.JUNIOR, 2, StatusCode.EMPLOYED),
+                "unchanged", developer("unchanged", DeveloperLevel.JUNIOR, 2, StatusCode.EMPLOYED),
+                "retired", developer("retired", DeveloperLevel.JUNIOR, 2, StatusCode.RETIRED));
+        given(developerRepository.findAllByMemberIdIn(anyCollection())).willAnswer(invocation -> {
+            Collection<String> memberIds = invocation.getArgument(0);
+            return memberIds.stream().filter(stored::containsKey).map(stored::get).toList();
+        });
+
+        List<ImportDevelopers.Progress> reported = new ArrayList<>();
+        ImportDevelopers.Progress result = developerBatchService.importDevelopers(List.of(
+                request("existing", DeveloperLevel.JUNIOR, 3),
+                request("member1", DeveloperLevel.JUNIOR, 2),
+                request("unchanged", DeveloperLevel.JUNIOR, 2),
+                request("retired", DeveloperLevel.JUNIOR, 2)
+        ).iterator(), progress -> reported.add(ImportDevelopers.Progress.builder()
+                .processed(progress.getProcessed())
+                .failures(progress.getFailures())
+                .build()));
+
+        // chunk 마다 진행 상황 보고
+        assertEquals(2, reported.size());
+        assertEquals(2, reported.get(0).getProcessed());
+        assertEquals(List.of(3), reported.get(1).getFailures().stream()
+                .map(BatchCreateDeveloper.Result::getIndex).toList());
+
+        assertTrue(result.isDone());
+        assertEquals(4, result.getProcessed());
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getUpdated());
+        assertEquals(1, result.getUnchanged());
+        assertEquals(1, result.getFailed());
+        assertEquals(3, stored.get("existing").getExperienceYears());
+        verify(developerRepository, times(2)).flush();
+        verify(developerOutbox).appendAll(eq(DeveloperEventType.EDITED), argThat(details -> details.size() == 1));
+    }
+
+    @Test
+    void testImportDevelopersRetriesRowByRowOnConcurrentInsert() {
+        runTransactionInline();
+        // 조회 이후 다른 요청이 member2 를 먼저 insert -> chunk 롤백 후 한 건씩 다시 upsert
+        Developer concurrent = developer("member2", DeveloperLevel.JUNIOR, 2, StatusCode.EMPLOYED);
+        given(developerRepository.findAllByMemberIdIn(anyCollection()))
+                .willReturn(List.of(), List.of(), List.of(concurrent));
+        willThrow(new DataIntegrityViolationException("Unique index violation: UK_DEVELOPER_MEMBER_ID"))
+                .willDoNothing()
+                .given(developerRepository).flush();
+
+        ImportDevelopers.Progress result = developerBatchService.importDevelopers(List.of(
+                request("member1", DeveloperLevel.JUNIOR, 2),
+                request("member2", DeveloperLevel.JUNIOR, 3)
+        ).iterator(), progress -> {});
+
+        // 먼저 들어온 member2 는 실패가 아니라 update
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getUpdated());
+        assertEquals(0, result.getFailed());
+        assertEquals(3, concurrent.getExperienceYears());
+        verify(developerRepository, times(3)).flush();
+    }
+
+    @Test
+    void testImportDevelopersStopsOnUnreadableInput() {
+        Iterator<CreateDeveloper.Request> broken = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "broken line");
+            }
+
+            @Override
+            public CreateDeveloper.Request next() {
+                throw new NoSuchElementException();
+            }
+        };
+
+        ImportDevelopers.Progress result = developerBatchService.importDevelopers(broken, progress -> {});
+
+        assertTrue(result.isDone());
+        assertEquals(0, result.getProcessed());
+        assertEquals(DMakerErrorCode.INVALID_REQUEST, result.getErrorCode());
+    }
+
+    private static Developer developer(String memberId, DeveloperLevel level, int experienceYears, StatusCode statusCode) {
+        return Developer.builder()
+                .developerLevel(level)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(experienceYears)
+                .memberId(memberId)
+                .name("name")
+                .age(30)
+                .statusCode(statusCode)
+                .build();
+    }
+
+    @Test
+    void testRetireDevelopers() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            TransactionCallback<Integer> action = invocation.getArgument(0);
+            return action.doInTransaction(null);
+        });
+        given(developerRepository.findDetailsByStatusCode(List.of("member1", "member2"), StatusCode.EMPLOYED))
+                .willReturn(List.of(employed("member1")));
+        given(developerRepository.findDetailsByStatusCode(List.of("member3"), StatusCode.EMPLOYED))
+                .willReturn(List.of(employed("member3")));
+        given(developerRepository.updateStatusCode(anyCollection(), eq(StatusCode.EMPLOYED), eq(StatusCode.RETIRED)))
+                .willReturn(1);
+        List<DeveloperDetailDto> retiredMember1 = List.of(retired("member1"));
+        given(developerRepository.findDetailsByStatusCode(Set.of("member1"), StatusCode.RETIRED))
+                .willReturn(retiredMember1);
+        given(developerRepository.findDetailsByStatusCode(Set.of("member3"), StatusCode.RETIRED))
+                .willReturn(List.of(retired("member3")));
+
+        // 중복 memberId 는 한 번만 처리
+        RetireDevelopers.Response response = developerBatchService.retireDevelopers(
+                List.of("member1", "member2", "member1", "member3"));
+
+        verify(retiredDeveloperRepository).archiveDevelopersIfAbsent(Set.of("member1"), StatusCode.RETIRED);
+        verify(retiredDeveloperRepository).archiveDevelopersIfAbsent(Set.of("member3"), StatusCode.RETIRED);
+        assertEquals(2, response.getRetiredCount());
+        assertEquals(List.of("member2"), response.getMissingMemberIds());
+        verify(developerOutbox, times(2)).appendAll(eq(DeveloperEventType.RETIRED), anyCollection());
+        // index 와 이벤트는 UPDATE 이후에 다시 읽은 version 으로
+        verify(developerIndex).updateStatusCode(retiredMember1);
+    }
+
+    @Test
+    void testRetireDevelopersRetriesChunkRetiredConcurrently() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            TransactionCallback<Integer> action = invocation.getArgument(0);
+            return action.doInTransaction(null);
+        });
+        // 첫 조회 이후 member2 가 단건 퇴직됨 -> UPDATE 건수가 달라서 롤백 후 다시 조회
+        given(developerRepository.findDetailsByStatusCode(List.of("member1", "member2"), StatusCode.EMPLOYED))
+                .willReturn(List.of(employed("member1"), employed("member2")), List.of(employed("member1")));
+        given(developerRepository.updateStatusCode(anyCollection(), eq(StatusCode.EMPLOYED), eq(StatusCode.RETIRED)))
+                .willReturn(1);
+        given(developerRepository.findDetailsByStatusCode(Set.of("member1"), StatusCode.RETIRED))
+                .willReturn(List.of(retired("member1")));
+
+        RetireDevelopers.Response response = developerBatchService.retireDevelopers(List.of("member1", "member2"));
+
+        verify(retiredDeveloperRepository, times(1)).archiveDevelopersIfAbsent(anyCollection(), eq(StatusCode.RETIRED));
+        verify(retiredDeveloperRepository).archiveDevelopersIfAbsent(Set.of("member1"), StatusCode.RETIRED);
+        verify(developerOutbox, times(1)).appendAll(eq(DeveloperEventType.RETIRED), anyCollection());
+        assertEquals(1, response.getRetiredCount());
+        assertEquals(List.of("member2"), response.getMissingMemberIds());
+    }
+
+    private static DeveloperDetailDto retired(String memberId) {
+        DeveloperDetailDto developer = employed(memberId);
+        developer.setStatusCode(StatusCode.RETIRED);
+        developer.setVersion(1L);
+        return developer;
+    }
+
+    private static DeveloperDetailDto employed(String memberId) {
+        return DeveloperDetailDto.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .statusCode(StatusCode.EMPLOYED)
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperChangesDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperEventDto;
+import com.fastcampus.programming.dmaker.repository.DeveloperEventRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperChangeFeedTest {
+
+    @Mock
+    private DeveloperEventRepository developerEventRepository;
+
+    @Spy
+    private DeveloperShards developerShards = DeveloperShards.single(mock(PlatformTransactionManager.class));
+
+    @InjectMocks
+    private DeveloperChangeFeed developerChangeFeed;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(developerChangeFeed, "pollTimeoutMillis", 30000L);
+    }
+
+    @Test
+    void testPollReturnsPublishedEventsImmediately() {
+        given(developerEventRepository.findPublishedAfter(eq(3L), any()))
+                .willReturn(List.of(event(4L, "member1"), event(5L, "member2")));
+
+        DeferredResult<DeveloperChangesDto> result = developerChangeFeed.poll(3L, 100);
+
+        DeveloperChangesDto changes = (DeveloperChangesDto) result.getResult();
+        assertEquals(2, changes.getEvents().size());
+        assertEquals(5L, changes.getNext());
+        assertEquals(0, developerChangeFeed.waiting());
+    }
+
+    @Test
+    void testPollWaitsForNextPublish() {
+        given(developerEventRepository.findPublishedAfter(eq(5L), any())).willReturn(List.of());
+
+        DeferredResult<DeveloperChangesDto> result = developerChangeFeed.poll(5L, 1);
+        assertFalse(result.hasResult());
+        assertEquals(1, developerChangeFeed.waiting());
+
+        // since 이전 sequence 는 무시, limit 만큼만 응답
+        developerChangeFeed.publish(List.of(event(5L, "member1"), event(6L, "member2"), event(7L, "member3")));
+
+        DeveloperChangesDto changes = (DeveloperChangesDto) result.getResult();
+        assertEquals(List.of("member2"),
+                changes.getEvents().stream().map(DeveloperEventDto::getMemberId).toList());
+        assertEquals(6L, changes.getNext());
+        assertEquals(0, developerChangeFeed.waiting());
+    }
+
+    @Test
+    void testChangedElsewhereWakesWaitersFromPublishedEvents() {
+        // 다른 인스턴스의 relay 가 publish 한 이벤트는 이 인스턴스의 publish 를 거치지 않음
+        given(developerEventRepository.findPublishedAfter(eq(5L), any()))
+                .willReturn(List.of(), List.of(event(6L, "member2")));
+
+        DeferredResult<DeveloperChangesDto> result = developerChangeFeed.poll(5L, 100);
+        assertFalse(result.hasResult());
+
+        developerChangeFeed.changedElsewhere(Set.of("member2"));
+
+        DeveloperChangesDto changes = (DeveloperChangesDto) result.getResult();
+        assertEquals(List.of("member2"),
+                changes.getEvents().stream().map(DeveloperEventDto::getMemberId).toList());
+        assertEquals(0, developerChangeFeed.waiting());
+    }
+
+    private static DeveloperEventDto event(Long sequence, String memberId) {
+        return DeveloperEventDto.builder()
+                .sequence(sequence)
+                .eventType(DeveloperEventType.CREATED)
+                .memberId(memberId)
+                .build();
+    }
+}
@@ -0,0 +1,277 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearchCondition;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearchResultDto;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperIndexTest {
+
+    @Mock
+    private DeveloperRepository developerRepository;
+
+    private final DeveloperShards developerShards = DeveloperShards.single(mock(PlatformTransactionManager.class));
+
+    private DeveloperIndex developerIndex;
+
+    @BeforeEach
+    void setUp() {
+        developerIndex = new DeveloperIndex(developerRepository, developerShards, true);
+    }
+
+    @Test
+    void testLoadInChunksAndFindDetail() {
+        // 500 건 chunk 두 번에 걸쳐 적재 (배열 / arena 확장 포함)
+        List<Developer> developers = IntStream.rangeClosed(1, 1200)
+                .mapToObj(id -> developer((long) id, "member" + id, DeveloperLevel.JUNIOR, 2, StatusCode.EMPLOYED))
+                .toList();
+        given(developerRepository.findTop500ByIdGreaterThanOrderByIdAsc(anyLong()))
+                .willAnswer(invocation -> {
+                    long cursor = invocation.getArgument(0);
+                    return developers.stream()
+                            .filter(developer -> developer.getId() > cursor)
+                            .limit(500)
+                            .toList();
+                });
+
+        developerIndex.afterSingletonsInstantiated();
+
+        assertTrue(developerIndex.isReady());
+        assertEquals(1200, developerIndex.size());
+        DeveloperDetailDto detail = developerIndex.findDetail("member777").orElseThrow();
+        assertEquals("member777", detail.getMemberId());
+        assertEquals("name777", detail.getName());
+        assertEquals(DeveloperLevel.JUNIOR, detail.getDeveloperLevel());
+        assertEquals(1L, detail.getVersion());
+        assertTrue(developerIndex.findDetail("member1201").isEmpty());
+    }
+
+    @Test
+    void testPageFollowsIdOrderAndStatus() {
+        load(List.of());
+        // 트랜잭션 밖에서는 즉시 반영, id 순서와 다르게 추가
+        developerIndex.put(developer(30L, "member30", DeveloperLevel.SENIOR, 12, StatusCode.EMPLOYED));
+        developerIndex.put(developer(10L, "member10", DeveloperLevel.SENIOR, 15, StatusCode.EMPLOYED));
+        developerIndex.put(developer(20L, "member20", DeveloperLevel.JUNIOR, 2, StatusCode.EMPLOYED));
+        developerIndex.updateStatusCode(List.of(DeveloperDetailDto.builder()
+                .memberId("member20").statusCode(StatusCode.RETIRED).version(2L).build()));
+
+        DeveloperPageDto first = developerIndex.page(StatusCode.EMPLOYED, 0L, 1);
+        assertEquals(List.of("member10"), memberIds(first.getDevelopers()));
+        assertEquals(10L, first.getNext());
+
+        DeveloperPageDto second = developerIndex.page(StatusCode.EMPLOYED, first.getNext(), 1);
+        assertEquals(List.of("member30"), memberIds(second.getDevelopers()));
+        assertNull(second.getNext());
+
+        DeveloperDetailDto retired = developerIndex.findDetail("member20").orElseThrow();
+        assertEquals(StatusCode.RETIRED, retired.getStatusCode());
+        assertEquals(2L, retired.getVersion());
+    }
+
+    @Test
+    void testEditUpdatesExistingRow() {
+        load(List.of(developer(1L, "member1", DeveloperLevel.JUNIOR, 2, StatusCode.EMPLOYED)));
+
+        developerIndex.put(DeveloperDetailDto.builder()
+                .memberId("member1")
+                .developerLevel(DeveloperLevel.JUNGIOR)
+                .developerSkillType(DeveloperSkillType.FULL_STACK)
+                .experienceYears(6)
+                .statusCode(StatusCode.EMPLOYED)
+                .version(2L)
+                .build());
+
+        DeveloperDetailDto detail = developerIndex.findDetail("member1").orElseThrow();
+        assertEquals(DeveloperLevel.JUNGIOR, detail.getDeveloperLevel());
+        assertEquals(DeveloperSkillType.FULL_STACK, detail.getDeveloperSkillType());
+        assertEquals(6, detail.getExperienceYears());
+        assertEquals(2L, detail.getVersion());
+        assertEquals("name1", detail.getName());
+    }
+
+    @Test
+    void testOlderVersionsAppliedOutOfOrderAreIgnored() {
+        load(List.of(developer(1L, "member1", DeveloperLevel.JUNIOR, 2, StatusCode.EMPLOYED)));
+
+        // 동시에 commit 된 두 수정 (version 2, 3) 의 afterCommit 이 거꾸로 실행된 경우
+        developerIndex.put(edited(DeveloperLevel.SENIOR, 12, 3L));
+        developerIndex.put(edited(DeveloperLevel.JUNGIOR, 6, 2L));
+        assertEquals(3L, developerIndex.findDetail("member1").orElseThrow().getVersion());
+        assertEquals(DeveloperLevel.SENIOR, developerIndex.findDetail("member1").orElseThrow().getDeveloperLevel());
+
+        // 벌크 퇴직은 UPDATE 이후에 읽은 version 을 그대로 씀 (상대값으로 올리지 않음)
+        developerIndex.updateStatusCode(List.of(DeveloperDetailDto.builder()
+                .memberId("member1").statusCode(StatusCode.RETIRED).version(4L).build()));
+        developerIndex.updateStatusCode(List.of(DeveloperDetailDto.builder()
+                .memberId("member1").statusCode(StatusCode.EMPLOYED).version(3L).build()));
+        DeveloperDetailDto detail = developerIndex.findDetail("member1").orElseThrow();
+        assertEquals(4L, detail.getVersion());
+        assertEquals(StatusCode.RETIRED, detail.getStatusCode());
+    }
+
+    @Test
+    void testImportUpsertUpdatesNameAndAge() {
+        Developer developer = developer(1L, "member1", DeveloperLevel.JUNIOR, 2, StatusCode.EMPLOYED);
+        load(List.of(developer));
+
+        // import upsert 처럼 로딩한 엔티티의 이름 / 나이를 바꾸고 commit (version + 1)
+        developer.setName("renamed1");
+        developer.setAge(41);
+        developer.setVersion(2L);
+        developerIndex.put(developer);
+
+        DeveloperDetailDto detail = developerIndex.findDetail("member1").orElseThrow();
+        assertEquals("renamed1", detail.getName());
+        assertEquals(41, detail.getAge());
+        assertEquals(2L, detail.getVersion());
+
+        DeveloperSearchCondition renamed = DeveloperSearchCondition.builder().namePrefix("rename").build();
+        assertEquals(List.of("member1"), memberIds(developerIndex.search(renamed).getDevelopers()));
+        DeveloperSearchCondition previous = DeveloperSearchCondition.builder().namePrefix("name1").build();
+        assertTrue(developerIndex.search(previous).getDevelopers().isEmpty());
+    }
+
+    @Test
+    void testSearchWalksPagesDescending() {
+        load(List.of(
+                developer(1L, "senior1", DeveloperLevel.SENIOR, 12, StatusCode.EMPLOYED),
+                developer(2L, "junior1", DeveloperLevel.JUNIOR, 3, StatusCode.EMPLOYED),
+                developer(3L, "senior2", DeveloperLevel.SENIOR, 15, StatusCode.EMPLOYED),
+                developer(4L, "senior3", DeveloperLevel.SENIOR, 18, StatusCode.RETIRED),
+                developer(5L, "senior4", DeveloperLevel.SENIOR, 11, StatusCode.EMPLOYED)
+        ));
+
+        DeveloperSearchCondition condition = DeveloperSearchCondition.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .minExperienceYears(12)
+                .direction(Sort.Direction.DESC)
+                .size(1)
+                .build();
+        assertTrue(developerIndex.supports(condition));
+
+        List<String> memberIds = new ArrayList<>();
+        DeveloperSearchResultDto page;
+        do {
+            page = developerIndex.search(condition);
+            memberIds.addAll(memberIds(page.getDevelopers()));
+            condition.setCursor(page.getNext());
+        } while (page.getNext() != null);
+
+        assertEquals(List.of("senior2", "senior1"), memberIds);
+    }
+
+    @Test
+    void testRefreshAppliesRemoteChangesAndCompactsStrings() {
+        List<Developer> developers = IntStream.rangeClosed(1, 5000)
+                .mapToObj(id -> developer((long) id, "member" + id, DeveloperLevel.JUNIOR, 2, StatusCode.EMPLOYED))
+                .toList();
+        given(developerRepository.findTop500ByIdGreaterThanOrderByIdAsc(anyLong()))
+                .willAnswer(invocation -> {
+                    long cursor = invocation.getArgument(0);
+                    return developers.stream()
+                            .filter(developer -> developer.getId() > cursor)
+                            .limit(500)
+                            .toList();
+                });
+        developerIndex.afterSingletonsInstantiated();
+
+        // 다른 인스턴스에서 member1 은 수정, member5000 은 옛 version, member2 ~ member4000 은 DB 에서 사라짐
+        Developer edited = developer(1L, "member1", DeveloperLevel.SENIOR, 12, StatusCode.EMPLOYED);
+        edited.setVersion(2L);
+        Developer stale = developer(5000L, "member5000", DeveloperLevel.SENIOR, 12, StatusCode.EMPLOYED);
+        stale.setVersion(0L);
+        given(developerRepository.findAllByMemberIdIn(anyCollection())).willReturn(List.of(edited, stale));
+        List<String> changed = new ArrayList<>(List.of("member1", "member5000"));
+        IntStream.rangeClosed(2, 4000).forEach(id -> changed.add("member" + id));
+
+        developerIndex.refresh(changed);
+
+        assertEquals(1001, developerIndex.size());
+        assertEquals(DeveloperLevel.SENIOR, developerIndex.findDetail("member1").orElseThrow().getDeveloperLevel());
+        assertEquals(2L, developerIndex.findDetail("member1").orElseThrow().getVersion());
+        assertEquals(DeveloperLevel.JUNIOR, developerIndex.findDetail("member5000").orElseThrow().getDeveloperLevel());
+        assertTrue(developerIndex.findDetail("member2").isEmpty());
+
+        // 지운 row 의 문자열은 compact 로 회수되고 남은 row 는 그대로 조회됨
+        int liveBytes = developerIndex.page(StatusCode.EMPLOYED, 0L, 2000).getDevelopers().stream()
+                .mapToInt(developer -> 2 * developer.getMemberId().length() - 2)
+                .sum();
+        assertEquals(liveBytes, developerIndex.stringBytes());
+        assertEquals("name4001", developerIndex.findDetail("member4001").orElseThrow().getName());
+        assertEquals(List.of("member1", "member4001"),
+                memberIds(developerIndex.page(StatusCode.EMPLOYED, 0L, 2).getDevelopers()));
+    }
+
+    @Test
+    void testDisabledIndexIsNeverReady() {
+        developerIndex = new DeveloperIndex(developerRepository, developerShards, false);
+
+        developerIndex.afterSingletonsInstantiated();
+        developerIndex.put(developer(1L, "member1", DeveloperLevel.JUNIOR, 2, StatusCode.EMPLOYED));
+
+        assertFalse(developerIndex.isReady());
+        assertEquals(0, developerIndex.size());
+    }
+
+    private void load(List<Developer> developers) {
+        given(developerRepository.findTop500ByIdGreaterThanOrderByIdAsc(0L)).willReturn(developers);
+        developerIndex.afterSingletonsInstantiated();
+    }
+
+    private static DeveloperDetailDto edited(DeveloperLevel level, int experienceYears, long version) {
+        return DeveloperDetailDto.builder()
+                .memberId("member1")
+                .developerLevel(level)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(experienceYears)
+                .statusCode(StatusCode.EMPLOYED)
+                .version(version)
+                .build();
+    }
+
+    private static List<String> memberIds(List<DeveloperDto> developers) {
+        return developers.stream().map(DeveloperDto::getMemberId).toList();
+    }
+
+    private static Developer developer(
+            Long id, String memberId, DeveloperLevel level, int experienceYears, StatusCode statusCode
+    ) {
+        return Developer.builder()
+                .id(id)
+                .developerLevel(level)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(experienceYears)
+                .memberId(memberId)
+                .name(memberId.replace("member", "name"))
+                .age(30)
+                .statusCode(statusCode)
+                .version(1L)
+                .build();
+    }
+}
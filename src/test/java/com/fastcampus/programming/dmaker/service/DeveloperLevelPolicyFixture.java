@@ -0,0 +1,16 @@
+package com.fastcampus.programming.dmaker.service;
+
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * 서비스 테스트에서 쓰는 규칙 표. DB 를 쓰지 않으므로 mock 대신 기본 규칙 파일로 만든 실제 객체를 사용한다.
+ */
+final class DeveloperLevelPolicyFixture {
+
+    private DeveloperLevelPolicyFixture() {
+    }
+
+    static DeveloperLevelPolicy defaultRules() {
+        return new DeveloperLevelPolicy(new ClassPathResource("developer-level-rules.properties"));
+    }
+}
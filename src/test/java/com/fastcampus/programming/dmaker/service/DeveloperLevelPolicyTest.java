@@ -0,0 +1,81 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeveloperLevelPolicyTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testDefaultRules() {
+        DeveloperLevelPolicy policy = DeveloperLevelPolicyFixture.defaultRules();
+
+        assertTrue(policy.isAllowed(DeveloperLevel.NEW, 0));
+        assertFalse(policy.isAllowed(DeveloperLevel.NEW, 3));
+        assertTrue(policy.isAllowed(DeveloperLevel.JUNIOR, 4));
+        assertFalse(policy.isAllowed(DeveloperLevel.JUNIOR, 5));
+        assertTrue(policy.isAllowed(DeveloperLevel.JUNGIOR, 4));
+        assertTrue(policy.isAllowed(DeveloperLevel.JUNGIOR, 10));
+        assertFalse(policy.isAllowed(DeveloperLevel.JUNGIOR, 11));
+        assertFalse(policy.isAllowed(DeveloperLevel.SENIOR, 9));
+        assertTrue(policy.isAllowed(DeveloperLevel.SENIOR, 100));
+        assertFalse(policy.isAllowed(DeveloperLevel.SENIOR, null));
+        assertFalse(policy.isAllowed(null, 5));
+
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> policy.validate(DeveloperLevel.SENIOR, 5));
+        assertEquals(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED, exception.getDMakerErrorCode());
+    }
+
+    @Test
+    void testReloadsModifiedFile() throws Exception {
+        Path rules = write("NEW=0\nJUNIOR=0-4\nJUNGIOR=4-10\nSENIOR=10-\n", 1_000L);
+        DeveloperLevelPolicy policy = new DeveloperLevelPolicy(new FileSystemResource(rules));
+        assertFalse(policy.isAllowed(DeveloperLevel.SENIOR, 7));
+
+        write("NEW=0\nJUNIOR=0-4\nJUNGIOR=4-7\nSENIOR=7-\n", 2_000L);
+        policy.reloadIfModified();
+
+        assertTrue(policy.isAllowed(DeveloperLevel.SENIOR, 7));
+        assertFalse(policy.isAllowed(DeveloperLevel.JUNGIOR, 8));
+    }
+
+    @Test
+    void testKeepsRulesWhenReloadFails() throws Exception {
+        Path rules = write("NEW=0\nJUNIOR=0-4\nJUNGIOR=4-10\nSENIOR=10-\n", 1_000L);
+        DeveloperLevelPolicy policy = new DeveloperLevelPolicy(new FileSystemResource(rules));
+
+        // SENIOR 구간이 잘못된 파일
+        write("NEW=0\nJUNIOR=0-4\nJUNGIOR=4-10\nSENIOR=ten-\n", 2_000L);
+        policy.reloadIfModified();
+
+        assertTrue(policy.isAllowed(DeveloperLevel.SENIOR, 10));
+        assertFalse(policy.isAllowed(DeveloperLevel.SENIOR, 7));
+    }
+
+    @Test
+    void testRejectsMissingLevel() throws Exception {
+        Path rules = write("JUNIOR=0-4\nJUNGIOR=4-10\nSENIOR=10-\n", 1_000L);
+
+        assertThrows(IllegalStateException.class, () -> new DeveloperLevelPolicy(new FileSystemResource(rules)));
+    }
+
+    private Path write(String content, long modifiedMillis) throws Exception {
+        Path rules = tempDir.resolve("level-rules.properties");
+        Files.writeString(rules, content);
+        Files.setLastModifiedTime(rules, FileTime.fromMillis(modifiedMillis));
+        return rules;
+    }
+}
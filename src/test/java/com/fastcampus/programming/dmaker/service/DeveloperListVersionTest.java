@@ -0,0 +1,58 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperVersionSumDto;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperListVersionTest {
+
+    @Mock
+    private DeveloperRepository developerRepository;
+
+    private final DeveloperShards developerShards = DeveloperShards.single(mock(PlatformTransactionManager.class));
+
+    @Test
+    void testVersionIsReusedUntilLocalChange() {
+        DeveloperListVersion listVersion =
+                new DeveloperListVersion(developerRepository, developerShards, Duration.ofMinutes(1));
+        given(developerRepository.sumVersions())
+                .willReturn(new DeveloperVersionSumDto(3L, 7L))
+                .willReturn(new DeveloperVersionSumDto(3L, 8L));
+
+        assertEquals("3.7", listVersion.get());
+        assertEquals("3.7", listVersion.get());
+        verify(developerRepository, times(1)).sumVersions();
+
+        // commit 된 변경이나 받은 무효화가 있으면 ttl 전이라도 다시 계산
+        listVersion.changed(Set.of("memberId"));
+        assertEquals("3.8", listVersion.get());
+    }
+
+    @Test
+    void testChangesWithoutInvalidationAreSeenAfterTtl() {
+        // transport=local 에서 다른 인스턴스의 변경은 무효화가 오지 않음
+        DeveloperListVersion listVersion =
+                new DeveloperListVersion(developerRepository, developerShards, Duration.ZERO);
+        given(developerRepository.sumVersions())
+                .willReturn(new DeveloperVersionSumDto(3L, 7L))
+                .willReturn(new DeveloperVersionSumDto(4L, 8L));
+
+        assertEquals("3.7", listVersion.get());
+        assertEquals("4.8", listVersion.get());
+    }
+}
@@ -0,0 +1,65 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperFacetCountDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperStatisticsDto;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperStatisticsTest {
+
+    @Mock
+    private DeveloperRepository developerRepository;
+
+    @Spy
+    private DeveloperShards developerShards = DeveloperShards.single(mock(PlatformTransactionManager.class));
+
+    @InjectMocks
+    private DeveloperStatistics developerStatistics;
+
+    @Test
+    void testInitializeAndUpdateIncrementally() {
+        // 시작 시 GROUP BY 결과로 초기화
+        given(developerRepository.countByFacets())
+                .willReturn(List.of(new DeveloperFacetCountDto(
+                        DeveloperLevel.SENIOR, DeveloperSkillType.BACK_END, StatusCode.EMPLOYED, 12, 3L)));
+        developerStatistics.afterSingletonsInstantiated();
+
+        // 트랜잭션 밖에서는 즉시 반영
+        DeveloperDetailDto developer = DeveloperDetailDto.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .statusCode(StatusCode.EMPLOYED)
+                .experienceYears(12)
+                .build();
+        developerStatistics.remove(developer);
+        developer.setStatusCode(StatusCode.RETIRED);
+        developerStatistics.add(developer);
+
+        DeveloperStatisticsDto statistics = developerStatistics.snapshot();
+        assertEquals(3, statistics.getTotal());
+        assertEquals(2L, statistics.getCounts()
+                .get(DeveloperLevel.SENIOR).get(DeveloperSkillType.BACK_END).get(StatusCode.EMPLOYED));
+        assertEquals(1L, statistics.getCounts()
+                .get(DeveloperLevel.SENIOR).get(DeveloperSkillType.BACK_END).get(StatusCode.RETIRED));
+        assertEquals(2L, statistics.getExperienceYears().get(StatusCode.EMPLOYED)[12]);
+        assertEquals(1L, statistics.getExperienceYears().get(StatusCode.RETIRED)[12]);
+    }
+}
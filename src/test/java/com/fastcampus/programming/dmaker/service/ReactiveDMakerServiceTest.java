@@ -0,0 +1,243 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.cache.DeveloperCacheInvalidator;
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.EditDeveloper;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.repository.ReactiveDeveloperRepository;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveDMakerServiceTest {
+
+    @Mock
+    private ReactiveDeveloperRepository developerRepository;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private DeveloperStatistics developerStatistics;
+
+    @Mock
+    private DeveloperListVersion developerListVersion;
+
+    @Mock
+    private DeveloperCacheInvalidator developerCacheInvalidator;
+
+    private ReactiveDMakerService reactiveDMakerService;
+
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션 경계는 통과시키고, 경계 밖에서 하는 일 (통계/무효화) 만 검증
+        given(transactionalOperator.transactional(any(Mono.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        reactiveDMakerService = new ReactiveDMakerService(
+                developerRepository,
+                transactionalOperator,
+                developerStatistics,
+                developerListVersion,
+                DeveloperLevelPolicyFixture.defaultRules(),
+                developerCacheInvalidator,
+                false);
+    }
+
+    @Test
+    void testCreateDeveloper() {
+        given(developerRepository.existsByMemberId("memberId")).willReturn(Mono.just(false));
+        given(developerRepository.insert(any(Developer.class)))
+                .willAnswer(invocation -> Mono.just(invocation.<Developer>getArgument(0)));
+        given(developerRepository.appendEvent(eq(DeveloperEventType.CREATED), any(DeveloperDetailDto.class)))
+                .willReturn(Mono.just(1L));
+
+        StepVerifier.create(reactiveDMakerService.createDeveloper(createRequest()))
+                .assertNext(response -> {
+                    assertEquals("memberId", response.getMemberId());
+                    assertEquals(DeveloperLevel.SENIOR, response.getDeveloperLevel());
+                })
+                .verifyComplete();
+
+        verify(developerStatistics).add(any(DeveloperDetailDto.class));
+        verify(developerCacheInvalidator).invalidateAfterCommit(List.of("memberId"));
+    }
+
+    @Test
+    void testCreateDeveloperWithDuplicatedMemberId() {
+        given(developerRepository.existsByMemberId("memberId")).willReturn(Mono.just(true));
+
+        StepVerifier.create(reactiveDMakerService.createDeveloper(createRequest()))
+                .expectErrorSatisfies(e -> assertEquals(
+                        DMakerErrorCode.DUPLICATED_MEMBER_ID, ((DMakerException) e).getDMakerErrorCode()))
+                .verify();
+
+        verify(developerRepository, never()).insert(any());
+        verifyNoInteractions(developerStatistics, developerCacheInvalidator);
+    }
+
+    @Test
+    void testCreateDeveloperRacingOnUniqueIndex() {
+        // 동시 요청이 둘 다 exists 검사를 통과하고 늦은 쪽의 insert 가 unique index 에 걸린 경우
+        given(developerRepository.existsByMemberId("memberId")).willReturn(Mono.just(false));
+        given(developerRepository.insert(any(Developer.class)))
+                .willReturn(Mono.error(new DuplicateKeyException("uk_developer_member_id")));
+
+        StepVerifier.create(reactiveDMakerService.createDeveloper(createRequest()))
+                .expectErrorSatisfies(e -> assertEquals(
+                        DMakerErrorCode.DUPLICATED_MEMBER_ID, ((DMakerException) e).getDMakerErrorCode()))
+                .verify();
+
+        verifyNoInteractions(developerStatistics, developerCacheInvalidator);
+    }
+
+    @Test
+    void testCreateDeveloperWithOtherIntegrityViolation() {
+        // memberId unique index 가 아닌 제약조건 위반은 중복으로 바꾸지 않음
+        DataIntegrityViolationException violation =
+                new DataIntegrityViolationException("NULL not allowed for column \"NAME\"");
+        given(developerRepository.existsByMemberId("memberId")).willReturn(Mono.just(false));
+        given(developerRepository.insert(any(Developer.class))).willReturn(Mono.error(violation));
+
+        StepVerifier.create(reactiveDMakerService.createDeveloper(createRequest()))
+                .expectErrorSatisfies(e -> assertSame(violation, e))
+                .verify();
+
+        verifyNoInteractions(developerStatistics, developerCacheInvalidator);
+    }
+
+    @Test
+    void testCreateDeveloperWithLevelNotMatched() {
+        CreateDeveloper.Request request = createRequest();
+        request.setExperienceYears(2);
+
+        StepVerifier.create(reactiveDMakerService.createDeveloper(request))
+                .expectErrorSatisfies(e -> assertEquals(
+                        DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED, ((DMakerException) e).getDMakerErrorCode()))
+                .verify();
+
+        verify(developerRepository, never()).insert(any());
+    }
+
+    @Test
+    void testEditDeveloperRetriesOnConcurrentUpdate() {
+        EditDeveloper.Request request = new EditDeveloper.Request(DeveloperLevel.SENIOR, DeveloperSkillType.FRONT_END, 12);
+
+        // 첫 번째 조회 후 다른 요청이 먼저 수정해서 version 이 바뀐 경우
+        given(developerRepository.findDetailByMemberId("memberId"))
+                .willReturn(Mono.just(detail(3L)))
+                .willReturn(Mono.just(detail(4L)));
+        given(developerRepository.updateProfile(eq("memberId"), eq(3L), any(), any(), any()))
+                .willReturn(Mono.just(0L));
+        given(developerRepository.updateProfile(eq("memberId"), eq(4L), any(), any(), any()))
+                .willReturn(Mono.just(1L));
+        given(developerRepository.appendEvent(eq(DeveloperEventType.EDITED), any(DeveloperDetailDto.class)))
+                .willReturn(Mono.just(1L));
+
+        StepVerifier.create(reactiveDMakerService.editDeveloper(request, "memberId", null))
+                .assertNext(developer -> {
+                    assertEquals(5L, developer.getVersion());
+                    assertEquals(DeveloperLevel.SENIOR, developer.getDeveloperLevel());
+                    assertEquals(12, developer.getExperienceYears());
+                })
+                .verifyComplete();
+
+        verify(developerStatistics).remove(any(DeveloperDetailDto.class));
+        verify(developerStatistics).add(any(DeveloperDetailDto.class));
+    }
+
+    @Test
+    void testEditDeveloperWithStaleIfMatch() {
+        EditDeveloper.Request request = new EditDeveloper.Request(DeveloperLevel.SENIOR, DeveloperSkillType.FRONT_END, 12);
+        given(developerRepository.findDetailByMemberId("memberId")).willReturn(Mono.just(detail(4L)));
+
+        // If-Match 가 있으면 재시도 없이 충돌로 응답
+        StepVerifier.create(reactiveDMakerService.editDeveloper(request, "memberId", 3L))
+                .expectErrorSatisfies(e -> assertEquals(
+                        DMakerErrorCode.VERSION_CONFLICT, ((DMakerException) e).getDMakerErrorCode()))
+                .verify();
+
+        verify(developerRepository, never()).updateProfile(anyString(), any(), any(), any(), any());
+        verifyNoInteractions(developerStatistics);
+    }
+
+    @Test
+    void testDeleteDeveloper() {
+        given(developerRepository.findDetailByMemberId("memberId")).willReturn(Mono.just(detail(3L)));
+        given(developerRepository.updateStatusCode("memberId", 3L, StatusCode.RETIRED)).willReturn(Mono.just(1L));
+        given(developerRepository.appendEvent(eq(DeveloperEventType.RETIRED), any(DeveloperDetailDto.class)))
+                .willReturn(Mono.just(1L));
+        given(developerRepository.archive("memberId", "name")).willReturn(Mono.just(1L));
+
+        StepVerifier.create(reactiveDMakerService.deleteDeveloper("memberId"))
+                .assertNext(developer -> assertEquals(StatusCode.RETIRED, developer.getStatusCode()))
+                .verifyComplete();
+
+        verify(developerRepository).archive("memberId", "name");
+        verify(developerCacheInvalidator).invalidateAfterCommit(List.of("memberId"));
+    }
+
+    @Test
+    void testDeleteRetiredDeveloper() {
+        DeveloperDetailDto retired = detail(3L);
+        retired.setStatusCode(StatusCode.RETIRED);
+        given(developerRepository.findDetailByMemberId("memberId")).willReturn(Mono.just(retired));
+
+        StepVerifier.create(reactiveDMakerService.deleteDeveloper("memberId"))
+                .expectErrorSatisfies(e -> assertEquals(
+                        DMakerErrorCode.NO_DEVELOPER, ((DMakerException) e).getDMakerErrorCode()))
+                .verify();
+
+        verify(developerRepository, never()).updateStatusCode(anyString(), any(), any());
+    }
+
+    private static CreateDeveloper.Request createRequest() {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(12)
+                .memberId("memberId")
+                .name("name")
+                .age(32)
+                .build();
+    }
+
+    private static DeveloperDetailDto detail(Long version) {
+        return DeveloperDetailDto.builder()
+                .developerLevel(DeveloperLevel.JUNGIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(5)
+                .memberId("memberId")
+                .statusCode(StatusCode.EMPLOYED)
+                .name("name")
+                .age(30)
+                .version(version)
+                .build();
+    }
+}
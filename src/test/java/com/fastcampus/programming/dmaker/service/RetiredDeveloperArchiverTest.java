@@ -0,0 +1,126 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperEventDto;
+import com.fastcampus.programming.dmaker.entity.OutboxOffset;
+import com.fastcampus.programming.dmaker.repository.DeveloperEventRepository;
+import com.fastcampus.programming.dmaker.repository.OutboxOffsetRepository;
+import com.fastcampus.programming.dmaker.repository.RetiredDeveloperRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class RetiredDeveloperArchiverTest {
+
+    @Mock
+    private DeveloperEventRepository developerEventRepository;
+
+    @Mock
+    private RetiredDeveloperRepository retiredDeveloperRepository;
+
+    @Mock
+    private OutboxOffsetRepository outboxOffsetRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final DeveloperShards developerShards = DeveloperShards.single(mock(PlatformTransactionManager.class));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RetiredDeveloperArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        archiver = new RetiredDeveloperArchiver(developerEventRepository, retiredDeveloperRepository,
+                outboxOffsetRepository, transactionTemplate, developerShards, meterRegistry, true);
+    }
+
+    @Test
+    void testArchiveFromOffsetAndAdvance() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            TransactionCallback<Integer> action = invocation.getArgument(0);
+            return action.doInTransaction(null);
+        });
+        OutboxOffset offset = OutboxOffset.builder()
+                .consumer(RetiredDeveloperArchiver.CONSUMER)
+                .lastSequenceNo(10L)
+                .build();
+        given(outboxOffsetRepository.findById(RetiredDeveloperArchiver.CONSUMER)).willReturn(Optional.of(offset));
+        given(developerEventRepository.findPublishedAfter(eq(10L), eq(DeveloperEventType.RETIRED), any()))
+                .willReturn(List.of(retired(11L, "member1"), retired(14L, "member2")));
+        given(retiredDeveloperRepository.archiveDevelopersIfAbsent(List.of("member1", "member2"), StatusCode.RETIRED))
+                .willReturn(2);
+        // 처리 후 backlog 조회
+        given(developerEventRepository.findPublishedAfter(eq(14L), eq(DeveloperEventType.RETIRED), any()))
+                .willReturn(List.of());
+        given(developerEventRepository.countPublishedAfter(14L, DeveloperEventType.RETIRED)).willReturn(0L);
+
+        archiver.archive();
+
+        ArgumentCaptor<OutboxOffset> saved = ArgumentCaptor.forClass(OutboxOffset.class);
+        verify(outboxOffsetRepository).save(saved.capture());
+        assertEquals(14L, saved.getValue().getLastSequenceNo());
+        assertEquals(2.0, meterRegistry.get("dmaker.archive.archived").counter().count());
+        assertEquals(0L, archiver.queueDepth());
+        assertEquals(0L, archiver.lagMillis());
+    }
+
+    @Test
+    void testBacklogMetrics() {
+        // 이번 주기에 처리한 이벤트가 없어도 backlog 는 갱신
+        given(transactionTemplate.execute(any())).willReturn(0);
+        given(outboxOffsetRepository.findById(RetiredDeveloperArchiver.CONSUMER)).willReturn(Optional.empty());
+        given(developerEventRepository.countPublishedAfter(0L, DeveloperEventType.RETIRED)).willReturn(3L);
+        given(developerEventRepository.findPublishedAfter(eq(0L), eq(DeveloperEventType.RETIRED), any()))
+                .willReturn(List.of(retired(1L, "member1")));
+
+        archiver.archive();
+
+        assertEquals(3L, archiver.queueDepth());
+        assertTrue(archiver.lagMillis() >= 5000);
+        assertEquals(3.0, meterRegistry.get("dmaker.archive.queue.depth").gauge().value());
+    }
+
+    @Test
+    void testDisabledArchiverDoesNothing() {
+        archiver = new RetiredDeveloperArchiver(developerEventRepository, retiredDeveloperRepository,
+                outboxOffsetRepository, transactionTemplate, developerShards, new SimpleMeterRegistry(), false);
+
+        archiver.archive();
+
+        verifyNoInteractions(transactionTemplate, developerEventRepository);
+    }
+
+    private static DeveloperEventDto retired(Long sequence, String memberId) {
+        return DeveloperEventDto.builder()
+                .sequence(sequence)
+                .eventType(DeveloperEventType.RETIRED)
+                .memberId(memberId)
+                .statusCode(StatusCode.RETIRED)
+                .occurredAt(LocalDateTime.now().minusSeconds(5))
+                .build();
+    }
+}
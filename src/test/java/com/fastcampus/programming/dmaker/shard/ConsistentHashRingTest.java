@@ -0,0 +1,56 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 30000;
+
+    @Test
+    void testKeysSpreadEvenlyAcrossNodes() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("shard0", "shard1", "shard2"), 128);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            counts.merge(ring.nodeFor("member" + i), 1, Integer::sum);
+        }
+
+        // node 당 1/3 에서 20% 이상 벗어나지 않음
+        assertEquals(3, counts.size());
+        counts.values().forEach(count -> assertTrue(Math.abs(count - KEYS / 3) < KEYS / 3 * 0.2, "count: " + count));
+    }
+
+    @Test
+    void testAddingNodeMovesOnlyItsShare() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("shard0", "shard1", "shard2"), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("shard0", "shard1", "shard2", "shard3"), 128);
+
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String key = "member" + i;
+            String owner = after.nodeFor(key);
+            if (!owner.equals(before.nodeFor(key))) {
+                // 옮겨지는 key 는 모두 새 node 로만 감
+                assertEquals("shard3", owner);
+                moved++;
+            }
+        }
+        assertTrue(moved > KEYS / 4 * 0.8 && moved < KEYS / 4 * 1.2, "moved: " + moved);
+    }
+
+    @Test
+    void testSameNodesGiveSameRing() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("shard0", "shard1"), 64);
+        ConsistentHashRing other = new ConsistentHashRing(List.of("shard0", "shard1"), 64);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(ring.nodeFor("member" + i), other.nodeFor("member" + i));
+        }
+    }
+}
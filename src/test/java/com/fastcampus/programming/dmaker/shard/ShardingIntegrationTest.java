@@ -0,0 +1,141 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearchCondition;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearchResultDto;
+import com.fastcampus.programming.dmaker.dto.EditDeveloper;
+import com.fastcampus.programming.dmaker.service.DMakerService;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * application-sharding.yml 의 H2 shard 3 개로 routing / scatter-gather / rebalance 확인
+ */
+@SpringBootTest
+@ActiveProfiles("sharding")
+class ShardingIntegrationTest {
+
+    @Autowired
+    private DMakerService dMakerService;
+
+    @Autowired
+    private DeveloperShards developerShards;
+
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testPointWritesGoToOwnerShardAndReadsMergeAcrossShards() {
+        Set<String> usedShards = new HashSet<>();
+        for (int i = 0; i < 30; i++) {
+            String memberId = "routing" + i;
+            dMakerService.createDeveloper(request(memberId));
+
+            String owner = developerShards.shardOf(memberId);
+            usedShards.add(owner);
+            for (String shard : developerShards.names()) {
+                assertEquals(shard.equals(owner) ? 1 : 0, count(shard, memberId), memberId + " on " + shard);
+            }
+        }
+        assertEquals(3, usedShards.size());
+
+        // 단건 수정은 owner shard 에서 실행
+        EditDeveloper.Request edit = EditDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.JUNGIOR)
+                .developerSkillType(DeveloperSkillType.FULL_STACK)
+                .experienceYears(6)
+                .build();
+        assertEquals(6, dMakerService.editDeveloper(edit, "routing7", null).getExperienceYears());
+
+        // 목록은 shard 별 결과를 id 순으로 합친 keyset 페이지
+        List<Long> ids = new ArrayList<>();
+        Long cursor = null;
+        do {
+            DeveloperPageDto page = dMakerService.getAllEmployedDevelopers(cursor, 7);
+            page.getDevelopers().stream().map(DeveloperDto::getId).forEach(ids::add);
+            cursor = page.getNext();
+        } while (cursor != null);
+        assertTrue(ids.size() >= 30);
+        assertEquals(ids.stream().sorted().distinct().toList(), ids);
+
+        // 검색은 (정렬 기준, id) 순으로 합침
+        List<String> memberIds = new ArrayList<>();
+        String next = null;
+        do {
+            DeveloperSearchResultDto result = dMakerService.searchDevelopers(DeveloperSearchCondition.builder()
+                    .namePrefix("routing")
+                    .sort(DeveloperSearchCondition.SortField.MEMBER_ID)
+                    .direction(Sort.Direction.DESC)
+                    .size(4)
+                    .cursor(next)
+                    .build());
+            result.getDevelopers().stream().map(DeveloperDto::getMemberId).forEach(memberIds::add);
+            next = result.getNext();
+        } while (next != null);
+        assertEquals(30, memberIds.size());
+        assertEquals(memberIds.stream().sorted(Comparator.reverseOrder()).toList(), memberIds);
+    }
+
+    @Test
+    void testRebalanceMovesMisplacedDevelopers() {
+        String memberId = "misplaced1";
+        String owner = developerShards.shardOf(memberId);
+        String wrong = developerShards.names().stream().filter(shard -> !shard.equals(owner)).findFirst().orElseThrow();
+
+        // shard 구성이 바뀐 것처럼 owner 가 아닌 shard 에 직접 저장
+        LocalDateTime now = LocalDateTime.now();
+        developerShards.run(wrong, () -> jdbcTemplate.update(
+                "insert into developer (id, developer_level, developer_skill_type, experience_years, member_id, "
+                        + "name, age, status_code, version, created_at, updated_at) "
+                        + "values (?, 'SENIOR', 'BACK_END', 12, ?, 'misplaced', 40, 'EMPLOYED', 0, ?, ?)",
+                3 * ShardSchemaInitializer.SEQUENCE_RANGE + 1, memberId, now, now));
+        assertTrue(shardRebalancer.status().get(wrong).misplaced() >= 1);
+
+        shardRebalancer.rebalance();
+
+        assertEquals(0, count(wrong, memberId));
+        assertEquals(1, count(owner, memberId));
+        shardRebalancer.status().values().forEach(status -> assertEquals(0, status.misplaced()));
+        assertEquals("misplaced", dMakerService.getDeveloperDetail(memberId).getName());
+
+        // 다시 실행해도 변화 없음
+        shardRebalancer.rebalance().values().forEach(moved -> assertEquals(0, moved));
+    }
+
+    private long count(String shard, String memberId) {
+        Long count = developerShards.on(shard, () -> jdbcTemplate.queryForObject(
+                "select count(*) from developer where member_id = ?", Long.class, memberId));
+        return count == null ? 0 : count;
+    }
+
+    private static CreateDeveloper.Request request(String memberId) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name(memberId)
+                .age(40)
+                .build();
+    }
+}